@@ -0,0 +1,110 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCommentLevel;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNumberWriter;
+
+/**
+ * Holds the state that capturing and writing have in common: the options, the comment levels, the number writer and
+ * scratch svg node properties that are reused for every node. This class does not reference any JavaFx classes, so
+ * that snapshots can be written in a process without JavaFx toolkit.
+ */
+public abstract class AbstractSvgContext {
+
+	//#region ATTRIBUTES
+
+	private final SvgExportOptions options;
+
+	private final boolean isWarningCommentEnabled;
+
+	private final boolean isVerboseCommentEnabled;
+
+	/**
+	 * Scratch properties that are reset and reused for each node
+	 */
+	private final SvgNodeProperties properties = new SvgNodeProperties();
+
+	/**
+	 * Writes the numbers of this export
+	 */
+	private final SvgNumberWriter numberWriter;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param options
+	 */
+	protected AbstractSvgContext(SvgExportOptions options) {
+		this.options = Objects.requireNonNull(options, "Options must not be null.");
+		SvgCommentLevel commentLevel = options.getCommentLevel();
+		this.isWarningCommentEnabled = commentLevel.compareTo(SvgCommentLevel.WARNINGS) >= 0;
+		this.isVerboseCommentEnabled = commentLevel.compareTo(SvgCommentLevel.VERBOSE) >= 0;
+		this.numberWriter = new SvgNumberWriter(options.getMaximumFractionDigits());
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Resets the scratch svg node properties and returns them
+	 *
+	 * @return
+	 */
+	public SvgNodeProperties resetProperties() {
+		properties.reset();
+		return properties;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public SvgExportOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgNodeProperties getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgNumberWriter getNumberWriter() {
+		return numberWriter;
+	}
+
+	/**
+	 * Returns true if warnings should be written as svg comments
+	 *
+	 * @return
+	 */
+	public boolean isWarningCommentEnabled() {
+		return isWarningCommentEnabled;
+	}
+
+	/**
+	 * Returns true if the descriptive comments for each node should be written. If this is false, the converters must
+	 * not even create the comment strings.
+	 *
+	 * @return
+	 */
+	public boolean isVerboseCommentEnabled() {
+		return isVerboseCommentEnabled;
+	}
+
+	//#end region
+
+}
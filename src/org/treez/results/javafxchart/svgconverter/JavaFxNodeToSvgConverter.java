@@ -1,7 +1,19 @@
 package org.treez.results.javafxchart.svgconverter;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
 import org.apache.log4j.Logger;
 import org.treez.results.javafxchart.svgconverter.converters.NodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCompression;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.ByteChannelAppendable;
+import org.treez.results.javafxchart.svgconverter.writer.GzipByteChannel;
 
 import javafx.scene.Node;
 
@@ -35,35 +47,236 @@ public final class JavaFxNodeToSvgConverter {
 	 * @return
 	 */
 	public static String nodeToSvg(Node node) {
+		return nodeToSvg(node, new SvgCaptureOptions());
+	}
 
-		String svgString = createSvgHeader();
+	/**
+	 * Converts a JavaFx Node to an SVG String, using the given options
+	 *
+	 * @param node
+	 * @param options
+	 * @return
+	 */
+	public static String nodeToSvg(Node node, SvgCaptureOptions options) {
+		StringBuilder svgBuilder = new StringBuilder();
+		try {
+			nodeToSvg(node, svgBuilder, options);
+		} catch (IOException exception) {
+			//a StringBuilder does not throw IOExceptions
+			throw new IllegalStateException("Could not create SVG string", exception);
+		}
+		return svgBuilder.toString();
+	}
 
-		NodeToSvgConverter nodeConverter = new NodeToSvgConverter();
-		String initialIndentation = "    ";
-		nodeConverter.setIndentation(initialIndentation);
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it to the given output. The code is streamed to the output while
+	 * the captured snapshot is traversed; it is not collected as a whole before it is written.
+	 *
+	 * @param node
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Appendable out) throws IOException {
+		nodeToSvg(node, out, new SvgCaptureOptions());
+	}
+
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it to the given output, using the given options
+	 *
+	 * @param node
+	 * @param out
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Appendable out, SvgCaptureOptions options) throws IOException {
+		SvgSnapshot snapshot = captureSnapshot(node, options);
+		snapshotToSvg(snapshot, out);
+	}
+
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given file. An existing file is overwritten.
+	 *
+	 * @param node
+	 * @param filePath
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Path filePath) throws IOException {
+		nodeToSvg(node, filePath, new SvgCaptureOptions());
+	}
+
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given file, using the given options. An
+	 * existing file is overwritten.
+	 *
+	 * @param node
+	 * @param filePath
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Path filePath, SvgCaptureOptions options) throws IOException {
+		nodeToSvg(node, filePath, options, SvgCompression.NONE);
+	}
+
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given file with the given compression, e.g.
+	 * GZIP for an svgz file. An existing file is overwritten.
+	 *
+	 * @param node
+	 * @param filePath
+	 * @param compression
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Path filePath, SvgCompression compression) throws IOException {
+		nodeToSvg(node, filePath, new SvgCaptureOptions(), compression);
+	}
+
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given file, using the given options and
+	 * compression. The encoded bytes are passed to the deflater block by block; the uncompressed code never exists as a
+	 * whole. An existing file is overwritten.
+	 *
+	 * @param node
+	 * @param filePath
+	 * @param options
+	 * @param compression
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, Path filePath, SvgCaptureOptions options, SvgCompression compression)
+			throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				WritableByteChannel channel = GzipByteChannel.createChannel(fileChannel, compression)) {
+			nodeToSvg(node, channel, options);
+		}
+	}
 
-		svgString = nodeConverter.extendCode(svgString, node);
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given channel. The code is encoded directly into
+	 * a reusable byte buffer that is drained to the channel whenever it is full. The channel is not closed.
+	 *
+	 * @param node
+	 * @param channel
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, WritableByteChannel channel) throws IOException {
+		nodeToSvg(node, channel, new SvgCaptureOptions());
+	}
 
-		String endString = "</svg>";
-		svgString = svgString + endString;
+	/**
+	 * Converts a JavaFx Node to SVG code and writes it as UTF-8 to the given channel, using the given options. The
+	 * channel is not closed.
+	 *
+	 * @param node
+	 * @param channel
+	 * @param options
+	 * @throws IOException
+	 */
+	public static void nodeToSvg(Node node, WritableByteChannel channel, SvgCaptureOptions options)
+			throws IOException {
+		try (ByteChannelAppendable out = new ByteChannelAppendable(channel)) {
+			nodeToSvg(node, out, options);
+		}
+	}
 
-		return svgString;
+	/**
+	 * Captures an immutable snapshot of the given JavaFx Node (and its children). If the node is part of a shown scene,
+	 * this has to be called on the JavaFx Application Thread. The snapshot can then be written with the methods
+	 * snapshotToSvg on any thread, e.g. to keep the serialization of large scenes off the JavaFx Application Thread.
+	 *
+	 * @param node
+	 * @return
+	 */
+	public static SvgSnapshot captureSnapshot(Node node) {
+		return captureSnapshot(node, new SvgCaptureOptions());
+	}
 
+	/**
+	 * Captures an immutable snapshot of the given JavaFx Node (and its children), using the given options. See
+	 * {@link #captureSnapshot(Node)}.
+	 *
+	 * @param node
+	 * @param options
+	 * @return
+	 */
+	public static SvgSnapshot captureSnapshot(Node node, SvgCaptureOptions options) {
+		Objects.requireNonNull(node, "Node must not be null.");
+		SvgCaptureContext context = new SvgCaptureContext(options);
+		SvgNodeSnapshot rootSnapshot = new NodeToSvgConverter().capture(context, node);
+		return new SvgSnapshot(rootSnapshot, options);
 	}
 
 	/**
-	 * Creates the SVG header
+	 * Writes a captured snapshot as SVG String. This can be called on any thread.
 	 *
+	 * @param snapshot
 	 * @return
 	 */
-	private static String createSvgHeader() {
+	public static String snapshotToSvg(SvgSnapshot snapshot) {
+		StringBuilder svgBuilder = new StringBuilder();
+		try {
+			snapshotToSvg(snapshot, svgBuilder);
+		} catch (IOException exception) {
+			//a StringBuilder does not throw IOExceptions
+			throw new IllegalStateException("Could not create SVG string", exception);
+		}
+		return svgBuilder.toString();
+	}
+
+	/**
+	 * Writes a captured snapshot as SVG code to the given output. This can be called on any thread.
+	 *
+	 * @param snapshot
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void snapshotToSvg(SvgSnapshot snapshot, Appendable out) throws IOException {
+		Objects.requireNonNull(snapshot, "Snapshot must not be null.");
+		snapshot.write(out);
+	}
+
+	/**
+	 * Writes a captured snapshot as UTF-8 SVG code to the given file. An existing file is overwritten. This can be
+	 * called on any thread.
+	 *
+	 * @param snapshot
+	 * @param filePath
+	 * @throws IOException
+	 */
+	public static void snapshotToSvg(SvgSnapshot snapshot, Path filePath) throws IOException {
+		snapshotToSvg(snapshot, filePath, SvgCompression.NONE);
+	}
 
-		String svgHeader = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" + "<svg\n"
-				+ "    xmlns:svg=\"http://www.w3.org/2000/svg\"\n" + "    xmlns=\"http://www.w3.org/2000/svg\"\n"
-				+ ">\n";
-		return svgHeader;
+	/**
+	 * Writes a captured snapshot as UTF-8 SVG code to the given file with the given compression, e.g. GZIP for an svgz
+	 * file. An existing file is overwritten. This can be called on any thread.
+	 *
+	 * @param snapshot
+	 * @param filePath
+	 * @param compression
+	 * @throws IOException
+	 */
+	public static void snapshotToSvg(SvgSnapshot snapshot, Path filePath, SvgCompression compression)
+			throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				WritableByteChannel channel = GzipByteChannel.createChannel(fileChannel, compression)) {
+			snapshotToSvg(snapshot, channel);
+		}
 	}
 
+	/**
+	 * Writes a captured snapshot as UTF-8 SVG code to the given channel. The channel is not closed. This can be called
+	 * on any thread.
+	 *
+	 * @param snapshot
+	 * @param channel
+	 * @throws IOException
+	 */
+	public static void snapshotToSvg(SvgSnapshot snapshot, WritableByteChannel channel) throws IOException {
+		try (ByteChannelAppendable out = new ByteChannelAppendable(channel)) {
+			snapshotToSvg(snapshot, out);
+		}
+	}
 
 	//#end region
 
@@ -0,0 +1,228 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import org.treez.results.javafxchart.svgconverter.converters.JavaFxColorWriter;
+import org.treez.results.javafxchart.svgconverter.converters.NodeConverter;
+import org.treez.results.javafxchart.svgconverter.converters.NodeConverterRegistry;
+import org.treez.results.javafxchart.svgconverter.converters.shape.SvgGlyphCache;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextMode;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgEmptySnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathSimplifier;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Region;
+
+/**
+ * Holds the state of capturing a snapshot of a node tree: the common state of {@link AbstractSvgContext}, the color
+ * writer, the path simplifier and the visible area for culling. Capturing reads the live nodes and therefore has to be
+ * done on the JavaFx Application Thread (if the nodes are part of a shown scene); a context must only be used by one
+ * capture at a time.
+ */
+public class SvgCaptureContext extends AbstractSvgContext {
+
+	//#region ATTRIBUTES
+
+	private static final Bounds EMPTY_BOUNDS = new BoundingBox(0, 0, -1, -1);
+
+	/**
+	 * Writes (and memorizes) the color codes of this export
+	 */
+	private final JavaFxColorWriter colorWriter = new JavaFxColorWriter();
+
+	/**
+	 * Simplifies the path data of this capture
+	 */
+	private final SvgPathSimplifier pathSimplifier;
+
+	private final boolean isPruningInvisibleNodes;
+
+	private final SvgTextMode textMode;
+
+	/**
+	 * Caches the outlines of glyphs or null
+	 */
+	private final SvgGlyphCache glyphCache;
+
+	/**
+	 * The exported area in scene coordinates or null if no nodes are culled
+	 */
+	private final Bounds viewport;
+
+	/**
+	 * The visible area in the coordinates of the parent of the node that is captured next; null before the root node
+	 * is captured
+	 */
+	private Bounds visibleBounds;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param options
+	 */
+	public SvgCaptureContext(SvgCaptureOptions options) {
+		super(options);
+		this.pathSimplifier = new SvgPathSimplifier(options.getSimplificationTolerance());
+		this.isPruningInvisibleNodes = options.isPruningInvisibleNodes();
+		this.textMode = options.getTextMode();
+		this.glyphCache = options.getGlyphCache();
+		this.viewport = options.getViewport();
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Captures a snapshot of the given node (and its children) with the converter that is responsible for the node.
+	 * The converters call this method for the child nodes; it might be overridden to reuse snapshots of unchanged
+	 * subtrees.
+	 *
+	 * @param node
+	 * @return
+	 */
+	public SvgNodeSnapshot capture(Node node) {
+		boolean isPruned = isPruningInvisibleNodes && isInvisible(node);
+		if (isPruned) {
+			return SvgEmptySnapshot.INSTANCE;
+		}
+
+		if (viewport == null) {
+			return captureWithConverter(node);
+		}
+
+		//culling: skip the subtree if it is outside of the visible area
+		Bounds parentVisibleBounds = visibleBounds;
+		if (parentVisibleBounds == null) {
+			parentVisibleBounds = viewportToParent(node);
+		}
+		boolean isVisible = node.getBoundsInParent().intersects(parentVisibleBounds);
+		if (!isVisible) {
+			return SvgEmptySnapshot.INSTANCE;
+		}
+
+		Bounds previousVisibleBounds = visibleBounds;
+		visibleBounds = parentToLocalVisibleBounds(node, parentVisibleBounds);
+		try {
+			return captureWithConverter(node);
+		} finally {
+			visibleBounds = previousVisibleBounds;
+		}
+	}
+
+	private SvgNodeSnapshot captureWithConverter(Node node) {
+		NodeConverter<Node> converter = NodeConverterRegistry.getConverter(node);
+		return converter.capture(this, node);
+	}
+
+	/**
+	 * Returns true if the given node (and its subtree) can not be seen: it is not visible, fully transparent or a
+	 * Region without area (including its children)
+	 *
+	 * @param node
+	 * @return
+	 */
+	private static boolean isInvisible(Node node) {
+		if (!node.isVisible() || node.getOpacity() == 0) {
+			return true;
+		}
+		boolean isRegion = node instanceof Region;
+		if (isRegion) {
+			Bounds bounds = node.getBoundsInParent();
+			return bounds.getWidth() <= 0 || bounds.getHeight() <= 0;
+		}
+		return false;
+	}
+
+	/**
+	 * Transforms the viewport to the coordinates of the parent of the given (root) node
+	 *
+	 * @param node
+	 * @return
+	 */
+	private Bounds viewportToParent(Node node) {
+		Parent parent = node.getParent();
+		if (parent == null) {
+			return viewport;
+		}
+		return toNonNullBounds(parent.sceneToLocal(viewport));
+	}
+
+	/**
+	 * Transforms the given visible area from the coordinates of the parent of the given node to the local coordinates
+	 * of the node and restricts it to the clip of the node
+	 *
+	 * @param node
+	 * @param parentVisibleBounds
+	 * @return
+	 */
+	private static Bounds parentToLocalVisibleBounds(Node node, Bounds parentVisibleBounds) {
+		Bounds localVisibleBounds = toNonNullBounds(node.parentToLocal(parentVisibleBounds));
+		Node clip = node.getClip();
+		if (clip == null) {
+			return localVisibleBounds;
+		}
+		//the clip is defined in the local coordinates of the node
+		Bounds clipBounds = clip.getBoundsInParent();
+		if (!localVisibleBounds.intersects(clipBounds)) {
+			return EMPTY_BOUNDS;
+		}
+		double minX = Math.max(localVisibleBounds.getMinX(), clipBounds.getMinX());
+		double minY = Math.max(localVisibleBounds.getMinY(), clipBounds.getMinY());
+		double maxX = Math.min(localVisibleBounds.getMaxX(), clipBounds.getMaxX());
+		double maxY = Math.min(localVisibleBounds.getMaxY(), clipBounds.getMaxY());
+		return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	/**
+	 * The transformation of bounds returns null for transforms that can not be inverted (e.g. a scale of 0); nothing
+	 * is visible then
+	 */
+	private static Bounds toNonNullBounds(Bounds bounds) {
+		if (bounds == null) {
+			return EMPTY_BOUNDS;
+		}
+		return bounds;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public JavaFxColorWriter getColorWriter() {
+		return colorWriter;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgTextMode getTextMode() {
+		return textMode;
+	}
+
+	/**
+	 * @return the glyph cache or null
+	 */
+	public SvgGlyphCache getGlyphCache() {
+		return glyphCache;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgPathSimplifier getPathSimplifier() {
+		return pathSimplifier;
+	}
+
+	//#end region
+
+}
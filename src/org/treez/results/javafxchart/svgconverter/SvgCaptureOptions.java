@@ -0,0 +1,156 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.converters.shape.SvgGlyphCache;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextMode;
+
+import javafx.geometry.Bounds;
+
+/**
+ * Options for capturing a node tree (and writing its snapshot): the options of SvgExportOptions and the options that
+ * are only used while the nodes are captured on the JavaFx Application Thread (e.g. the text mode, the viewport and
+ * the glyph cache). The capture options are not carried by the captured SvgSnapshot, so that snapshots can be written
+ * without JavaFx.
+ */
+public class SvgCaptureOptions extends SvgExportOptions {
+
+	//#region ATTRIBUTES
+
+	private SvgTextMode textMode = SvgTextMode.OUTLINES;
+
+	/**
+	 * The maximum distance of the points that are removed by simplifying the lines of paths; 0 disables the
+	 * simplification
+	 */
+	private double simplificationTolerance;
+
+	/**
+	 * If true, invisible subtrees are skipped
+	 */
+	private boolean isPruningInvisibleNodes;
+
+	/**
+	 * The exported area in scene coordinates; null if all nodes are exported
+	 */
+	private Bounds viewport;
+
+	/**
+	 * Caches the outlines of glyphs for the text mode OUTLINES; null if the outlines of each text are created
+	 */
+	private SvgGlyphCache glyphCache;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgCaptureOptions() {}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public SvgTextMode getTextMode() {
+		return textMode;
+	}
+
+	/**
+	 * Sets how Text nodes are captured. The mode TEXT writes a text element with the font and fill of the node instead
+	 * of the outlines of the glyphs, which avoids the expensive geometric operations that create the outlines and
+	 * results in much smaller documents (e.g. for charts with many tick labels). The default OUTLINES writes paths.
+	 *
+	 * @param textMode
+	 */
+	public void setTextMode(SvgTextMode textMode) {
+		this.textMode = Objects.requireNonNull(textMode, "Text mode must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public double getSimplificationTolerance() {
+		return simplificationTolerance;
+	}
+
+	/**
+	 * Sets the tolerance for simplifying the straight lines of paths, polylines and polygons when they are captured
+	 * (in the units of the shape coordinates, e.g. 0.5 for half a pixel of an unscaled chart). Points that are at most
+	 * the tolerance away from the simplified lines are removed. Curves and arcs are not simplified. The default 0
+	 * keeps all points.
+	 *
+	 * @param simplificationTolerance
+	 */
+	public void setSimplificationTolerance(double simplificationTolerance) {
+		boolean isValid = simplificationTolerance >= 0 && !Double.isInfinite(simplificationTolerance);
+		if (!isValid) {
+			String message = "The simplification tolerance must be a finite value >= 0 but is "
+					+ simplificationTolerance + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.simplificationTolerance = simplificationTolerance;
+	}
+
+	/**
+	 * @return
+	 */
+	public boolean isPruningInvisibleNodes() {
+		return isPruningInvisibleNodes;
+	}
+
+	/**
+	 * If set to true, nodes that can not be seen (nodes that are not visible, nodes with an opacity of 0 and Regions
+	 * without area) are skipped with their whole subtree while capturing, before any of their properties are read. The
+	 * default false exports such nodes with a hidden visibility or an opacity of 0.
+	 *
+	 * @param isPruningInvisibleNodes
+	 */
+	public void setPruningInvisibleNodes(boolean isPruningInvisibleNodes) {
+		this.isPruningInvisibleNodes = isPruningInvisibleNodes;
+	}
+
+	/**
+	 * @return the exported area in scene coordinates or null
+	 */
+	public Bounds getViewport() {
+		return viewport;
+	}
+
+	/**
+	 * Sets the exported area in scene coordinates (e.g. the visible part of a zoomed chart). Subtrees whose bounds do
+	 * not intersect the viewport or the clips of their ancestors (e.g. nodes that are scrolled out of a ScrollPane)
+	 * are skipped while capturing, so that the capture time depends on the visible nodes only. The nodes that
+	 * intersect the viewport are exported completely. The default null exports all nodes.
+	 *
+	 * @param viewport
+	 */
+	public void setViewport(Bounds viewport) {
+		this.viewport = viewport;
+	}
+
+	/**
+	 * @return the glyph cache or null
+	 */
+	public SvgGlyphCache getGlyphCache() {
+		return glyphCache;
+	}
+
+	/**
+	 * Sets a cache for the outlines of glyphs that is used to write Text nodes as paths (text mode OUTLINES). Each
+	 * glyph is only outlined once, which is much faster for many texts with the same font (e.g. tick labels) but
+	 * ignores kerning. The same cache can be used for many exports. The default null outlines each text as a whole.
+	 *
+	 * @param glyphCache
+	 */
+	public void setGlyphCache(SvgGlyphCache glyphCache) {
+		this.glyphCache = glyphCache;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,434 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgGeometryMode;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgOutputFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgPathDataFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStyleMode;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+import org.treez.results.javafxchart.svgconverter.writer.AbstractSvgDefinitionTable;
+import org.treez.results.javafxchart.svgconverter.writer.SvgCompactPathDataWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgDefinitionReferences;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGeometryTable;
+import org.treez.results.javafxchart.svgconverter.writer.SvgStyleTable;
+
+/**
+ * Holds the state of writing svg code: the output, the options, the current depth (indentation) and scratch svg node
+ * properties that are reused for every node. The node writers and snapshots themselves are stateless and can be
+ * shared between threads; a context must only be used by one thread at a time. Writing a snapshot does not access any
+ * JavaFx nodes and can be done on any thread, even in a process without JavaFx toolkit.
+ */
+public class SvgExportContext extends AbstractSvgContext {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The string that is added to the indentation for each depth level
+	 */
+	private static final String INDENTATION_STEP = "    ";
+
+	/**
+	 * The number of indentation strings that are created in advance
+	 */
+	private static final int INITIAL_INDENTATION_DEPTH = 32;
+
+	/**
+	 * Precomputed indentation strings, indexed by depth. If a deeper level is requested, the table is replaced by a
+	 * larger copy (see growIndentationTable), so that each indentation string is only created once.
+	 */
+	private static volatile String[] indentationTable = createIndentationTable(INITIAL_INDENTATION_DEPTH);
+
+	private static final String LINE_BREAK = "\n";
+
+	private static final String SECTION_BREAK = "\n\n";
+
+	private static final String ATTRIBUTE_PADDING = " ";
+
+	/**
+	 * The output the svg code is written to
+	 */
+	private final Appendable out;
+
+	private final boolean isPretty;
+
+	private final String lineBreak;
+
+	private final String sectionBreak;
+
+	private final String attributePadding;
+
+	/**
+	 * Collects the css classes of the styles; null if the styles are written inline
+	 */
+	private final SvgStyleTable styleTable;
+
+	/**
+	 * Collects the shared path geometries; null if the geometries are written inline
+	 */
+	private final SvgGeometryTable geometryTable;
+
+	/**
+	 * Writes compact path data; null if the path data is written in the readable format
+	 */
+	private final SvgCompactPathDataWriter compactPathDataWriter;
+
+	/**
+	 * The current depth; the indentation consists of one indentation step per depth level
+	 */
+	private int depth;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor with default options
+	 *
+	 * @param out
+	 * @param initialDepth
+	 */
+	public SvgExportContext(Appendable out, int initialDepth) {
+		this(out, initialDepth, new SvgExportOptions());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param out
+	 * @param initialDepth
+	 * @param options
+	 */
+	public SvgExportContext(Appendable out, int initialDepth, SvgExportOptions options) {
+		this(out, initialDepth, options, createStyleTable(options), createGeometryTable(options));
+	}
+
+	/**
+	 * Constructor for writing a part of a document: the css classes are collected in the given style table (that has
+	 * to be null if the styles are written inline) and the shared geometries are collected in the given geometry
+	 * table (that has to be null if the geometries are written inline)
+	 *
+	 * @param out
+	 * @param initialDepth
+	 * @param options
+	 * @param styleTable
+	 * @param geometryTable
+	 */
+	public SvgExportContext(
+			Appendable out,
+			int initialDepth,
+			SvgExportOptions options,
+			SvgStyleTable styleTable,
+			SvgGeometryTable geometryTable) {
+		super(options);
+		boolean isClassMode = options.getStyleMode().equals(SvgStyleMode.CLASSES);
+		if (isClassMode && styleTable == null) {
+			throw new IllegalArgumentException("A style table is required for the style mode CLASSES.");
+		}
+		boolean isSharedGeometryMode = options.getGeometryMode().equals(SvgGeometryMode.SHARED);
+		if (isSharedGeometryMode && geometryTable == null) {
+			throw new IllegalArgumentException("A geometry table is required for the geometry mode SHARED.");
+		}
+		this.styleTable = styleTable;
+		this.geometryTable = geometryTable;
+		boolean isCompactPathData = options.getPathDataFormat().equals(SvgPathDataFormat.COMPACT);
+		if (isCompactPathData) {
+			compactPathDataWriter = new SvgCompactPathDataWriter(getNumberWriter());
+		} else {
+			compactPathDataWriter = null;
+		}
+		this.out = Objects.requireNonNull(out, "Output must not be null.");
+		this.isPretty = options.getOutputFormat().equals(SvgOutputFormat.PRETTY);
+		if (isPretty) {
+			lineBreak = LINE_BREAK;
+			sectionBreak = SECTION_BREAK;
+			attributePadding = ATTRIBUTE_PADDING;
+		} else {
+			lineBreak = "";
+			sectionBreak = "";
+			attributePadding = "";
+		}
+		setDepth(initialDepth);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Increases the depth (and the indentation)
+	 */
+	public void increaseDepth() {
+		depth++;
+	}
+
+	/**
+	 * Decreases the depth (and the indentation)
+	 */
+	public void decreaseDepth() {
+		if (depth == 0) {
+			throw new IllegalStateException("The depth must not be decreased below zero.");
+		}
+		depth--;
+	}
+
+	/**
+	 * Writes the given path data to the given output in the format of the options, shifted by the negative of the
+	 * given offset (see SvgPathData.write)
+	 *
+	 * @param target
+	 * @param pathData
+	 * @param offsetX
+	 * @param offsetY
+	 */
+	public void writePathData(StringBuilder target, SvgPathData pathData, double offsetX, double offsetY) {
+		if (compactPathDataWriter == null) {
+			pathData.write(target, getNumberWriter(), offsetX, offsetY);
+		} else {
+			compactPathDataWriter.write(target, pathData, offsetX, offsetY);
+		}
+	}
+
+	/**
+	 * Appends the code of a fragment (e.g. a cached subtree) that has been written with its own style and geometry
+	 * tables. The references of the fragment to its css classes and geometries are remapped to the definitions of this
+	 * context.
+	 *
+	 * @param code
+	 * @param fragmentStyleTable
+	 *            the style table of the fragment or null if its styles are written inline
+	 * @param fragmentGeometryTable
+	 *            the geometry table of the fragment or null if its geometries are written inline
+	 * @throws IOException
+	 */
+	public void appendFragment(
+			CharSequence code,
+			SvgStyleTable fragmentStyleTable,
+			SvgGeometryTable fragmentGeometryTable) throws IOException {
+		boolean hasReferences = fragmentStyleTable != null || fragmentGeometryTable != null;
+		if (!hasReferences) {
+			out.append(code);
+			return;
+		}
+		if (fragmentGeometryTable != null) {
+			geometryTable.reserveNames(fragmentGeometryTable);
+		}
+		SvgDefinitionReferences.resolve(out, code, (prefix, index) -> {
+			if (fragmentStyleTable != null && prefix == SvgStyleTable.PREFIX) {
+				return remapReference(styleTable, fragmentStyleTable.getDefinition(index));
+			}
+			if (fragmentGeometryTable != null && prefix == SvgGeometryTable.PREFIX) {
+				return remapReference(geometryTable, fragmentGeometryTable.getDefinition(index));
+			}
+			return null;
+		});
+	}
+
+	private static String remapReference(AbstractSvgDefinitionTable definitionTable, String definition) {
+		if (definition == null) {
+			return null;
+		}
+		return definitionTable.reference(definition);
+	}
+
+	/**
+	 * Writes the style and defs elements, using the current depth, and the given content that has been written with
+	 * this context to the given target. The names of the css classes and geometries are assigned in the order of their
+	 * first reference in the content and the references are replaced by the names.
+	 *
+	 * @param target
+	 * @param content
+	 * @throws IOException
+	 */
+	public void writeDefinitionsAndContent(Appendable target, CharSequence content) throws IOException {
+		SvgDefinitionReferences.resolve(null, content, this::resolveName);
+		writeStyleElement(target);
+		writeDefsElement(target);
+		SvgDefinitionReferences.resolve(target, content, this::resolveName);
+	}
+
+	private String resolveName(char prefix, int index) {
+		if (styleTable != null && prefix == SvgStyleTable.PREFIX) {
+			return styleTable.getName(index);
+		}
+		if (geometryTable != null && prefix == SvgGeometryTable.PREFIX) {
+			return geometryTable.getName(index);
+		}
+		return null;
+	}
+
+	/**
+	 * Writes the style element with the named css classes to the given target, using the current depth. Nothing is
+	 * written if the styles are written inline.
+	 *
+	 * @param target
+	 * @throws IOException
+	 */
+	public void writeStyleElement(Appendable target) throws IOException {
+		if (styleTable == null) {
+			return;
+		}
+		String indentationStep = "";
+		if (isPretty) {
+			indentationStep = INDENTATION_STEP;
+		}
+		styleTable.writeStyleElement(target, getIndentation(), indentationStep, lineBreak);
+	}
+
+	/**
+	 * Writes the defs element with the collected geometries to the given target, using the current depth. Nothing is
+	 * written if the geometries are written inline.
+	 *
+	 * @param target
+	 * @throws IOException
+	 */
+	public void writeDefsElement(Appendable target) throws IOException {
+		if (geometryTable == null) {
+			return;
+		}
+		String indentationStep = "";
+		if (isPretty) {
+			indentationStep = INDENTATION_STEP;
+		}
+		geometryTable.writeDefsElement(target, getIndentation(), indentationStep, lineBreak);
+	}
+
+	private static SvgGeometryTable createGeometryTable(SvgExportOptions options) {
+		boolean isSharedGeometryMode = options.getGeometryMode().equals(SvgGeometryMode.SHARED);
+		if (isSharedGeometryMode) {
+			return new SvgGeometryTable();
+		}
+		return null;
+	}
+
+	private static SvgStyleTable createStyleTable(SvgExportOptions options) {
+		boolean isClassMode = options.getStyleMode().equals(SvgStyleMode.CLASSES);
+		if (isClassMode) {
+			return new SvgStyleTable();
+		}
+		return null;
+	}
+
+	private static String[] createIndentationTable(int size) {
+		String[] initialTable = new String[size];
+		StringBuilder indentationBuilder = new StringBuilder();
+		for (int level = 0; level < size; level++) {
+			initialTable[level] = indentationBuilder.toString();
+			indentationBuilder.append(INDENTATION_STEP);
+		}
+		return initialTable;
+	}
+
+	/**
+	 * Replaces the indentation table by a copy that contains the given depth (at least twice as large as before)
+	 *
+	 * @param depth
+	 * @return the indentation table that contains the given depth
+	 */
+	private static synchronized String[] growIndentationTable(int depth) {
+		String[] currentTable = indentationTable;
+		if (depth < currentTable.length) {
+			//grown by another thread
+			return currentTable;
+		}
+		int size = Math.max(depth + 1, 2 * currentTable.length);
+		String[] grownTable = Arrays.copyOf(currentTable, size);
+		for (int level = currentTable.length; level < size; level++) {
+			grownTable[level] = grownTable[level - 1] + INDENTATION_STEP;
+		}
+		indentationTable = grownTable;
+		return grownTable;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public Appendable getOut() {
+		return out;
+	}
+
+	/**
+	 * @return the table that collects the css classes or null if the styles are written inline
+	 */
+	public SvgStyleTable getStyleTable() {
+		return styleTable;
+	}
+
+	/**
+	 * @return the table that collects the shared geometries or null if the geometries are written inline
+	 */
+	public SvgGeometryTable getGeometryTable() {
+		return geometryTable;
+	}
+
+	/**
+	 * @return
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @param depth
+	 */
+	public void setDepth(int depth) {
+		if (depth < 0) {
+			throw new IllegalArgumentException("The depth must not be negative.");
+		}
+		this.depth = depth;
+	}
+
+	/**
+	 * Returns the indentation for the current depth. The indentation is a string consisting of spaces. It is used as
+	 * prefix for lines to make the code easier to read. For minified output the indentation is empty.
+	 *
+	 * @return
+	 */
+	public String getIndentation() {
+		if (!isPretty) {
+			return "";
+		}
+		String[] currentTable = indentationTable;
+		if (depth >= currentTable.length) {
+			currentTable = growIndentationTable(depth);
+		}
+		return currentTable[depth];
+	}
+
+	/**
+	 * Returns the string that ends a line (empty for minified output)
+	 *
+	 * @return
+	 */
+	public String getLineBreak() {
+		return lineBreak;
+	}
+
+	/**
+	 * Returns the string that ends a line and adds an empty line to separate sections (empty for minified output)
+	 *
+	 * @return
+	 */
+	public String getSectionBreak() {
+		return sectionBreak;
+	}
+
+	/**
+	 * Returns the additional space that is written after some attributes and transform functions to make the code
+	 * easier to read (empty for minified output)
+	 *
+	 * @return
+	 */
+	public String getAttributePadding() {
+		return attributePadding;
+	}
+
+	//#end region
+
+}
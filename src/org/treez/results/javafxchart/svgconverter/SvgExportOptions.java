@@ -0,0 +1,205 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCommentLevel;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgGeometryMode;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgOutputFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgPathDataFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStyleMode;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgFragmentCache;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNumberWriter;
+
+/**
+ * Options for the svg export. The default options create pretty printed svg code with verbose comments. These options
+ * are carried by a captured SvgSnapshot and do not reference any JavaFx classes; the options that are only used while
+ * the nodes are captured are defined by SvgCaptureOptions.
+ */
+public class SvgExportOptions {
+
+	//#region ATTRIBUTES
+
+	private SvgOutputFormat outputFormat = SvgOutputFormat.PRETTY;
+
+	private SvgCommentLevel commentLevel = SvgCommentLevel.VERBOSE;
+
+	private SvgStyleMode styleMode = SvgStyleMode.INLINE;
+
+	private SvgGeometryMode geometryMode = SvgGeometryMode.INLINE;
+
+	private SvgPathDataFormat pathDataFormat = SvgPathDataFormat.READABLE;
+
+	/**
+	 * The maximum number of fraction digits of coordinates and other numbers
+	 */
+	private int maximumFractionDigits = SvgNumberWriter.DEFAULT_MAXIMUM_FRACTION_DIGITS;
+
+	/**
+	 * The minimum number of nodes of a child subtree for writing it in parallel to its siblings; 0 writes all
+	 * subtrees sequentially
+	 */
+	private int parallelSubtreeThreshold;
+
+	/**
+	 * Caches the svg code of identical subtrees; null if no cache is used
+	 */
+	private SvgFragmentCache fragmentCache;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgExportOptions() {}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public SvgOutputFormat getOutputFormat() {
+		return outputFormat;
+	}
+
+	/**
+	 * @param outputFormat
+	 */
+	public void setOutputFormat(SvgOutputFormat outputFormat) {
+		this.outputFormat = Objects.requireNonNull(outputFormat, "Output format must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgCommentLevel getCommentLevel() {
+		return commentLevel;
+	}
+
+	/**
+	 * @param commentLevel
+	 */
+	public void setCommentLevel(SvgCommentLevel commentLevel) {
+		this.commentLevel = Objects.requireNonNull(commentLevel, "Comment level must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgStyleMode getStyleMode() {
+		return styleMode;
+	}
+
+	/**
+	 * Sets how the styles are written. The mode CLASSES writes each distinct style once as css class in a style
+	 * element at the start of the document. Since the classes are only known after the document has been written, the
+	 * svg code is then collected in memory before it is written to the output.
+	 *
+	 * @param styleMode
+	 */
+	public void setStyleMode(SvgStyleMode styleMode) {
+		this.styleMode = Objects.requireNonNull(styleMode, "Style mode must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgGeometryMode getGeometryMode() {
+		return geometryMode;
+	}
+
+	/**
+	 * Sets how the path geometries are written. The mode SHARED writes each distinct path geometry (relative to its
+	 * start point) once in a defs element at the start of the document and references it with use elements, which
+	 * shrinks documents with many identical symbols (e.g. the data points of charts). The svg code is then collected
+	 * in memory before it is written to the output.
+	 *
+	 * @param geometryMode
+	 */
+	public void setGeometryMode(SvgGeometryMode geometryMode) {
+		this.geometryMode = Objects.requireNonNull(geometryMode, "Geometry mode must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgPathDataFormat getPathDataFormat() {
+		return pathDataFormat;
+	}
+
+	/**
+	 * Sets how the path data is written. The format COMPACT uses relative or absolute commands per segment (whichever
+	 * is shorter), horizontal and vertical lines and omits repeated command letters, leading zeros and needless
+	 * separators. The rounding of the coordinates is the same as for the format READABLE.
+	 *
+	 * @param pathDataFormat
+	 */
+	public void setPathDataFormat(SvgPathDataFormat pathDataFormat) {
+		this.pathDataFormat = Objects.requireNonNull(pathDataFormat, "Path data format must not be null.");
+	}
+
+	/**
+	 * @return
+	 */
+	public int getMaximumFractionDigits() {
+		return maximumFractionDigits;
+	}
+
+	/**
+	 * @param maximumFractionDigits
+	 */
+	public void setMaximumFractionDigits(int maximumFractionDigits) {
+		if (maximumFractionDigits < 0 || maximumFractionDigits > SvgNumberWriter.MAX_FRACTION_DIGITS) {
+			String message = "The maximum number of fraction digits must be in the range 0.."
+					+ SvgNumberWriter.MAX_FRACTION_DIGITS + " but is " + maximumFractionDigits + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.maximumFractionDigits = maximumFractionDigits;
+	}
+
+	/**
+	 * @return
+	 */
+	public int getParallelSubtreeThreshold() {
+		return parallelSubtreeThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of nodes a child subtree must have to be written in parallel to its siblings. Such
+	 * subtrees are written to separate buffers by the common fork join pool and the buffers are appended in document
+	 * order. Smaller subtrees are written sequentially. The default 0 writes all subtrees sequentially.
+	 *
+	 * @param parallelSubtreeThreshold
+	 */
+	public void setParallelSubtreeThreshold(int parallelSubtreeThreshold) {
+		if (parallelSubtreeThreshold < 0) {
+			String message = "The parallel subtree threshold must not be negative but is " + parallelSubtreeThreshold
+					+ ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.parallelSubtreeThreshold = parallelSubtreeThreshold;
+	}
+
+	/**
+	 * @return the fragment cache or null
+	 */
+	public SvgFragmentCache getFragmentCache() {
+		return fragmentCache;
+	}
+
+	/**
+	 * Sets a cache for the svg code of identical subtrees. The same cache can be used for many exports. The default
+	 * null does not cache any code.
+	 *
+	 * @param fragmentCache
+	 */
+	public void setFragmentCache(SvgFragmentCache fragmentCache) {
+		this.fragmentCache = fragmentCache;
+	}
+
+	//#end region
+
+}
@@ -1,24 +1,30 @@
 package org.treez.results.javafxchart.svgconverter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeAlignment;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineCap;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineJoin;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
-
-import javafx.scene.shape.StrokeLineCap;
-import javafx.scene.shape.StrokeLineJoin;
-import javafx.scene.shape.StrokeType;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgFingerprint;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
 
 /**
- * Serves as a data container for the "properties of a SVG node".  
+ * Serves as a data container for the "properties of a SVG node". Numbers are stored as primitives, boolean properties
+ * as bit flags and the per side values of a rect (strokes, stroke widths, stroke opacities and radiuses) in fixed
+ * arrays. Therefore an instance can be reset and reused for many nodes without allocations.
+ * <p>
+ * Each per side value has a count: 0 means that the value is not set, 1 means that a single value applies to all sides
+ * and 4 means that each side has its own value. The sides are ordered top, right, bottom, left and the corners are
+ * ordered top left, top right, bottom right, bottom left.
  */
 public class SvgNodeProperties {
 
 	//#region ATTRIBUTES
 
+	/**
+	 * The number of sides (and corners) of a rect
+	 */
+	public static final int SIDE_COUNT = 4;
+
 	//#region GENERAL
 
 	/**
@@ -33,21 +39,26 @@ public class SvgNodeProperties {
 	private String id;
 
 	/**
-	 * This is true if the svg node is a rect. The rect can have rounded edges). If this is true, the svg node
-	 * represents a JavaFx Region without an extra -fx-shape. If this attribute is false, the node might have any
-	 * geometry (including rectangle). It then represents a JavaFx Shape or a Region with -fx-shape.
+	 * This flag is set if the svg node is a rect. The rect can have rounded edges). If this is set, the svg node
+	 * represents a JavaFx Region without an extra -fx-shape. If this flag is not set, the node might have any geometry
+	 * (including rectangle). It then represents a JavaFx Shape or a Region with -fx-shape.
 	 */
-	private Boolean isDefinedByRect = false;
+	private static final int DEFINED_BY_RECT_FLAG = 1;
 
 	/**
-	 * This is true if the node has child nodes
+	 * This flag is set if the node has child nodes
 	 */
-	private Boolean hasChildren = false;
+	private static final int HAS_CHILDREN_FLAG = 1 << 1;
 
 	/**
-	 * If this is true the node represents a JavaFx Group
+	 * If this flag is set the node represents a JavaFx Group
 	 */
-	private Boolean isGroup = false;
+	private static final int GROUP_FLAG = 1 << 2;
+
+	/**
+	 * The boolean properties as bit flags
+	 */
+	private int flags;
 
 	//#end region
 
@@ -63,12 +74,14 @@ public class SvgNodeProperties {
 	 * that it is totally transparent. (Note: The "stroke-opacity" is not used here and half-transparent borders have to
 	 * be specified by extra nodes.)
 	 */
-	private Double opacity;
+	private double opacity;
 
 	/**
 	 * The opacities of the strokes
 	 */
-	private List<Double> strokeOpacity;
+	private final double[] strokeOpacities = new double[SIDE_COUNT];
+
+	private int strokeOpacityCount;
 
 	//#end region
 
@@ -79,38 +92,38 @@ public class SvgNodeProperties {
 	/**
 	 * The x coordinate of the node in respect to its parent node, will be used in the style of the node with translate
 	 */
-	private Double x;
+	private double x;
 
 	/**
 	 * The y coordinate of the node in respect to its parent node, will be used in the style of the node with
 	 * translate(x,y)
 	 */
-	private Double y;
+	private double y;
 
 	/**
 	 * The x scale value, will be used in the style of the node with scale(xScale,yScale)
 	 */
-	private Double xScale;
+	private double xScale;
 
 	/**
 	 * The y scale value, will be used in the style of the node with scale(xScale,yScale)
 	 */
-	private Double yScale;
+	private double yScale;
 
 	/**
 	 * The rotation value, will be used in the tranform of the node with rotate(rotation,0,0), measured in degrees.
 	 */
-	private Double rotation;
+	private double rotation;
 
 	/**
 	 * The x coordinate of the rotation axis
 	 */
-	private Double rotationAxisX;
+	private double rotationAxisX;
 
 	/**
 	 * The y coordinate of the rotation axis
 	 */
-	private Double rotationAxisY;
+	private double rotationAxisY;
 
 	//#end region
 
@@ -120,7 +133,7 @@ public class SvgNodeProperties {
 	 * Represents the svg-property "d" of a path: describes the geometry. This is used if the corresponding JavaFx node
 	 * represents a Shape or if the geometry is given by the JavaFx css property "-fx-shape"
 	 */
-	private String pathShape;
+	private SvgPathData pathData;
 
 	//#end region
 
@@ -128,15 +141,15 @@ public class SvgNodeProperties {
 
 	/**
 	 * This is the width for a special case: the node is defined with by a rect. In the other cases the width will be
-	 * determined by the pathShape.
+	 * determined by the path data.
 	 */
-	private String rectWidth;
+	private double rectWidth;
 
 	/**
 	 * This is the height for a special case: the node is defined by a rect. In the other cases the height will be
-	 * determined by the pathShape.
+	 * determined by the path data.
 	 */
-	private String rectHeight;
+	private double rectHeight;
 
 	//#end region
 
@@ -151,7 +164,9 @@ public class SvgNodeProperties {
 	/**
 	 * The fill radiuses
 	 */
-	private List<Double> fillRadius;
+	private final double[] fillRadii = new double[SIDE_COUNT];
+
+	private int fillRadiusCount;
 
 	//#end region
 
@@ -163,12 +178,16 @@ public class SvgNodeProperties {
 	 * The colors of line segments (for example a rectangle might have different strokes for each side of a rectangle in
 	 * JavaFx)
 	 */
-	private List<String> stroke;
+	private final String[] strokes = new String[SIDE_COUNT];
+
+	private int strokeCount;
 
 	/**
 	 * The width of lines
 	 */
-	private List<Double> strokeWidth;
+	private final double[] strokeWidths = new double[SIDE_COUNT];
+
+	private int strokeWidthCount;
 
 	/**
 	 * Defines how the end of lines looks like
@@ -188,7 +207,7 @@ public class SvgNodeProperties {
 	/**
 	 * The miter limit, see http://www.w3.org/TR/SVG/painting.html#StrokeProperties Must be >=1.
 	 */
-	private Double strokeMiterLimit;
+	private double strokeMiterLimit;
 
 	/**
 	 * Defines the line dash distances: a list of comma separated numbers as String.
@@ -198,21 +217,54 @@ public class SvgNodeProperties {
 	/**
 	 * Distance into the dash pattern to start the dash.
 	 */
-	private Double strokeDashOffset;
+	private double strokeDashOffset;
 
 	/**
 	 * The radiuses of the strokes
 	 */
-	private List<Double> strokeRadius;
+	private final double[] strokeRadii = new double[SIDE_COUNT];
+
+	private int strokeRadiusCount;
 
 	//#end region
 
 	//#region FONT
 
-	private String fontSize = null;
+	private double fontSize;
+
+	private String fontFamily;
+
+	/**
+	 * The svg font weight (e.g. "bold") or null for the normal weight
+	 */
+	private String fontWeight;
+
+	/**
+	 * The svg font style (e.g. "italic") or null for the normal style
+	 */
+	private String fontStyle;
+
+	//#end region
 
 	//#end region
 
+	//#region TEXT
+
+	/**
+	 * The content of a text element or null; lines are separated by line breaks
+	 */
+	private String text;
+
+	/**
+	 * The svg text decoration (e.g. "underline") or null
+	 */
+	private String textDecoration;
+
+	/**
+	 * The distance between the baselines of two lines of a text
+	 */
+	private double lineHeight;
+
 	//#end region
 
 	//#end region
@@ -222,7 +274,216 @@ public class SvgNodeProperties {
 	/**
 	 * Constructor
 	 */
-	public SvgNodeProperties() {}
+	public SvgNodeProperties() {
+		reset();
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Resets all properties to their initial values, so that the properties can be reused for another node. The
+	 * initial values of the numbers are the svg defaults (e.g. an opacity of 1) and do not produce any output.
+	 */
+	public void reset() {
+		comment = null;
+		id = null;
+		flags = 0;
+		visibility = null;
+		opacity = 1;
+		strokeOpacityCount = 0;
+		x = 0;
+		y = 0;
+		xScale = 1;
+		yScale = 1;
+		rotation = 0;
+		rotationAxisX = 0;
+		rotationAxisY = 0;
+		pathData = null;
+		rectWidth = 0;
+		rectHeight = 0;
+		fillColor = null;
+		fillRadiusCount = 0;
+		strokeCount = 0;
+		strokeWidthCount = 0;
+		strokeLineCap = null;
+		strokeLineJoin = null;
+		strokeAlignment = null;
+		strokeMiterLimit = 4;
+		strokeDashArray = null;
+		strokeDashOffset = 0;
+		strokeRadiusCount = 0;
+		fontSize = 0;
+		fontFamily = null;
+		fontWeight = null;
+		fontStyle = null;
+		text = null;
+		textDecoration = null;
+		lineHeight = 0;
+	}
+
+	/**
+	 * Copies all properties of the given properties to these properties
+	 *
+	 * @param source
+	 */
+	public void copyFrom(SvgNodeProperties source) {
+		comment = source.comment;
+		id = source.id;
+		flags = source.flags;
+		visibility = source.visibility;
+		opacity = source.opacity;
+		strokeOpacityCount = source.strokeOpacityCount;
+		System.arraycopy(source.strokeOpacities, 0, strokeOpacities, 0, SIDE_COUNT);
+		x = source.x;
+		y = source.y;
+		xScale = source.xScale;
+		yScale = source.yScale;
+		rotation = source.rotation;
+		rotationAxisX = source.rotationAxisX;
+		rotationAxisY = source.rotationAxisY;
+		pathData = source.pathData;
+		rectWidth = source.rectWidth;
+		rectHeight = source.rectHeight;
+		fillColor = source.fillColor;
+		fillRadiusCount = source.fillRadiusCount;
+		System.arraycopy(source.fillRadii, 0, fillRadii, 0, SIDE_COUNT);
+		strokeCount = source.strokeCount;
+		System.arraycopy(source.strokes, 0, strokes, 0, SIDE_COUNT);
+		strokeWidthCount = source.strokeWidthCount;
+		System.arraycopy(source.strokeWidths, 0, strokeWidths, 0, SIDE_COUNT);
+		strokeLineCap = source.strokeLineCap;
+		strokeLineJoin = source.strokeLineJoin;
+		strokeAlignment = source.strokeAlignment;
+		strokeMiterLimit = source.strokeMiterLimit;
+		strokeDashArray = source.strokeDashArray;
+		strokeDashOffset = source.strokeDashOffset;
+		strokeRadiusCount = source.strokeRadiusCount;
+		System.arraycopy(source.strokeRadii, 0, strokeRadii, 0, SIDE_COUNT);
+		fontSize = source.fontSize;
+		fontFamily = source.fontFamily;
+		fontWeight = source.fontWeight;
+		fontStyle = source.fontStyle;
+		text = source.text;
+		textDecoration = source.textDecoration;
+		lineHeight = source.lineHeight;
+	}
+
+	/**
+	 * Mixes all properties into the given fingerprint hash
+	 *
+	 * @param hash
+	 * @return
+	 */
+	public long mixFingerprint(long hash) {
+		long result = SvgFingerprint.mix(hash, comment);
+		result = SvgFingerprint.mix(result, id);
+		result = SvgFingerprint.mix(result, (long) flags);
+		result = SvgFingerprint.mix(result, visibility);
+		result = SvgFingerprint.mix(result, opacity);
+		result = mixPerSideValues(result, strokeOpacities, strokeOpacityCount);
+		result = SvgFingerprint.mix(result, x);
+		result = SvgFingerprint.mix(result, y);
+		result = SvgFingerprint.mix(result, xScale);
+		result = SvgFingerprint.mix(result, yScale);
+		result = SvgFingerprint.mix(result, rotation);
+		result = SvgFingerprint.mix(result, rotationAxisX);
+		result = SvgFingerprint.mix(result, rotationAxisY);
+		boolean hasPathData = pathData != null;
+		result = SvgFingerprint.mix(result, hasPathData);
+		if (hasPathData) {
+			result = pathData.mixFingerprint(result);
+		}
+		result = SvgFingerprint.mix(result, rectWidth);
+		result = SvgFingerprint.mix(result, rectHeight);
+		result = SvgFingerprint.mix(result, fillColor);
+		result = mixPerSideValues(result, fillRadii, fillRadiusCount);
+		result = SvgFingerprint.mix(result, (long) strokeCount);
+		for (int side = 0; side < strokeCount; side++) {
+			result = SvgFingerprint.mix(result, strokes[side]);
+		}
+		result = mixPerSideValues(result, strokeWidths, strokeWidthCount);
+		result = SvgFingerprint.mix(result, strokeLineCap);
+		result = SvgFingerprint.mix(result, strokeLineJoin);
+		result = SvgFingerprint.mix(result, strokeAlignment);
+		result = SvgFingerprint.mix(result, strokeMiterLimit);
+		result = SvgFingerprint.mix(result, strokeDashArray);
+		result = SvgFingerprint.mix(result, strokeDashOffset);
+		result = mixPerSideValues(result, strokeRadii, strokeRadiusCount);
+		result = SvgFingerprint.mix(result, fontSize);
+		result = SvgFingerprint.mix(result, fontFamily);
+		result = SvgFingerprint.mix(result, fontWeight);
+		result = SvgFingerprint.mix(result, fontStyle);
+		result = SvgFingerprint.mix(result, text);
+		result = SvgFingerprint.mix(result, textDecoration);
+		result = SvgFingerprint.mix(result, lineHeight);
+		return result;
+	}
+
+	private static long mixPerSideValues(long hash, double[] values, int count) {
+		long result = SvgFingerprint.mix(hash, (long) count);
+		for (int side = 0; side < count; side++) {
+			result = SvgFingerprint.mix(result, values[side]);
+		}
+		return result;
+	}
+
+	private void setFlag(int flag, boolean isSet) {
+		if (isSet) {
+			flags |= flag;
+		} else {
+			flags &= ~flag;
+		}
+	}
+
+	private boolean isFlagSet(int flag) {
+		return (flags & flag) != 0;
+	}
+
+	/**
+	 * Stores the given per side values and returns the resulting count: equal values are condensed to a single value
+	 * and a single default value is dropped.
+	 *
+	 * @param values
+	 * @param first
+	 * @param second
+	 * @param third
+	 * @param fourth
+	 * @param defaultValue
+	 * @return
+	 */
+	private static int storePerSideValues(
+			double[] values,
+			double first,
+			double second,
+			double third,
+			double fourth,
+			double defaultValue) {
+		values[0] = first;
+		boolean hasEqualValues = first == second && first == third && first == fourth;
+		if (hasEqualValues) {
+			if (first == defaultValue) {
+				return 0;
+			}
+			return 1;
+		}
+		values[1] = second;
+		values[2] = third;
+		values[3] = fourth;
+		return SIDE_COUNT;
+	}
+
+	private static double getPerSideValue(double[] values, int count, int side, String name) {
+		if (count == 0) {
+			String message = "The " + name + " has not been set.";
+			throw new IllegalStateException(message);
+		}
+		if (count == 1) {
+			return values[0];
+		}
+		return values[side];
+	}
 
 	//#end region
 
@@ -272,53 +533,43 @@ public class SvgNodeProperties {
 	/**
 	 * @return
 	 */
-	public Boolean isDefinedByRect() {
-		return isDefinedByRect;
+	public boolean isDefinedByRect() {
+		return isFlagSet(DEFINED_BY_RECT_FLAG);
 	}
 
 	/**
 	 * @param isDefinedByRect
 	 */
-	public void setIsDefinedByRect(Boolean isDefinedByRect) {
-		this.isDefinedByRect = isDefinedByRect;
+	public void setIsDefinedByRect(boolean isDefinedByRect) {
+		setFlag(DEFINED_BY_RECT_FLAG, isDefinedByRect);
 	}
 
 	/**
-	 * Get isGroup
-	 *
-	 * @return the isGroup
+	 * @return
 	 */
-	public Boolean isGroup() {
-		return isGroup;
+	public boolean isGroup() {
+		return isFlagSet(GROUP_FLAG);
 	}
 
 	/**
-	 * Set isGroup
-	 *
 	 * @param isGroup
-	 *            the isGroup to set
 	 */
-	public void setIsGroup(Boolean isGroup) {
-		this.isGroup = isGroup;
+	public void setIsGroup(boolean isGroup) {
+		setFlag(GROUP_FLAG, isGroup);
 	}
 
 	/**
 	 * @return
 	 */
-	public Boolean hasChildren() {
-		if (hasChildren != null) {
-			return hasChildren;
-		} else {
-			String message = "The hasChildren attribute has not been set";
-			throw new IllegalStateException(message);
-		}
+	public boolean hasChildren() {
+		return isFlagSet(HAS_CHILDREN_FLAG);
 	}
 
 	/**
 	 * @param hasChildren
 	 */
-	public void setHasChildren(Boolean hasChildren) {
-		this.hasChildren = hasChildren;
+	public void setHasChildren(boolean hasChildren) {
+		setFlag(HAS_CHILDREN_FLAG, hasChildren);
 	}
 
 	/**
@@ -338,164 +589,163 @@ public class SvgNodeProperties {
 	/**
 	 * @return
 	 */
-	public Double getOpacity() {
+	public double getOpacity() {
 		return opacity;
 	}
 
 	/**
 	 * @param opacity
 	 */
-	public void setOpacity(Double opacity) {
+	public void setOpacity(double opacity) {
 		this.opacity = opacity;
 	}
 
 	/**
 	 * @return
 	 */
-	public Double getX() {
+	public double getX() {
 		return x;
 	}
 
 	/**
 	 * @param x
 	 */
-	public void setX(Double x) {
+	public void setX(double x) {
 		this.x = x;
 	}
 
 	/**
 	 * @return
 	 */
-	public Double getY() {
+	public double getY() {
 		return y;
 	}
 
 	/**
 	 * @param y
 	 */
-	public void setY(Double y) {
+	public void setY(double y) {
 		this.y = y;
 	}
 
 	/**
 	 * @return
 	 */
-	public Double getXScale() {
+	public double getXScale() {
 		return xScale;
 	}
 
 	/**
 	 * @param xScale
 	 */
-	public void setXScale(Double xScale) {
+	public void setXScale(double xScale) {
 		this.xScale = xScale;
 	}
 
 	/**
 	 * @return
 	 */
-	public Double getYScale() {
+	public double getYScale() {
 		return yScale;
 	}
 
 	/**
 	 * @param yScale
 	 */
-	public void setYScale(Double yScale) {
+	public void setYScale(double yScale) {
 		this.yScale = yScale;
 	}
 
 	/**
 	 * @return
 	 */
-	public Double getRotation() {
+	public double getRotation() {
 		return rotation;
 	}
 
 	/**
 	 * @param rotation
 	 */
-	public void setRotation(Double rotation) {
+	public void setRotation(double rotation) {
 		this.rotation = rotation;
 	}
 
 	/**
-	 * Get rotationAxisX
-	 *
-	 * @return the rotationAxisX
+	 * @return
 	 */
-	public Double getRotationAxisX() {
+	public double getRotationAxisX() {
 		return rotationAxisX;
 	}
 
 	/**
-	 * Set rotationAxisX
-	 *
 	 * @param rotationAxisX
-	 *            the rotationAxisX to set
 	 */
-	public void setRotationAxisX(Double rotationAxisX) {
+	public void setRotationAxisX(double rotationAxisX) {
 		this.rotationAxisX = rotationAxisX;
 	}
 
 	/**
-	 * Get rotationAxisY
-	 *
-	 * @return the rotationAxisY
+	 * @return
 	 */
-	public Double getRotationAxisY() {
+	public double getRotationAxisY() {
 		return rotationAxisY;
 	}
 
 	/**
-	 * Set rotationAxisY
-	 *
 	 * @param rotationAxisY
-	 *            the rotationAxisY to set
 	 */
-	public void setRotationAxisY(Double rotationAxisY) {
+	public void setRotationAxisY(double rotationAxisY) {
 		this.rotationAxisY = rotationAxisY;
 	}
 
 	/**
 	 * @return
 	 */
-	public String getPathShape() {
-		return pathShape;
+	public SvgPathData getPathData() {
+		return pathData;
 	}
 
 	/**
-	 * @param pathShape
+	 * @param pathData
 	 */
-	public void setPathShape(String pathShape) {
-		this.pathShape = pathShape;
+	public void setPathData(SvgPathData pathData) {
+		this.pathData = pathData;
+	}
+
+	/**
+	 * Returns true if non empty path data is available
+	 *
+	 * @return
+	 */
+	public boolean hasPathData() {
+		return pathData != null && !pathData.isEmpty();
 	}
 
 	/**
 	 * @return
 	 */
-	public String getRectWidth() {
+	public double getRectWidth() {
 		return rectWidth;
 	}
 
 	/**
 	 * @param rectWidth
 	 */
-	public void setRectWidth(String rectWidth) {
+	public void setRectWidth(double rectWidth) {
 		this.rectWidth = rectWidth;
 	}
 
 	/**
 	 * @return
 	 */
-	public String getRectHeight() {
+	public double getRectHeight() {
 		return rectHeight;
 	}
 
 	/**
 	 * @param rectHeight
 	 */
-	public void setRectHeight(String rectHeight) {
+	public void setRectHeight(double rectHeight) {
 		this.rectHeight = rectHeight;
 	}
 
@@ -514,96 +764,209 @@ public class SvgNodeProperties {
 	}
 
 	/**
-	 * Get fillRadius
-	 *
-	 * @return the fillRadius
+	 * @return the number of fill radiuses (0, 1 or 4)
+	 */
+	public int getFillRadiusCount() {
+		return fillRadiusCount;
+	}
+
+	/**
+	 * @param corner
+	 * @return
 	 */
-	public List<Double> getFillRadius() {
-		return fillRadius;
+	public double getFillRadius(int corner) {
+		return getPerSideValue(fillRadii, fillRadiusCount, corner, "fill radius");
 	}
 
 	/**
-	 * Set fillRadius
+	 * Sets a single fill radius for all corners
 	 *
 	 * @param fillRadius
-	 *            the fillRadius to set
 	 */
-	public void setFillRadius(List<Double> fillRadius) {
-		this.fillRadius = fillRadius;
+	public void setFillRadius(double fillRadius) {
+		fillRadii[0] = fillRadius;
+		fillRadiusCount = 1;
 	}
 
 	/**
-	 * Set fillRadius
+	 * Sets the fill radiuses of the four corners. Equal radiuses are condensed and a radius of 0 is dropped.
 	 *
-	 * @param fillRadius
-	 *            the fillRadius to set
+	 * @param topLeft
+	 * @param topRight
+	 * @param bottomRight
+	 * @param bottomLeft
 	 */
-	public void setFillRadius(Double fillRadius) {
-		this.fillRadius = new ArrayList<Double>();
-		this.fillRadius.add(fillRadius);
+	public void setFillRadii(double topLeft, double topRight, double bottomRight, double bottomLeft) {
+		fillRadiusCount = storePerSideValues(fillRadii, topLeft, topRight, bottomRight, bottomLeft, 0);
 	}
 
 	/**
-	 * @return
+	 * @return the number of strokes (0, 1 or 4)
 	 */
-	public List<String> getStroke() {
-		return stroke;
+	public int getStrokeCount() {
+		return strokeCount;
 	}
 
 	/**
-	 * @param stroke
+	 * @param side
+	 * @return
 	 */
-	public void setStroke(List<String> stroke) {
-		this.stroke = stroke;
+	public String getStroke(int side) {
+		if (strokeCount == 0) {
+			String message = "The stroke has not been set.";
+			throw new IllegalStateException(message);
+		}
+		if (strokeCount == 1) {
+			return strokes[0];
+		}
+		return strokes[side];
 	}
 
 	/**
-	 * Creates a list of strokes that contains the given stroke as single entry and uses it as strokes list
+	 * Sets a single stroke for all sides
 	 *
 	 * @param stroke
 	 */
 	public void setStroke(String stroke) {
-		this.stroke = new ArrayList<>();
-		this.stroke.add(stroke);
+		strokes[0] = stroke;
+		strokeCount = 1;
 	}
 
 	/**
+	 * Sets the strokes of the four sides. Equal strokes are condensed and a single white stroke is dropped.
+	 *
+	 * @param top
+	 * @param right
+	 * @param bottom
+	 * @param left
+	 */
+	public void setStrokes(String top, String right, String bottom, String left) {
+		strokes[0] = top;
+		boolean hasEqualStrokes = top.equals(right) && top.equals(bottom) && top.equals(left);
+		if (hasEqualStrokes) {
+			boolean isWhite = top.equals("#FFFFFF");
+			if (isWhite) {
+				strokeCount = 0;
+			} else {
+				strokeCount = 1;
+			}
+			return;
+		}
+		strokes[1] = right;
+		strokes[2] = bottom;
+		strokes[3] = left;
+		strokeCount = SIDE_COUNT;
+	}
+
+	/**
+	 * @return the number of stroke widths (0, 1 or 4)
+	 */
+	public int getStrokeWidthCount() {
+		return strokeWidthCount;
+	}
+
+	/**
+	 * @param side
 	 * @return
 	 */
-	public List<Double> getStrokeWidth() {
-		return strokeWidth;
+	public double getStrokeWidth(int side) {
+		return getPerSideValue(strokeWidths, strokeWidthCount, side, "stroke width");
 	}
 
 	/**
+	 * Sets the stroke width with a single value
+	 *
 	 * @param strokeWidth
 	 */
-	public void setStrokeWidth(List<Double> strokeWidth) {
-		this.strokeWidth = strokeWidth;
+	public void setStrokeWidth(double strokeWidth) {
+		strokeWidths[0] = strokeWidth;
+		strokeWidthCount = 1;
 	}
 
 	/**
-	 * Sets the stroke width width a single value
+	 * Sets the stroke widths of the four sides. Equal widths are condensed and a width of 1 is dropped.
 	 *
-	 * @param strokeWidth
+	 * @param top
+	 * @param right
+	 * @param bottom
+	 * @param left
 	 */
-	public void setStrokeWidth(Double strokeWidth) {
-		this.strokeWidth = new ArrayList<>();
-		this.strokeWidth.add(strokeWidth);
+	public void setStrokeWidths(double top, double right, double bottom, double left) {
+		strokeWidthCount = storePerSideValues(strokeWidths, top, right, bottom, left, 1);
+	}
 
+	/**
+	 * @return the number of stroke radiuses (0, 1 or 4)
+	 */
+	public int getStrokeRadiusCount() {
+		return strokeRadiusCount;
 	}
 
 	/**
+	 * @param corner
 	 * @return
 	 */
-	public List<Double> getStrokeRadius() {
-		return strokeRadius;
+	public double getStrokeRadius(int corner) {
+		return getPerSideValue(strokeRadii, strokeRadiusCount, corner, "stroke radius");
 	}
 
 	/**
+	 * Sets a single stroke radius for all corners
+	 *
 	 * @param strokeRadius
 	 */
-	public void setStrokeRadius(List<Double> strokeRadius) {
-		this.strokeRadius = strokeRadius;
+	public void setStrokeRadius(double strokeRadius) {
+		strokeRadii[0] = strokeRadius;
+		strokeRadiusCount = 1;
+	}
+
+	/**
+	 * Sets the stroke radiuses of the four corners. Equal radiuses are condensed and a radius of 0 is dropped.
+	 *
+	 * @param topLeft
+	 * @param topRight
+	 * @param bottomRight
+	 * @param bottomLeft
+	 */
+	public void setStrokeRadii(double topLeft, double topRight, double bottomRight, double bottomLeft) {
+		strokeRadiusCount = storePerSideValues(strokeRadii, topLeft, topRight, bottomRight, bottomLeft, 0);
+	}
+
+	/**
+	 * @return the number of stroke opacities (0, 1 or 4)
+	 */
+	public int getStrokeOpacityCount() {
+		return strokeOpacityCount;
+	}
+
+	/**
+	 * @param side
+	 * @return
+	 */
+	public double getStrokeOpacity(int side) {
+		return getPerSideValue(strokeOpacities, strokeOpacityCount, side, "stroke opacity");
+	}
+
+	/**
+	 * Sets a single stroke opacity for all sides
+	 *
+	 * @param strokeOpacity
+	 */
+	public void setStrokeOpacity(double strokeOpacity) {
+		strokeOpacities[0] = strokeOpacity;
+		strokeOpacityCount = 1;
+	}
+
+	/**
+	 * Sets the stroke opacities of the four sides. Equal opacities are condensed and an opacity of 1 is dropped.
+	 *
+	 * @param top
+	 * @param right
+	 * @param bottom
+	 * @param left
+	 */
+	public void setStrokeOpacities(double top, double right, double bottom, double left) {
+		strokeOpacityCount = storePerSideValues(strokeOpacities, top, right, bottom, left, 1);
 	}
 
 	/**
@@ -620,27 +983,6 @@ public class SvgNodeProperties {
 		this.strokeLineCap = strokeLineCap;
 	}
 
-	/**
-	 * Sets the stroke line cap with a JavaFx stroke line cap
-	 * @param javaFxStrokeLineCap 
-	 */
-	public void setStrokeLineCap(StrokeLineCap javaFxStrokeLineCap) {
-		switch (javaFxStrokeLineCap) {
-		case BUTT:
-			setStrokeLineCap(SvgStrokeLineCap.BUTT);
-			break;
-		case ROUND:
-			setStrokeLineCap(SvgStrokeLineCap.ROUND);
-			break;
-		case SQUARE:
-			setStrokeLineCap(SvgStrokeLineCap.SQUARE);
-			break;
-		default:
-			String message = "The line cap " + javaFxStrokeLineCap + " is not known.";
-			throw new IllegalArgumentException(message);
-		}
-	}
-
 	/**
 	 * @return
 	 */
@@ -655,27 +997,6 @@ public class SvgNodeProperties {
 		this.strokeLineJoin = strokeLineJoin;
 	}
 
-	/**
-	 * Sets the stroke line join with a JavaFx stroke line join
-	 * @param javaFxStrokeLineJoin 
-	 */
-	public void setStrokeLineJoin(StrokeLineJoin javaFxStrokeLineJoin) {
-		switch (javaFxStrokeLineJoin) {
-		case MITER:
-			setStrokeLineJoin(SvgStrokeLineJoin.MITER);
-			break;
-		case ROUND:
-			setStrokeLineJoin(SvgStrokeLineJoin.ROUND);
-			break;
-		case BEVEL:
-			setStrokeLineJoin(SvgStrokeLineJoin.BEVEL);
-			break;
-		default:
-			String message = "The line join " + javaFxStrokeLineJoin + " is not known.";
-			throw new IllegalArgumentException(message);
-		}
-	}
-
 	/**
 	 * @return
 	 */
@@ -690,38 +1011,17 @@ public class SvgNodeProperties {
 		this.strokeAlignment = strokeAlignment;
 	}
 
-	/**
-	 * Sets the stroke alignment with a JavaFx stroke type
-	 * @param javaFxStrokeType 
-	 */
-	public void setStrokeAlignment(StrokeType javaFxStrokeType) {
-		switch (javaFxStrokeType) {
-		case CENTERED:
-			setStrokeAlignment(SvgStrokeAlignment.CENTER);
-			break;
-		case INSIDE:
-			setStrokeAlignment(SvgStrokeAlignment.INNER);
-			break;
-		case OUTSIDE:
-			setStrokeAlignment(SvgStrokeAlignment.OUTER);
-			break;
-		default:
-			String message = "The stroke type " + javaFxStrokeType + " is not known.";
-			throw new IllegalArgumentException(message);
-		}
-	}
-
 	/**
 	 * @return
 	 */
-	public Double getStrokeMiterLimit() {
+	public double getStrokeMiterLimit() {
 		return strokeMiterLimit;
 	}
 
 	/**
 	 * @param strokeMiterLimit
 	 */
-	public void setStrokeMiterLimit(Double strokeMiterLimit) {
+	public void setStrokeMiterLimit(double strokeMiterLimit) {
 		this.strokeMiterLimit = strokeMiterLimit;
 	}
 
@@ -742,48 +1042,113 @@ public class SvgNodeProperties {
 	/**
 	 * @return
 	 */
-	public Double getStrokeDashOffset() {
+	public double getStrokeDashOffset() {
 		return strokeDashOffset;
 	}
 
 	/**
 	 * @param strokeDashOffset
 	 */
-	public void setStrokeDashOffset(Double strokeDashOffset) {
+	public void setStrokeDashOffset(double strokeDashOffset) {
 		this.strokeDashOffset = strokeDashOffset;
 	}
 
 	/**
-	 * Get strokeOpacities
-	 *
-	 * @return the strokeOpacities
+	 * @return
 	 */
-	public List<Double> getStrokeOpacities() {
-		return strokeOpacity;
+	public double getFontSize() {
+		return fontSize;
 	}
 
 	/**
-	 * Set strokeOpacities
-	 *
-	 * @param strokeOpacities
-	 *            the strokeOpacities to set
+	 * @param fontSize
 	 */
-	public void setStrokeOpacities(List<Double> strokeOpacities) {
-		this.strokeOpacity = strokeOpacities;
+	public void setFontSize(double fontSize) {
+		this.fontSize = fontSize;
 	}
 
 	/**
 	 * @return
 	 */
-	public String getFontSize() {
-		return fontSize;
+	public String getFontFamily() {
+		return fontFamily;
 	}
 
 	/**
-	 * @param fontSize
+	 * @param fontFamily
 	 */
-	public void setFontSize(String fontSize) {
-		this.fontSize = fontSize;
+	public void setFontFamily(String fontFamily) {
+		this.fontFamily = fontFamily;
+	}
+
+	/**
+	 * @return the svg font weight or null for the normal weight
+	 */
+	public String getFontWeight() {
+		return fontWeight;
+	}
+
+	/**
+	 * @param fontWeight
+	 */
+	public void setFontWeight(String fontWeight) {
+		this.fontWeight = fontWeight;
+	}
+
+	/**
+	 * @return the svg font style or null for the normal style
+	 */
+	public String getFontStyle() {
+		return fontStyle;
+	}
+
+	/**
+	 * @param fontStyle
+	 */
+	public void setFontStyle(String fontStyle) {
+		this.fontStyle = fontStyle;
+	}
+
+	/**
+	 * @return the content of a text element or null
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @param text
+	 */
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * @return the svg text decoration or null
+	 */
+	public String getTextDecoration() {
+		return textDecoration;
+	}
+
+	/**
+	 * @param textDecoration
+	 */
+	public void setTextDecoration(String textDecoration) {
+		this.textDecoration = textDecoration;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getLineHeight() {
+		return lineHeight;
+	}
+
+	/**
+	 * @param lineHeight
+	 */
+	public void setLineHeight(double lineHeight) {
+		this.lineHeight = lineHeight;
 	}
 
 	//#end region
@@ -0,0 +1,55 @@
+package org.treez.results.javafxchart.svgconverter.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A running batch export: a future for each item (in the order of the items) and a future for the aggregated report
+ * that completes when all items have finished. The report future also completes normally if some items failed; the
+ * failures are listed in the report.
+ */
+public final class SvgBatchExport {
+
+	//#region ATTRIBUTES
+
+	private final List<CompletableFuture<SvgBatchItemResult>> itemFutures;
+
+	private final CompletableFuture<SvgBatchReport> report;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param itemFutures
+	 * @param report
+	 */
+	SvgBatchExport(List<CompletableFuture<SvgBatchItemResult>> itemFutures, CompletableFuture<SvgBatchReport> report) {
+		this.itemFutures = Collections.unmodifiableList(itemFutures);
+		this.report = report;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return the futures of the items, in the order of the items
+	 */
+	public List<CompletableFuture<SvgBatchItemResult>> getItemFutures() {
+		return itemFutures;
+	}
+
+	/**
+	 * @return
+	 */
+	public CompletableFuture<SvgBatchReport> getReport() {
+		return report;
+	}
+
+	//#end region
+
+}
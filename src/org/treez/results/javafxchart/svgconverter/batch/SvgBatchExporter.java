@@ -0,0 +1,197 @@
+package org.treez.results.javafxchart.svgconverter.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.JavaFxNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureOptions;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+/**
+ * Exports many nodes or snapshots to svg files. Each item is handled by one of a limited number of worker threads:
+ * the worker schedules the capture of the node as an own short task on the JavaFx Application Thread, waits for the
+ * snapshot and writes it to the file. Therefore the JavaFx Application Thread is only blocked for one capture at a
+ * time and at most maximumConcurrency snapshots are held in memory. The JavaFx toolkit has to be running for items
+ * with nodes; the caller must not block the JavaFx Application Thread while waiting for the export.
+ */
+public final class SvgBatchExporter implements AutoCloseable {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(SvgBatchExporter.class);
+
+	//#region ATTRIBUTES
+
+	private final SvgCaptureOptions options;
+
+	private final ExecutorService executor;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param options
+	 *            the options for capturing the nodes (items with snapshots use the options of their snapshot)
+	 * @param maximumConcurrency
+	 *            the maximum number of items that are exported at the same time
+	 */
+	public SvgBatchExporter(SvgCaptureOptions options, int maximumConcurrency) {
+		this.options = Objects.requireNonNull(options, "Options must not be null.");
+		if (maximumConcurrency < 1) {
+			String message = "The maximum concurrency must be at least 1 but is " + maximumConcurrency + ".";
+			throw new IllegalArgumentException(message);
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(maximumConcurrency, runnable -> {
+			Thread thread = new Thread(runnable, "svg-batch-export-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Starts the export of the given items and returns immediately
+	 *
+	 * @param items
+	 * @return the running export
+	 */
+	public SvgBatchExport export(Collection<SvgBatchItem> items) {
+		long startTime = System.nanoTime();
+		List<CompletableFuture<SvgBatchItemResult>> itemFutures = new ArrayList<>(items.size());
+		for (SvgBatchItem item : items) {
+			CompletableFuture<SvgBatchItemResult> itemFuture = new CompletableFuture<>();
+			itemFutures.add(itemFuture);
+			executor.execute(() -> {
+				try {
+					itemFuture.complete(exportItem(item));
+				} catch (Exception | Error exception) {
+					sysLog.error("Could not export svg file '" + item.getFilePath() + "'", exception);
+					itemFuture.completeExceptionally(exception);
+				}
+			});
+		}
+
+		CompletableFuture<Void> allItems = CompletableFuture.allOf(itemFutures.toArray(new CompletableFuture<?>[0]));
+		CompletableFuture<SvgBatchReport> report = allItems.handle(
+				(ignored, exception) -> createReport(itemFutures, System.nanoTime() - startTime));
+		return new SvgBatchExport(itemFutures, report);
+	}
+
+	/**
+	 * Shuts the worker threads down after the already started items have been exported
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private SvgBatchItemResult exportItem(SvgBatchItem item) throws IOException, InterruptedException {
+
+		SvgSnapshot snapshot = item.getSnapshot();
+		long captureNanos = 0;
+		if (snapshot == null) {
+			CapturedSnapshot capturedSnapshot = captureOnApplicationThread(item.getNode());
+			snapshot = capturedSnapshot.snapshot;
+			captureNanos = capturedSnapshot.captureNanos;
+		}
+
+		long writeStart = System.nanoTime();
+		JavaFxNodeToSvgConverter.snapshotToSvg(snapshot, item.getFilePath(), item.getCompression());
+		long byteCount = Files.size(item.getFilePath());
+		long writeNanos = System.nanoTime() - writeStart;
+
+		return new SvgBatchItemResult(item.getFilePath(), byteCount, captureNanos, writeNanos);
+	}
+
+	/**
+	 * Captures the given node as an own task on the JavaFx Application Thread and waits for the snapshot
+	 *
+	 * @param node
+	 * @return
+	 * @throws InterruptedException
+	 */
+	private CapturedSnapshot captureOnApplicationThread(Node node) throws InterruptedException {
+		CompletableFuture<CapturedSnapshot> captureFuture = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				long captureStart = System.nanoTime();
+				SvgSnapshot snapshot = JavaFxNodeToSvgConverter.captureSnapshot(node, options);
+				captureFuture.complete(new CapturedSnapshot(snapshot, System.nanoTime() - captureStart));
+			} catch (Exception | Error exception) {
+				captureFuture.completeExceptionally(exception);
+			}
+		});
+		try {
+			return captureFuture.get();
+		} catch (ExecutionException exception) {
+			throw new IllegalStateException("Could not capture node", exception.getCause());
+		}
+	}
+
+	private static SvgBatchReport createReport(
+			List<CompletableFuture<SvgBatchItemResult>> itemFutures,
+			long elapsedNanos) {
+		long totalByteCount = 0;
+		long totalCaptureNanos = 0;
+		long totalWriteNanos = 0;
+		Map<Integer, Throwable> failures = new HashMap<>();
+		for (int index = 0; index < itemFutures.size(); index++) {
+			try {
+				SvgBatchItemResult result = itemFutures.get(index).join();
+				totalByteCount += result.getByteCount();
+				totalCaptureNanos += result.getCaptureNanos();
+				totalWriteNanos += result.getWriteNanos();
+			} catch (CompletionException exception) {
+				failures.put(index, exception.getCause());
+			}
+		}
+		return new SvgBatchReport(itemFutures.size(), totalByteCount, totalCaptureNanos, totalWriteNanos,
+				elapsedNanos, failures);
+	}
+
+	//#end region
+
+	//#region CAPTURED SNAPSHOT
+
+	/**
+	 * A snapshot and the time it took to capture it
+	 */
+	private static final class CapturedSnapshot {
+
+		private final SvgSnapshot snapshot;
+
+		private final long captureNanos;
+
+		CapturedSnapshot(SvgSnapshot snapshot, long captureNanos) {
+			this.snapshot = snapshot;
+			this.captureNanos = captureNanos;
+		}
+	}
+
+	//#end region
+
+}
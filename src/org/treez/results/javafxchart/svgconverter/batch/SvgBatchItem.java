@@ -0,0 +1,131 @@
+package org.treez.results.javafxchart.svgconverter.batch;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCompression;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+
+import javafx.scene.Node;
+
+/**
+ * An item of a batch export: a JavaFx Node (that still has to be captured) or an already captured snapshot, and the
+ * file the svg code is written to (optionally compressed).
+ */
+public final class SvgBatchItem {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The node to capture or null if the item has already been captured
+	 */
+	private final Node node;
+
+	/**
+	 * The captured snapshot or null if the node still has to be captured
+	 */
+	private final SvgSnapshot snapshot;
+
+	private final Path filePath;
+
+	private final SvgCompression compression;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	private SvgBatchItem(Node node, SvgSnapshot snapshot, Path filePath, SvgCompression compression) {
+		this.node = node;
+		this.snapshot = snapshot;
+		this.filePath = Objects.requireNonNull(filePath, "File path must not be null.");
+		this.compression = Objects.requireNonNull(compression, "Compression must not be null.");
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Creates an item for a node that is captured on the JavaFx Application Thread
+	 *
+	 * @param node
+	 * @param filePath
+	 * @return
+	 */
+	public static SvgBatchItem forNode(Node node, Path filePath) {
+		return forNode(node, filePath, SvgCompression.NONE);
+	}
+
+	/**
+	 * Creates an item for a node that is captured on the JavaFx Application Thread and written with the given
+	 * compression (e.g. GZIP for an svgz file)
+	 *
+	 * @param node
+	 * @param filePath
+	 * @param compression
+	 * @return
+	 */
+	public static SvgBatchItem forNode(Node node, Path filePath, SvgCompression compression) {
+		Objects.requireNonNull(node, "Node must not be null.");
+		return new SvgBatchItem(node, null, filePath, compression);
+	}
+
+	/**
+	 * Creates an item for an already captured snapshot
+	 *
+	 * @param snapshot
+	 * @param filePath
+	 * @return
+	 */
+	public static SvgBatchItem forSnapshot(SvgSnapshot snapshot, Path filePath) {
+		return forSnapshot(snapshot, filePath, SvgCompression.NONE);
+	}
+
+	/**
+	 * Creates an item for an already captured snapshot that is written with the given compression
+	 *
+	 * @param snapshot
+	 * @param filePath
+	 * @param compression
+	 * @return
+	 */
+	public static SvgBatchItem forSnapshot(SvgSnapshot snapshot, Path filePath, SvgCompression compression) {
+		Objects.requireNonNull(snapshot, "Snapshot must not be null.");
+		return new SvgBatchItem(null, snapshot, filePath, compression);
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return the node or null if the item has already been captured
+	 */
+	public Node getNode() {
+		return node;
+	}
+
+	/**
+	 * @return the snapshot or null if the node still has to be captured
+	 */
+	public SvgSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * @return
+	 */
+	public Path getFilePath() {
+		return filePath;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgCompression getCompression() {
+		return compression;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,77 @@
+package org.treez.results.javafxchart.svgconverter.batch;
+
+import java.nio.file.Path;
+
+/**
+ * The result of a successfully exported batch item
+ */
+public final class SvgBatchItemResult {
+
+	//#region ATTRIBUTES
+
+	private final Path filePath;
+
+	private final long byteCount;
+
+	/**
+	 * The time spent on the JavaFx Application Thread for capturing the node (0 for items that have been given as
+	 * snapshot)
+	 */
+	private final long captureNanos;
+
+	private final long writeNanos;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param filePath
+	 * @param byteCount
+	 * @param captureNanos
+	 * @param writeNanos
+	 */
+	public SvgBatchItemResult(Path filePath, long byteCount, long captureNanos, long writeNanos) {
+		this.filePath = filePath;
+		this.byteCount = byteCount;
+		this.captureNanos = captureNanos;
+		this.writeNanos = writeNanos;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public Path getFilePath() {
+		return filePath;
+	}
+
+	/**
+	 * @return the number of bytes that have been written to the file
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	/**
+	 * @return
+	 */
+	public long getCaptureNanos() {
+		return captureNanos;
+	}
+
+	/**
+	 * @return
+	 */
+	public long getWriteNanos() {
+		return writeNanos;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,140 @@
+package org.treez.results.javafxchart.svgconverter.batch;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The aggregated report of a finished batch export
+ */
+public final class SvgBatchReport {
+
+	//#region ATTRIBUTES
+
+	private final int itemCount;
+
+	private final long totalByteCount;
+
+	private final long totalCaptureNanos;
+
+	private final long totalWriteNanos;
+
+	/**
+	 * The time from starting the batch until the last item has finished
+	 */
+	private final long elapsedNanos;
+
+	/**
+	 * The failures by item index
+	 */
+	private final Map<Integer, Throwable> failures;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param itemCount
+	 * @param totalByteCount
+	 * @param totalCaptureNanos
+	 * @param totalWriteNanos
+	 * @param elapsedNanos
+	 * @param failures
+	 */
+	public SvgBatchReport(
+			int itemCount,
+			long totalByteCount,
+			long totalCaptureNanos,
+			long totalWriteNanos,
+			long elapsedNanos,
+			Map<Integer, Throwable> failures) {
+		this.itemCount = itemCount;
+		this.totalByteCount = totalByteCount;
+		this.totalCaptureNanos = totalCaptureNanos;
+		this.totalWriteNanos = totalWriteNanos;
+		this.elapsedNanos = elapsedNanos;
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public String toString() {
+		return "SvgBatchReport[items=" + itemCount + ", failed=" + failures.size() + ", bytes=" + totalByteCount
+				+ ", captureMillis=" + totalCaptureNanos / 1_000_000 + ", writeMillis=" + totalWriteNanos / 1_000_000
+				+ ", elapsedMillis=" + elapsedNanos / 1_000_000 + "]";
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public int getItemCount() {
+		return itemCount;
+	}
+
+	/**
+	 * @return
+	 */
+	public int getSucceededCount() {
+		return itemCount - failures.size();
+	}
+
+	/**
+	 * @return
+	 */
+	public int getFailedCount() {
+		return failures.size();
+	}
+
+	/**
+	 * @return
+	 */
+	public boolean isSuccessful() {
+		return failures.isEmpty();
+	}
+
+	/**
+	 * @return
+	 */
+	public long getTotalByteCount() {
+		return totalByteCount;
+	}
+
+	/**
+	 * @return the summed time spent on the JavaFx Application Thread for capturing the nodes
+	 */
+	public long getTotalCaptureNanos() {
+		return totalCaptureNanos;
+	}
+
+	/**
+	 * @return the summed time the worker threads spent on writing the files
+	 */
+	public long getTotalWriteNanos() {
+		return totalWriteNanos;
+	}
+
+	/**
+	 * @return
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return the failures by item index
+	 */
+	public Map<Integer, Throwable> getFailures() {
+		return failures;
+	}
+
+	//#end region
+
+}
@@ -1,13 +1,20 @@
 package org.treez.results.javafxchart.svgconverter.converters;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.apache.log4j.Logger;
 import org.treez.results.javafxchart.svgconverter.JavaFxNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
 import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPropertiesSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
 
+import javafx.beans.Observable;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point3D;
 import javafx.scene.Node;
@@ -18,7 +25,9 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 
 /**
- * Abstract base class for converting JavaFx Nodes to SVG code
+ * Abstract base class for converting JavaFx Nodes to SVG code. Inheriting classes must not have any mutable state;
+ * the state of a capture is passed as SvgCaptureContext. The captured svg node properties are written by the node
+ * writer of the converter (see getNodeWriter), which does not depend on JavaFx.
  * @param <T> 
  */
 public abstract class AbstractNodeToSvgConverter<T extends Node> implements NodeConverter<T> {
@@ -31,9 +40,10 @@ public abstract class AbstractNodeToSvgConverter<T extends Node> implements Node
 
 	//#region ATTRIBUTES
 
-	protected String indentation;
-
-	protected SvgNodeProperties svgNodeProperties;
+	/**
+	 * Writes the properties of nodes without own geometry
+	 */
+	private static final SvgNodeWriter NODE_WRITER = new SvgNodeWriter();
 
 	//#end region
 
@@ -44,97 +54,107 @@ public abstract class AbstractNodeToSvgConverter<T extends Node> implements Node
 	//#region METHODS
 
 	/**
-	 * Creates SVG code from the given JavaFx Node. The given initial comment is included as a prefix.
+	 * Captures a snapshot of the given JavaFx Node (and its children) that can be written later on.
 	 */
 	@Override
-	public abstract String extendCode(String initialComment, T node);
+	public abstract SvgNodeSnapshot capture(SvgCaptureContext context, T node);
 
 	/**
-	 * Creates an svg string from the svg node properties (which have to be determined before calling this method). This
-	 * method might be overridden by inheriting classes and be called from the method extendCode.
+	 * Returns the node writer that writes the captured svg node properties of this converter. This method might be
+	 * overridden by inheriting classes; the node writer must not reference any JavaFx classes.
 	 *
-	 * @param svgNodeProperties
 	 * @return
 	 */
-	protected String createSvgString() {
-
-		String svgString = "";
-
-		//create svg sub strings with svg node properties-----------------
-
-		//comment string
-		String commentString = createCommentString();
-
-		//id sub string
-		String idString = createIdString();
-
-		//style sub string
-		String styleString = createStyleString();
-
-		//transformation sub string
-		String transformString = createTransformString();
-
-		//start sub string (included id, style and transform)
-		String startString = createTagStartString(idString, styleString, transformString);
-
-		//geometry string, including the end of the base tag
-		String geometryString = createGeometryString();
-
-		//add sub strings to svg string-----------------------------------
-		svgString = svgString + commentString + startString + geometryString;
+	protected SvgNodeWriter getNodeWriter() {
+		return NODE_WRITER;
+	}
 
-		return svgString;
+	/**
+	 * Creates the snapshot for the given node from the given (scratch) svg node properties. The properties are copied
+	 * before the children of the node are captured, since the children reuse the scratch properties of the context.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @param warning
+	 *            a warning that is written as svg comment before the node or null
+	 * @param node
+	 * @return
+	 */
+	protected SvgNodeSnapshot createSnapshot(
+			SvgCaptureContext context,
+			SvgNodeProperties svgNodeProperties,
+			String warning,
+			Node node) {
+		SvgNodeProperties frozenProperties = new SvgNodeProperties();
+		frozenProperties.copyFrom(svgNodeProperties);
+		List<SvgNodeSnapshot> childSnapshots = captureChildren(context, node);
+		return new SvgPropertiesSnapshot(getNodeWriter(), frozenProperties, warning, childSnapshots);
 	}
 
 	/**
-	 * If the given node has children, this method adds the svg text for the children and then closes the svg tag for
-	 * the node.
+	 * Captures the snapshots of the children of the given node. Returns an empty list if the node is not a Parent.
 	 *
+	 * @param context
 	 * @param startNode
-	 * @param initialSvgString
 	 * @return
 	 */
-	protected String extendWithChildSvgCodeAndEndTag(String initialSvgString, Node startNode) {
-		String svgString = initialSvgString;
+	protected static List<SvgNodeSnapshot> captureChildren(SvgCaptureContext context, Node startNode) {
 		boolean isParent = startNode instanceof Parent;
+		if (!isParent) {
+			return Collections.emptyList();
+		}
+		Parent parent = (Parent) startNode;
+		List<Node> childNodes = parent.getChildrenUnmodifiable();
+		if (childNodes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<SvgNodeSnapshot> childSnapshots = new ArrayList<>(childNodes.size());
+		for (Node node : childNodes) {
+			childSnapshots.add(context.capture(node));
+		}
+		return Collections.unmodifiableList(childSnapshots);
+	}
+
+	/**
+	 * Adds the observable properties of the given node that are read by addDataFromNode and the list of children (if
+	 * the node is a Parent). Inheriting classes add the properties they read themselves.
+	 */
+	@Override
+	public void collectDependencies(T node, List<Observable> dependencies) {
+		dependencies.add(node.boundsInParentProperty());
+		dependencies.add(node.visibleProperty());
+		dependencies.add(node.opacityProperty());
+		dependencies.add(node.scaleXProperty());
+		dependencies.add(node.scaleYProperty());
+		dependencies.add(node.rotateProperty());
+		dependencies.add(node.rotationAxisProperty());
+		dependencies.add(node.idProperty());
+		dependencies.add(node.getStyleClass());
+		boolean isParent = node instanceof Parent;
 		if (isParent) {
-			NodeToSvgConverter nodeConverter = new NodeToSvgConverter();
-			Parent parent = (Parent) startNode;
-			List<Node> childNodes = parent.getChildrenUnmodifiable();
-			for (Node node : childNodes) {
-				nodeConverter.setIndentation(indentation);
-				svgString = nodeConverter.extendCode(svgString, node);
-			}
-
-			boolean hasChildren = !childNodes.isEmpty();
-			if (hasChildren) {
-
-				//add g-end tag
-				String groupEndString = "</g>\n";
-				decreaseIndentation();
-				svgString = svgString + indentation + groupEndString;
-
-			}
+			dependencies.add(((Parent) node).getChildrenUnmodifiable());
 		}
-		return svgString;
 	}
 
 	/**
-	 * Extracts svg properties directly from the given Node and applies them.
+	 * Resets the scratch svg node properties of the given context and applies the properties of the given Node.
 	 *
-	 * @param nodeProperties
+	 * @param context
 	 * @param node
+	 * @return the svg node properties
 	 */
-	protected void addDataFromNode(Node node) {
+	protected static SvgNodeProperties addDataFromNode(SvgCaptureContext context, Node node) {
 
-		svgNodeProperties = new SvgNodeProperties();
+		SvgNodeProperties svgNodeProperties = context.resetProperties();
 
 		//comment
-		String className = node.getClass().getName();
-		svgNodeProperties.addComment(className);
+		if (context.isVerboseCommentEnabled()) {
+			String className = node.getClass().getName();
+			svgNodeProperties.addComment(className);
 
-		String comment = createCssClassString(node);
-		svgNodeProperties.addComment(comment);
+			String comment = createCssClassString(node);
+			svgNodeProperties.addComment(comment);
+		}
 
 		//id
 		String id = node.getId();
@@ -148,195 +168,57 @@ public abstract class AbstractNodeToSvgConverter<T extends Node> implements Node
 		}
 
 		//opacity
-		Double opacity = node.getOpacity();
+		double opacity = node.getOpacity();
 		svgNodeProperties.setOpacity(opacity);
 
 		Bounds bounds = node.getBoundsInParent();
 
 		//x
-		Double x = bounds.getMinX();
+		double x = bounds.getMinX();
 		svgNodeProperties.setX(x);
 
 		//y
-		Double y = bounds.getMinY();
+		double y = bounds.getMinY();
 		svgNodeProperties.setY(y);
 
 		//x scale
-		Double xScale = node.getScaleX();
+		double xScale = node.getScaleX();
 		svgNodeProperties.setXScale(xScale);
 
 		//y scale
-		Double yScale = node.getScaleY();
+		double yScale = node.getScaleY();
 		svgNodeProperties.setYScale(yScale);
 
 		//rotation
-		Double rotation = node.getRotate();
+		double rotation = node.getRotate();
 		svgNodeProperties.setRotation(rotation);
 
 		//rotation axis
 		Point3D rotationAxis = node.getRotationAxis();
 
-		Double rotationAxisX = rotationAxis.getX();
+		double rotationAxisX = rotationAxis.getX();
 		svgNodeProperties.setRotationAxisX(rotationAxisX);
 
-		Double rotationAxisY = rotationAxis.getY();
+		double rotationAxisY = rotationAxis.getY();
 		svgNodeProperties.setRotationAxisY(rotationAxisY);
 
-	}
-
-	/**
-	 * Creates the SVG comment sub string that is placed before a svg node to tell something about its meaning. If no
-	 * comment is available and empty string is returned
-	 *
-	 * @param svgNodeProperties
-	 * @return
-	 */
-	protected String createCommentString() {
-		String comment = svgNodeProperties.getComment();
-		if (comment == null || comment.isEmpty()) {
-			return "";
-		} else {
-			String commentString = indentation + "<!--" + comment + " -->\n";
-			return commentString;
-		}
-	}
-
-	/**
-	 * Creates the SVG id sub string
-	 *
-	 * @return
-	 */
-	private String createIdString() {
-		String id = svgNodeProperties.getId();
-		boolean idExists = id != null && !id.isEmpty();
-		String idString = "";
-		if (idExists) {
-			idString = " id=\"" + id + "\"";
-		}
-		return idString;
-	}
-
-	/**
-	 * Creates the SVG style sub string
-	 *
-	 * @return
-	 */
-	private String createStyleString() {
-
-		String styleString = " style=\"";
-
-		styleString = styleString + createStyleContentString();
-
-		//style end
-		styleString = styleString + "\" ";
-
-		//avoid empty style
-		if (styleString.equals(" style=\"\" ")) {
-			styleString = "";
-		}
-
-		return styleString;
-	}
-
-	/**
-	 * Creates the content/value for the style string. This method might be overridden by inheriting classes.
-	 *
-	 * @return
-	 */
-	protected String createStyleContentString() {
-
-		String styleContent = "";
-
-		//visibility
-		SvgVisibility visibility = svgNodeProperties.getVisibility();
-		if (visibility != null) {
-			if (visibility != SvgVisibility.VISIBLE) {
-				styleContent = styleContent + "visibility:" + visibility.toString() + ";";
-			}
-		}
-
-		//opacity
-		Double opacity = svgNodeProperties.getOpacity();
-		if (opacity != null) {
-			if (!opacity.equals(1.0)) {
-				styleContent = styleContent + "opacity:" + opacity + ";";
-			}
-		}
-
-		return styleContent;
-	}
-
-	/**
-	 * Creates the SVG transform sub string
-	 *
-	 * @return
-	 */
-	protected String createTransformString() {
-		Double x = svgNodeProperties.getX();
-		Double y = svgNodeProperties.getY();
-		Double xScale = svgNodeProperties.getXScale();
-		Double yScale = svgNodeProperties.getYScale();
-
-		String transformString = "";
-		boolean hasTranslation = x != 0 || y != 0;
-		boolean hasScale = xScale != 1 || yScale != 1;
-		if (hasTranslation || hasScale) {
-
-			transformString = " transform=\"";
-			if (hasTranslation) {
-				transformString = transformString + "translate(" + x + "," + y + ") ";
-			}
-			if (hasScale) {
-				transformString = transformString + "scale(" + xScale + "," + yScale + ")";
-			}
-			transformString = transformString + "\" ";
-		}
-		return transformString;
-	}
-
-	/**
-	 * Creates the SVG start sub string. The arguments have to be passed because if the node contains children, a group
-	 * tag will be put as prefix and the id, style and transform information will be put in that group tag. If the node
-	 * does not contain children, the id, style and transform data will be put directly in the SVG node tag. This
-	 * contract has to be fulfilled by the inheriting classes.
-	 *
-	 * @param svgNodeProperties
-	 * @param idString
-	 * @param styleString
-	 * @param transformString
-	 * @return
-	 */
-	protected String createTagStartString(String idString, String styleString, String transformString) {
-		return indentation;
-	}
-
-	/**
-	 * Creates the geometry string, including the end of the (base) tag. (This does not include the end tag of a maybe
-	 * existing parent group.) See the inheriting classes for alternative implementations. This base implementation only
-	 * includes a warning and should be overridden.
-	 *
-	 * @param svgNodeProperties
-	 * @return
-	 */
-	protected String createGeometryString() {
-		//Something went wrong because geometry data is missing: include a SVG comment with a warning
-		String warningString = "<!-- warning: empty node geometry -->\n";
-		return warningString;
+		return svgNodeProperties;
 	}
 
 	/**
 	 * Tries to convert a given Paint to a hex color string. If the color can not be extracted a black default color is
 	 * used.
 	 *
+	 * @param context
 	 * @param paint
 	 * @return
 	 */
-	protected static String paintToColorString(Paint paint) {
+	protected static String paintToColorString(SvgCaptureContext context, Paint paint) {
 		String colorString = "transparent";
 		boolean isColor = paint instanceof Color;
 		if (isColor) {
 			Color color = (Color) paint;
-			colorString = colorToRGBCode(color);
+			colorString = context.getColorWriter().toColorCode(color);
 		}
 		return colorString;
 	}
@@ -344,28 +226,19 @@ public abstract class AbstractNodeToSvgConverter<T extends Node> implements Node
 	/**
 	 * Extracts a color string from the given background
 	 *
+	 * @param context
 	 * @param backGround
 	 * @return
 	 */
-	protected static String backgroundToColorString(Background backGround) {
+	protected static String backgroundToColorString(SvgCaptureContext context, Background backGround) {
 		Objects.requireNonNull(backGround, "Background must not be null");
 		List<BackgroundFill> fills = backGround.getFills();
 		BackgroundFill backgroundFill = fills.get(0);
 		Paint fill = backgroundFill.getFill();
-		String fillColor = paintToColorString(fill);
+		String fillColor = paintToColorString(context, fill);
 		return fillColor;
 	}
 
-	@SuppressWarnings("checkstyle:magicnumber")
-	private static String colorToRGBCode(Color color) {
-
-		int red = (int) (color.getRed() * 255);
-		int green = (int) (color.getGreen() * 255);
-		int blue = (int) (color.getBlue() * 255);
-
-		return String.format("#%02X%02X%02X", red, green, blue);
-	}
-
 	/**
 	 * Creates a string that includes all css classes of the node
 	 *
@@ -390,51 +263,6 @@ public abstract class AbstractNodeToSvgConverter<T extends Node> implements Node
 		return strokeDashArray;
 	}
 
-	//#region INDENTATION
-
-	/**
-	 * Increases the indentation
-	 */
-	public void increaseIndentation() {
-		indentation = indentation + "    ";
-	}
-
-	/**
-	 * Decreases the indentation
-	 *
-	 * @param indentation
-	 */
-	protected void decreaseIndentation() {
-		final int tablength = 4;
-		int endIndex = indentation.length() - tablength;
-		indentation = indentation.substring(0, endIndex);
-	}
-
-	//#end region
-
-	//#end region
-
-	//#region ACCESSORS
-
-	@Override
-	public String getIndentation() {
-		return indentation;
-	}
-
-	@Override
-	public void setIndentation(String indentation) {
-		this.indentation = indentation;
-	}
-
-	/**
-	 * Sets the svg node properties
-	 *
-	 * @param svgNodeProperties
-	 */
-	public void setSvgNodeProperties(SvgNodeProperties svgNodeProperties) {
-		this.svgNodeProperties = svgNodeProperties;
-	}
-
 	//#end region
 
 }
@@ -0,0 +1,61 @@
+package org.treez.results.javafxchart.svgconverter.converters;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.treez.results.javafxchart.svgconverter.writer.SvgColorWriter;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Encodes JavaFx colors as svg hex color codes with a SvgColorWriter. JavaFx colors are immutable and the css engine
+ * shares the same Color instances between many nodes. Therefore the color codes are memorized by identity of the
+ * Color instance. A writer must only be used by one thread at a time.
+ */
+public class JavaFxColorWriter {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The memo is cleared if it exceeds this size, so that exports with many (non-shared) colors do not use up memory
+	 */
+	private static final int MAX_MEMO_SIZE = 1024;
+
+	private final Map<Color, String> colorCodes = new IdentityHashMap<>();
+
+	private final SvgColorWriter colorWriter = new SvgColorWriter();
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public JavaFxColorWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Returns the hex color code of the given color
+	 *
+	 * @param color
+	 * @return
+	 */
+	public String toColorCode(Color color) {
+		String colorCode = colorCodes.get(color);
+		if (colorCode == null) {
+			colorCode = colorWriter.toColorCode(color.getRed(), color.getGreen(), color.getBlue());
+			if (colorCodes.size() >= MAX_MEMO_SIZE) {
+				colorCodes.clear();
+			}
+			colorCodes.put(color, colorCode);
+		}
+		return colorCode;
+	}
+
+	//#end region
+
+}
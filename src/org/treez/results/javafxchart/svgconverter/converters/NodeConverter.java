@@ -1,36 +1,44 @@
 package org.treez.results.javafxchart.svgconverter.converters;
 
+import java.util.List;
+
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+
+import javafx.beans.Observable;
 import javafx.scene.Node;
 
 /**
- * Converts a JavaFx Node to corresponding SVG code
- * 
+ * Converts a JavaFx Node to corresponding SVG code. The conversion has two phases: the converter captures the values
+ * of the node that are needed for the SVG code in an immutable snapshot; the snapshot writes the SVG code later,
+ * possibly on another thread. Converters are stateless: all state of a capture (options and scratch properties) is
+ * held by the given capture context. Therefore a single converter instance can be shared between exports and threads.
+ *
  * @param <T>
  */
 public interface NodeConverter<T extends Node> {
 
 	/**
-	 * Extends the initial code with the code for the given Node
-	 * @param code 
-	 * @param node
-	 * @return
-	 */
-	String extendCode(String code, T node);
-
-	/**
-	 * Returns the current indentation. The indentation is a string consisting of spaces. It is used as prefix
-	 * for lines to make the code easier to read. The size of the indentation may change while the code is
-	 * extended.
+	 * Captures the values of the given Node (and its children) that are needed to write its SVG code. This reads the
+	 * live node and has to be called on the JavaFx Application Thread if the node is part of a shown scene. The
+	 * returned snapshot must not reference the node or any other mutable JavaFx object.
 	 *
+	 * @param context
+	 * @param node
 	 * @return
 	 */
-	String getIndentation();
+	SvgNodeSnapshot capture(SvgCaptureContext context, T node);
 
 	/**
-	 * Sets the indentation
+	 * Adds the observables (properties and lists) of the given node whose values are read by capture to the given
+	 * list. An incremental export listens to these observables to detect changed nodes. A converter that does not add
+	 * any dependencies is treated as reading unknown values: its nodes are captured again for each export.
 	 *
-	 * @param indentation
+	 * @param node
+	 * @param dependencies
 	 */
-	void setIndentation(String indentation);
+	default void collectDependencies(T node, List<Observable> dependencies) {
+		//no known dependencies
+	}
 
 }
@@ -0,0 +1,44 @@
+package org.treez.results.javafxchart.svgconverter.converters;
+
+import javafx.scene.Node;
+
+/**
+ * Service provider interface for node converters. Implementations are discovered with java.util.ServiceLoader; list
+ * them in the file
+ * <code>META-INF/services/org.treez.results.javafxchart.svgconverter.converters.NodeConverterProvider</code>. A
+ * provider is responsible for its node class and all sub classes that do not have a more specific provider. If
+ * several providers are registered for the same node class, the one with the highest priority is used.
+ *
+ * @param <T>
+ */
+public interface NodeConverterProvider<T extends Node> {
+
+	/**
+	 * The priority of the built-in providers. Use a higher priority to replace a built-in converter.
+	 */
+	int BUILT_IN_PRIORITY = 0;
+
+	/**
+	 * Returns the node class the converters of this provider are responsible for
+	 *
+	 * @return
+	 */
+	Class<T> getNodeClass();
+
+	/**
+	 * Returns the priority of this provider. If several providers are registered for the same node class, the one with
+	 * the highest priority is used.
+	 *
+	 * @return
+	 */
+	int getPriority();
+
+	/**
+	 * Returns the converter for nodes of the node class. This might also be a converter for a super class of the node
+	 * class. Converters are stateless; the returned instance is shared by all exports and threads.
+	 *
+	 * @return
+	 */
+	NodeConverter<? super T> getConverter();
+
+}
@@ -0,0 +1,190 @@
+package org.treez.results.javafxchart.svgconverter.converters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.converters.control.LabelToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.converters.parent.GroupToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.converters.parent.ParentToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.converters.parent.RegionToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.converters.shape.ShapeToSvgConverter;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Shape;
+
+/**
+ * Dispatch table that determines which converter is responsible for a Node. The table is built once from the built-in
+ * providers and the providers that are discovered with the ServiceLoader (see {@link NodeConverterProvider}) and is
+ * immutable afterwards. The provider for a concrete node class is the provider of its most specific registered super
+ * class. It is resolved only once per concrete node class and then cached in a ClassValue, so the dispatch costs the
+ * same for every node, independent of the number of supported types.
+ */
+public final class NodeConverterRegistry {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(NodeConverterRegistry.class);
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The provider with the highest priority for each registered node class
+	 */
+	private static final Map<Class<?>, NodeConverterProvider<?>> PROVIDERS = createProviderTable();
+
+	/**
+	 * Caches the converter for each concrete node class
+	 */
+	private static final ClassValue<NodeConverter<?>> RESOLVED_CONVERTERS = new ClassValue<NodeConverter<?>>() {
+
+		@Override
+		protected NodeConverter<?> computeValue(Class<?> nodeClass) {
+			return resolveProvider(nodeClass).getConverter();
+		}
+	};
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private NodeConverterRegistry() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Returns the (stateless, shared) converter for the given Node
+	 *
+	 * @param node
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static NodeConverter<Node> getConverter(Node node) {
+		//the converter has been resolved for the class of the node, so it accepts the node
+		return (NodeConverter<Node>) RESOLVED_CONVERTERS.get(node.getClass());
+	}
+
+	/**
+	 * Creates the immutable provider table from the built-in providers and the providers that are found by the
+	 * ServiceLoader
+	 *
+	 * @return
+	 */
+	private static Map<Class<?>, NodeConverterProvider<?>> createProviderTable() {
+		Map<Class<?>, NodeConverterProvider<?>> providerTable = new HashMap<>();
+		for (NodeConverterProvider<?> provider : createBuiltInProviders()) {
+			registerProvider(providerTable, provider);
+		}
+		for (NodeConverterProvider<?> provider : loadServiceProviders()) {
+			registerProvider(providerTable, provider);
+		}
+		return Collections.unmodifiableMap(providerTable);
+	}
+
+	/**
+	 * Creates the providers for the built-in converters. The type hierarchy of Node is as follows:
+	 *
+	 * <pre>
+	 *  * Node (x: warning)
+	 *    ** Canvas (x: warning)
+	 *    ** Parent (x)
+	 *       *** Group (x)
+	 *       *** Region (x)
+	 *           **** Control (x: handled as Region)
+	 *                ***** Label (x)
+	 *                ***** ...
+	 *           **** ...
+	 *       *** WebView
+	 *    ** Shape (x)
+	 *       *** Text (x: handled as text element or as outlines, see SvgTextMode)
+	 *    ** ...
+	 * </pre>
+	 *
+	 * @return
+	 */
+	private static List<NodeConverterProvider<?>> createBuiltInProviders() {
+		final int priority = NodeConverterProvider.BUILT_IN_PRIORITY;
+		List<NodeConverterProvider<?>> providers = new ArrayList<>();
+		providers.add(new SimpleNodeConverterProvider<>(Node.class, priority, new UnsupportedNodeToSvgConverter()));
+		providers.add(new SimpleNodeConverterProvider<>(Canvas.class, priority,
+				new UnsupportedNodeToSvgConverter("Warning: the Canvas class is not yet implemented")));
+		providers.add(new SimpleNodeConverterProvider<>(Shape.class, priority, new ShapeToSvgConverter()));
+		providers.add(new SimpleNodeConverterProvider<>(Parent.class, priority, new ParentToSvgConverter()));
+		providers.add(new SimpleNodeConverterProvider<>(Group.class, priority, new GroupToSvgConverter()));
+		providers.add(new SimpleNodeConverterProvider<>(Region.class, priority, new RegionToSvgConverter()));
+		providers.add(new SimpleNodeConverterProvider<>(Label.class, priority, new LabelToSvgConverter()));
+		return providers;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static List<NodeConverterProvider<?>> loadServiceProviders() {
+		List<NodeConverterProvider<?>> providers = new ArrayList<>();
+		Iterator<NodeConverterProvider> iterator = ServiceLoader.load(NodeConverterProvider.class).iterator();
+		while (true) {
+			try {
+				if (!iterator.hasNext()) {
+					break;
+				}
+				NodeConverterProvider<?> provider = iterator.next();
+				sysLog.info("Found node converter provider " + provider.getClass().getName() + " for "
+						+ provider.getNodeClass().getName());
+				providers.add(provider);
+			} catch (ServiceConfigurationError error) {
+				sysLog.error("Could not load node converter provider", error);
+			}
+		}
+		return providers;
+	}
+
+	private static void registerProvider(
+			Map<Class<?>, NodeConverterProvider<?>> providerTable,
+			NodeConverterProvider<?> provider) {
+		Class<?> nodeClass = provider.getNodeClass();
+		NodeConverterProvider<?> existingProvider = providerTable.get(nodeClass);
+		if (existingProvider == null || provider.getPriority() > existingProvider.getPriority()) {
+			providerTable.put(nodeClass, provider);
+		} else if (provider.getPriority() == existingProvider.getPriority()) {
+			String message = "The node converter provider " + provider.getClass().getName() + " for "
+					+ nodeClass.getName() + " is ignored since the provider " + existingProvider.getClass().getName()
+					+ " has the same priority.";
+			sysLog.warn(message);
+		}
+	}
+
+	/**
+	 * Determines the provider of the most specific registered super class of the given node class
+	 *
+	 * @param nodeClass
+	 * @return
+	 */
+	private static NodeConverterProvider<?> resolveProvider(Class<?> nodeClass) {
+		for (Class<?> currentClass = nodeClass; currentClass != null; currentClass = currentClass.getSuperclass()) {
+			NodeConverterProvider<?> provider = PROVIDERS.get(currentClass);
+			if (provider != null) {
+				return provider;
+			}
+		}
+		String message = "Could not find a node converter for " + nodeClass.getName();
+		throw new IllegalStateException(message);
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,61 @@
+package org.treez.results.javafxchart.svgconverter.converters;
+
+import java.util.Objects;
+
+import javafx.scene.Node;
+
+/**
+ * A NodeConverterProvider that provides a given (stateless) converter. Custom providers that are registered for
+ * the ServiceLoader can extend this class and pass their arguments from a public no-argument constructor.
+ *
+ * @param <T>
+ */
+public class SimpleNodeConverterProvider<T extends Node> implements NodeConverterProvider<T> {
+
+	//#region ATTRIBUTES
+
+	private final Class<T> nodeClass;
+
+	private final int priority;
+
+	private final NodeConverter<? super T> converter;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param nodeClass
+	 * @param priority
+	 * @param converter
+	 */
+	public SimpleNodeConverterProvider(Class<T> nodeClass, int priority, NodeConverter<? super T> converter) {
+		this.nodeClass = Objects.requireNonNull(nodeClass, "Node class must not be null.");
+		this.priority = priority;
+		this.converter = Objects.requireNonNull(converter, "Converter must not be null.");
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	@Override
+	public Class<T> getNodeClass() {
+		return nodeClass;
+	}
+
+	@Override
+	public int getPriority() {
+		return priority;
+	}
+
+	@Override
+	public NodeConverter<? super T> getConverter() {
+		return converter;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,75 @@
+package org.treez.results.javafxchart.svgconverter.converters;
+
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgWarningSnapshot;
+
+import javafx.beans.Observable;
+import javafx.scene.Node;
+
+/**
+ * Handles Nodes whose conversion is not yet implemented: only writes a warning comment
+ */
+public class UnsupportedNodeToSvgConverter extends AbstractNodeToSvgConverter<Node> {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(UnsupportedNodeToSvgConverter.class);
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The warning to write; if this is null, a warning that includes the class of the node is written
+	 */
+	private final String warning;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public UnsupportedNodeToSvgConverter() {
+		this(null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param warning
+	 */
+	public UnsupportedNodeToSvgConverter(String warning) {
+		this.warning = warning;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Node node) {
+		String warning = this.warning;
+		if (warning == null) {
+			warning = "Warning: the class '" + node.getClass().getName() + "' is not yet implemented";
+		}
+		sysLog.warn(warning);
+		return new SvgWarningSnapshot(warning);
+	}
+
+	/**
+	 * The warning only depends on the class of the node. The parent is added as dependency, so that the node is not
+	 * captured again for each incremental export.
+	 */
+	@Override
+	public void collectDependencies(Node node, List<Observable> dependencies) {
+		dependencies.add(node.parentProperty());
+	}
+
+	//#end region
+
+}
@@ -3,10 +3,13 @@ package org.treez.results.javafxchart.svgconverter.converters.control;
 import java.util.List;
 import java.util.Objects;
 
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
 import org.treez.results.javafxchart.svgconverter.converters.AbstractNodeToSvgConverter;
-import org.treez.results.javafxchart.svgconverter.converters.NodeToSvgConverter;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextAnchor;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgLabelSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
 
+import javafx.beans.Observable;
 import javafx.geometry.Bounds;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
@@ -22,7 +25,7 @@ import javafx.scene.text.Text;
  */
 public class LabelToSvgConverter extends AbstractNodeToSvgConverter<Label> {
 
-	
+
 	//#region CONSTRUCTORS
 
 	//#end region
@@ -30,134 +33,116 @@ public class LabelToSvgConverter extends AbstractNodeToSvgConverter<Label> {
 	//#region METHODS
 
 	/**
-	 * Converts a Label to SVG code (without SVG header and end tags)
-	 *
-	 * @return
+	 * Captures a snapshot of a Label that writes its SVG code (without SVG header and end tags)
 	 */
 	@Override
-	public String extendCode(String initialSvgString, Label label) {
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Label label) {
 
 		//comment
-		String commentString = createComment(label);
+		String comment = createComment(context, label);
 
 		//label image
-		String imageSvgString = createImageSvgStringFromLabel(label);
+		Node image = label.getGraphic();
+		boolean hasImage = image != null;
+		SvgNodeSnapshot imageSnapshot = null;
+		if (hasImage) {
+			imageSnapshot = context.capture(image);
+		}
 
 		//text
 		String text = label.getText();
 
 		//background color
-		String backgroundFill = determineBackgroundFill(label);
-		boolean hasBackground = backgroundFill != null;
+		String backgroundFill = determineBackgroundFill(context, label);
 
 		//x & y
-		List<Node> childNodes = label.getChildrenUnmodifiable();
-		Text textNode = null;
-		for (Node childNode : childNodes) {
-			boolean isText = childNode instanceof Text;
-			if (isText) {
-				textNode = (Text) childNode;
-				break;
-			}
-		}
-
+		Text textNode = findTextNode(label);
 		Objects.requireNonNull(textNode, "Could not retrive Text node from Label.");
 
 		Bounds bounds = label.getBoundsInParent();
-		Double xl = bounds.getMinX();
-		Double yl = bounds.getMinY();
+		double xl = bounds.getMinX();
+		double yl = bounds.getMinY();
 
 		Bounds textBounds = textNode.getBoundsInParent();
-		Double xt = textBounds.getMinX();
-		Double yt = textBounds.getMinY();
+		double xt = textBounds.getMinX();
+		double yt = textBounds.getMinY();
+		double textWidth = textBounds.getWidth();
+		double textHeight = textBounds.getHeight();
 
-		Double x = xl + xt;
-		Double yField = yl + yt;
+		double x = xl + xt;
+		double yField = yl + yt;
 
 		//Bounds bounds = label.getBoundsInParent();
 		//Double x = bounds.getMinX();
-		boolean hasImage = !imageSvgString.isEmpty();
 		if (hasImage) {
-			Node image = label.getGraphic();
-			Double xOffset = image.getBoundsInParent().getMaxX();
+			double xOffset = image.getBoundsInParent().getMaxX();
 			x = x + xOffset;
 		}
-		Double baseLineOffset = label.getBaselineOffset();
-		Double y = yField + baseLineOffset;
+		double baseLineOffset = label.getBaselineOffset();
+		double y = yField + baseLineOffset;
 
 		//font
 		Font font = label.getFont();
 		String fontFamily = font.getFamily();
-		Double fontSize = font.getSize();
+		double fontSize = font.getSize();
 
 		//font color
 		Paint textFill = label.getTextFill();
-		String fill = paintToColorString(textFill);
+		String fill = paintToColorString(context, textFill);
 
 		//text anchor (horizontal alignment)
 		SvgTextAnchor textAnchor = determineTextAnchor(label);
 
-		//comment
-		String svgString = commentString;
-
-		//<rect> start
-		boolean wrapInRect = hasImage || hasBackground;
-		if (wrapInRect) {
-			svgString = includeRectStartTag(svgString, imageSvgString, backgroundFill, hasBackground, textBounds);
-		}
-
-		//<text> start
-		svgString = includeTextStartTag(svgString, x, y, fontFamily, fontSize, fill, textAnchor);
-
-		//<text> content
-		svgString = svgString + text;
-
-		//<text> end
-		svgString = svgString + "</text>\n\n";
+		return new SvgLabelSnapshot(comment, imageSnapshot, text, backgroundFill, textWidth, textHeight, x, y,
+				fontFamily, fontSize, fill, textAnchor);
+	}
 
-		//<rect> end
-		if (wrapInRect) {
-			decreaseIndentation();
-			svgString = includeRectEndTag(svgString);
+	@Override
+	public void collectDependencies(Label label, List<Observable> dependencies) {
+		super.collectDependencies(label, dependencies);
+		dependencies.add(label.widthProperty());
+		dependencies.add(label.heightProperty());
+		dependencies.add(label.backgroundProperty());
+		dependencies.add(label.textProperty());
+		dependencies.add(label.fontProperty());
+		dependencies.add(label.textFillProperty());
+		dependencies.add(label.graphicProperty());
+		dependencies.add(label.alignmentProperty());
+		dependencies.add(label.paddingProperty());
+		dependencies.add(label.labelPaddingProperty());
+		dependencies.add(label.graphicTextGapProperty());
+		dependencies.add(label.contentDisplayProperty());
+		dependencies.add(label.textAlignmentProperty());
+		dependencies.add(label.wrapTextProperty());
+
+		//the position of the text is read from the text node of the skin
+		Text textNode = findTextNode(label);
+		if (textNode != null) {
+			dependencies.add(textNode.boundsInParentProperty());
 		}
-
-		return svgString;
-
 	}
 
-	private String includeTextStartTag(
-			String initialSvgString,
-			Double x,
-			Double y,
-			String fontFamily,
-			Double fontSize,
-			String fill,
-			SvgTextAnchor textAnchor) {
-		//@formatter:off
-		String svgString = initialSvgString + indentation + "<text"
-				+ " x=\""+ x + "\""
-				+ " y=\""+ y + "\""
-				+ " font-family=\""+ fontFamily + "\""
-				+ " font-size=\""+ fontSize + "\"";
-		//@formatter:on
-
-		if (fill != null) {
-			svgString = svgString + " fill=\"" + fill + "\"";
+	/**
+	 * Returns the text node of the skin of the given Label
+	 *
+	 * @param label
+	 * @return the text node or null if the label has no skin yet
+	 */
+	private static Text findTextNode(Label label) {
+		for (Node childNode : label.getChildrenUnmodifiable()) {
+			boolean isText = childNode instanceof Text;
+			if (isText) {
+				return (Text) childNode;
+			}
 		}
-
-		//if (!textAnchor.equals(SvgTextAnchor.LEFT)) {
-		svgString = svgString + " text-anchor=\"" + textAnchor + "\"";
-		//}
-
-		svgString = svgString + ">";
-		return svgString;
+		return null;
 	}
 
-	private static String determineBackgroundFill(Label label) {
+	private static String determineBackgroundFill(SvgCaptureContext context, Label label) {
 		String backgroundFill = null;
 		Background background = label.getBackground();
 		if (background != null) {
-			backgroundFill = backgroundToColorString(background);
+			backgroundFill = backgroundToColorString(context, background);
 		}
 		return backgroundFill;
 	}
@@ -184,57 +169,14 @@ public class LabelToSvgConverter extends AbstractNodeToSvgConverter<Label> {
 		return textAnchor;
 	}
 
-	private String includeRectStartTag(
-			String initialSvgString,
-			String imageSvgString,
-			String backgroundFill,
-			boolean hasBackground,
-			Bounds bounds) {
-
-		String svgString = initialSvgString + indentation + "<g>\n";
-		increaseIndentation();
-		Double width = bounds.getWidth();
-		Double height = bounds.getHeight();
-		String rectString = "<rect width=\"" + width + "\" height=\"" + height + "\"";
-		if (hasBackground) {
-			rectString = rectString + " fill=\"" + backgroundFill + "\"";
+	private static String createComment(SvgCaptureContext context, Label label) {
+		if (!context.isVerboseCommentEnabled()) {
+			return null;
 		}
-		rectString = rectString + "/>\n\n";
-		svgString = svgString + indentation + rectString;
-
-		svgString = svgString + imageSvgString;
-		return svgString;
-	}
-
-	private String includeRectEndTag(String initialSvgString) {
-		String svgString = initialSvgString + indentation + "</g>\n\n";
-		return svgString;
-	}
-
-	private String createComment(Label label) {
 		String className = label.getClass().getName();
 		String styleClassComment = createCssClassString(label);
-		String commentString = indentation + "<!-- " + className;
-		if (!commentString.isEmpty()) {
-			commentString = commentString + " | " + styleClassComment;
-		}
-		commentString = commentString + " | => handled as Label -->\n";
-
-		return commentString;
-	}
-
-	private String createImageSvgStringFromLabel(Label label) {
-		String imageSvgString = "";
-		Node image = label.getGraphic();
-		if (image != null) {
-
-			NodeToSvgConverter nodeConverter = new NodeToSvgConverter();
-			nodeConverter.setIndentation(indentation);
-			nodeConverter.increaseIndentation();
-			imageSvgString = nodeConverter.extendCode("", image);
-
-		}
-		return imageSvgString;
+		String comment = " " + className + " | " + styleClassComment + " | => handled as Label ";
+		return comment;
 	}
 
 	//#end region
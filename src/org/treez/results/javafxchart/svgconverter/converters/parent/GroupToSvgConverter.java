@@ -1,8 +1,11 @@
 package org.treez.results.javafxchart.svgconverter.converters.parent;
 
-import java.util.Objects;
-
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
 import org.treez.results.javafxchart.svgconverter.converters.AbstractNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGroupWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
 
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
@@ -12,34 +15,39 @@ import javafx.scene.Group;
  *
  */
 public class GroupToSvgConverter extends AbstractNodeToSvgConverter<Group> {
-	
-	
-	//#region METHODS
 
-	@Override
-	public String extendCode(String initialSvgString, Group group) {
+	//#region ATTRIBUTES
 
-		addDataFromGroup(group);
+	private static final SvgNodeWriter NODE_WRITER = new SvgGroupWriter();
 
-		//create svg string from svg node properties
-		String svgString = initialSvgString + createSvgString();
+	//#end region
 
-		//add svg text for child nodes and add the "g-end tag" if the node has children
-		svgString = extendWithChildSvgCodeAndEndTag(svgString, group);
+	//#region METHODS
+
+	@Override
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Group group) {
 
-		return svgString;
+		SvgNodeProperties svgNodeProperties = addDataFromNode(context, group);
+		ParentToSvgConverter.addDataFromParent(svgNodeProperties, group);
+		addDataFromGroup(context, svgNodeProperties, group);
+
+		//capture the child nodes; the "g-end tag" is written if the node has children
+		return createSnapshot(context, svgNodeProperties, null, group);
 	}
 
 	/**
 	 * Extracts svg properties directly from the given Group and applies them.
 	 *
-	 * @param nodeProperties
-	 * @param node
+	 * @param context
+	 * @param svgNodeProperties
+	 * @param group
 	 */
-	private void addDataFromGroup(Group group) {
+	private static void addDataFromGroup(SvgCaptureContext context, SvgNodeProperties svgNodeProperties, Group group) {
 
 		//comment
-		svgNodeProperties.addComment("=> handled as Group");
+		if (context.isVerboseCommentEnabled()) {
+			svgNodeProperties.addComment("=> handled as Group");
+		}
 
 		//isGroup
 		svgNodeProperties.setIsGroup(true);
@@ -47,10 +55,10 @@ public class GroupToSvgConverter extends AbstractNodeToSvgConverter<Group> {
 		//x & y
 		Bounds bounds = group.getBoundsInParent();
 
-		Double x = bounds.getMinX();
+		double x = bounds.getMinX();
 		svgNodeProperties.setX(x);
 
-		Double y = bounds.getMinY();
+		double y = bounds.getMinY();
 		svgNodeProperties.setY(y);
 
 		//a group does not have an own shape
@@ -59,35 +67,8 @@ public class GroupToSvgConverter extends AbstractNodeToSvgConverter<Group> {
 	}
 
 	@Override
-	protected String createTagStartString(String idString, String styleString, String transformString) {
-
-		Objects.requireNonNull(svgNodeProperties, "svg node propeties must not be null.");
-
-		boolean hasChildren = svgNodeProperties.hasChildren();
-
-		String startString = "";
-		if (hasChildren) {
-			//add a group tag as prefix and include the id, style and transform into that group tag
-			startString = startString + indentation + "<g" + idString + styleString + transformString + ">\n";
-			increaseIndentation();
-
-		} else {
-			//create individual tag and directly include id, style and transform
-			startString = startString + indentation + "<g" + idString + styleString + transformString;
-		}
-
-		return startString;
-	}
-
-	/**
-	 * Creates the geometry string (empty for a group).
-	 *
-	 * @param svgNodeProperties
-	 * @return
-	 */
-	@Override
-	protected String createGeometryString() {
-		return "";
+	protected SvgNodeWriter getNodeWriter() {
+		return NODE_WRITER;
 	}
 
 	//#end region	
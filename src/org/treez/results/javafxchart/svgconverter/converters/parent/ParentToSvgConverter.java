@@ -3,13 +3,13 @@ package org.treez.results.javafxchart.svgconverter.converters.parent;
 import java.util.List;
 
 import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
 import org.treez.results.javafxchart.svgconverter.converters.AbstractNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
 
-import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.layout.Region;
-import javafx.scene.web.WebView;
 
 /**
  * Converts a Parent to SVG code
@@ -38,79 +38,39 @@ public class ParentToSvgConverter extends AbstractNodeToSvgConverter<Parent> {
 	 *       *** WebView
 	 * </pre>
 	 *
-	 * (The special case of a Control should already have been handled.)
-	 *
-	 * @return
+	 * (Region, Group and Control are handled by their own converters. This converter only handles the remaining
+	 * Parents, e.g. WebView.)
 	 */
 
 	@Override
-	public String extendCode(String initialSvgString, Parent parent) {
-
-		addDataFromNode(parent);
-		addDataFromParent(parent);
-
-		//inheriting classes
-		boolean isRegion = parent instanceof Region;
-		if (isRegion) {
-			//handle Node=>Parent=>Region
-			Region region = (Region) parent;
-			RegionToSvgConverter regionConverter = new RegionToSvgConverter();
-			regionConverter.setIndentation(indentation);
-			regionConverter.setSvgNodeProperties(svgNodeProperties);
-			String svgString = regionConverter.extendCode(initialSvgString, region);
-			return svgString;
-		} else {
-
-			boolean isGroup = parent instanceof Group;
-			if (isGroup) {
-				//handle Node=>Parent=>Group
-				Group group = (Group) parent;
-				GroupToSvgConverter groupConverter = new GroupToSvgConverter();
-				groupConverter.setIndentation(indentation);
-				groupConverter.setSvgNodeProperties(svgNodeProperties);
-				String svgString = groupConverter.extendCode(initialSvgString, group);
-				return svgString;
-			} else {
-				boolean isWebView = parent instanceof WebView;
-				if (isWebView) {
-					//handle Node=>Parent=>WebView
-
-				}
-
-				//handle Node=>Parent=> remaining ?xyz?
-
-				String className = parent.getClass().getName();
-				String comment = "Warning: The class '" + className
-						+ "' does not derive from Region or Group and is not yet implemented";
-				sysLog.warn(comment);
-				String svgString = initialSvgString + indentation + "<!--" + comment + "-->\n";
-
-				//create svg string from svg node properties
-				svgString = svgString + createSvgString();
-
-				//add svg text for child nodes and add the "g-end tag" if the node has children
-				svgString = extendWithChildSvgCodeAndEndTag(svgString, parent);
-
-				return svgString;
-
-			}
-
-		}
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Parent parent) {
+
+		SvgNodeProperties svgNodeProperties = addDataFromNode(context, parent);
+		addDataFromParent(svgNodeProperties, parent);
+
+		//handle Node=>Parent=> remaining ?xyz?
+		String className = parent.getClass().getName();
+		String comment = "Warning: The class '" + className
+				+ "' does not derive from Region or Group and is not yet implemented";
+		sysLog.warn(comment);
+
+		//capture the child nodes; the warning is written as comment before the node
+		return createSnapshot(context, svgNodeProperties, comment, parent);
 
 	}
 
 	/**
 	 * Extracts svg properties directly from the given Parent and applies them.
 	 *
-	 * @param nodeProperties
-	 * @param node
+	 * @param properties
+	 * @param parent
 	 */
-	private void addDataFromParent(Parent parent) {
+	public static void addDataFromParent(SvgNodeProperties properties, Parent parent) {
 
 		//hasChildren
 		List<Node> children = parent.getChildrenUnmodifiable();
 		boolean hasChildren = !children.isEmpty();
-		svgNodeProperties.setHasChildren(hasChildren);
+		properties.setHasChildren(hasChildren);
 
 	}
 
@@ -25,7 +25,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
 
-import com.sun.javafx.scene.control.skin.LabeledText;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNumberWriter;
 
 import javafx.geometry.Bounds;
 import javafx.scene.shape.Arc;
@@ -61,52 +62,72 @@ public class ShapeConverter {
 
 	private static final double KAPPA = 0.5522847498307935;
 
+	/**
+	 * Caches the path conversion for each concrete shape class. A shape class that has no conversion of its own uses
+	 * the conversion of its nearest super class (e.g. LabeledText uses the conversion of Text).
+	 */
+	private static final ClassValue<PathConverter> PATH_CONVERTERS = new ClassValue<PathConverter>() {
+
+		@Override
+		protected PathConverter computeValue(Class<?> shapeClass) {
+			return determinePathConverter(shapeClass);
+		}
+	};
+
 	public static String shapeToSvgString(final Shape shape) {
-		final StringBuilder fxPath = new StringBuilder();
-		if (Line.class.equals(shape.getClass())) {
-			fxPath.append(convertLine((Line) shape));
-		} else if (Arc.class.equals(shape.getClass())) {
-			fxPath.append(convertArc((Arc) shape));
-		} else if (QuadCurve.class.equals(shape.getClass())) {
-			fxPath.append(convertQuadCurve((QuadCurve) shape));
-		} else if (CubicCurve.class.equals(shape.getClass())) {
-			fxPath.append(convertCubicCurve((CubicCurve) shape));
-		} else if (Rectangle.class.equals(shape.getClass())) {
-			fxPath.append(convertRectangle((Rectangle) shape));
-		} else if (Circle.class.equals(shape.getClass())) {
-			fxPath.append(convertCircle((Circle) shape));
-		} else if (Ellipse.class.equals(shape.getClass())) {
-			fxPath.append(convertEllipse((Ellipse) shape));
-		} else if (Text.class.equals(shape.getClass())) {
-			Bounds bounds = shape.getBoundsInParent();
-			Double x = bounds.getMinX();
-			Double y = bounds.getMinY();
-			Double width = bounds.getWidth();
-			Double height = bounds.getHeight();
-			Path path = (Path) (Shape.subtract(shape, new Rectangle(x, y, width, height)));
-			fxPath.append(convertPath(path));
-		} else if (LabeledText.class.equals(shape.getClass())) {
-			Bounds bounds = shape.getBoundsInParent();
-			Double x = bounds.getMinX();
-			Double y = bounds.getMinY();
-			Double width = bounds.getWidth();
-			Double height = bounds.getHeight();
-			Path path = (Path) (Shape.subtract(shape, new Rectangle(x, y, width, height)));
-			fxPath.append(convertPath(path));
-		} else if (Path.class.equals(shape.getClass())) {
-			fxPath.append(convertPath((Path) shape));
-		} else if (Polygon.class.equals(shape.getClass())) {
-			fxPath.append(convertPolygon((Polygon) shape));
-		} else if (Polyline.class.equals(shape.getClass())) {
-			fxPath.append(convertPolyline((Polyline) shape));
-		} else if (SVGPath.class.equals(shape.getClass())) {
-			fxPath.append(((SVGPath) shape).getContent());
-		} else {
-			String infoComment = "<!-- Warning: unable to convert shape of class " + shape.getClass().getSimpleName()
-					+ "-->";
-			fxPath.append(infoComment);
+		return shapeToSvgString(shape, new SvgNumberWriter());
+	}
+
+	public static String shapeToSvgString(final Shape shape, final SvgNumberWriter NUMBER_WRITER) {
+		return shapeToPathData(shape).toSvgString(NUMBER_WRITER);
+	}
+
+	public static SvgPathData shapeToPathData(final Shape shape) {
+		return PATH_CONVERTERS.get(shape.getClass()).convert(shape);
+	}
+
+	private static PathConverter determinePathConverter(final Class<?> SHAPE_CLASS) {
+		for (Class<?> currentClass = SHAPE_CLASS; currentClass != null; currentClass = currentClass.getSuperclass()) {
+			if (Line.class.equals(currentClass)) {
+				return shape -> lineToPathData((Line) shape);
+			} else if (Arc.class.equals(currentClass)) {
+				return shape -> arcToPathData((Arc) shape);
+			} else if (QuadCurve.class.equals(currentClass)) {
+				return shape -> quadCurveToPathData((QuadCurve) shape);
+			} else if (CubicCurve.class.equals(currentClass)) {
+				return shape -> cubicCurveToPathData((CubicCurve) shape);
+			} else if (Rectangle.class.equals(currentClass)) {
+				return shape -> rectangleToPathData((Rectangle) shape);
+			} else if (Circle.class.equals(currentClass)) {
+				return shape -> circleToPathData((Circle) shape);
+			} else if (Ellipse.class.equals(currentClass)) {
+				return shape -> ellipseToPathData((Ellipse) shape);
+			} else if (Text.class.equals(currentClass)) {
+				//also handles LabeledText
+				return ShapeConverter::textToPathData;
+			} else if (Path.class.equals(currentClass)) {
+				return shape -> pathToPathData((Path) shape);
+			} else if (Polygon.class.equals(currentClass)) {
+				return shape -> polygonToPathData((Polygon) shape);
+			} else if (Polyline.class.equals(currentClass)) {
+				return shape -> polylineToPathData((Polyline) shape);
+			} else if (SVGPath.class.equals(currentClass)) {
+				return shape -> SvgPathData.fromRawData(((SVGPath) shape).getContent());
+			}
 		}
-		return fxPath.toString();
+		final SvgPathData INFO_COMMENT = SvgPathData.fromRawData(
+				"<!-- Warning: unable to convert shape of class " + SHAPE_CLASS.getSimpleName() + "-->");
+		return shape -> INFO_COMMENT;
+	}
+
+	private static SvgPathData textToPathData(final Shape TEXT) {
+		Bounds bounds = TEXT.getBoundsInParent();
+		double x = bounds.getMinX();
+		double y = bounds.getMinY();
+		double width = bounds.getWidth();
+		double height = bounds.getHeight();
+		Path path = (Path) (Shape.subtract(TEXT, new Rectangle(x, y, width, height)));
+		return pathToPathData(path);
 	}
 
 	public static SVGPath shapeToSvgPath(final Shape SHAPE) {
@@ -127,22 +148,22 @@ public class ShapeConverter {
 	}
 
 	public static String convertLine(final Line LINE) {
-		final StringBuilder fxPath = new StringBuilder();
-		fxPath
-				.append("M ")
-				.append(LINE.getStartX())
-				.append(" ")
-				.append(LINE.getStartY())
-				.append(" ")
-				.append("L ")
-				.append(LINE.getEndX())
-				.append(" ")
-				.append(LINE.getEndY());
-		return fxPath.toString();
+		return lineToPathData(LINE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData lineToPathData(final Line LINE) {
+		return new SvgPathData.Builder()
+				.moveTo(LINE.getStartX(), LINE.getStartY())
+				.lineTo(LINE.getEndX(), LINE.getEndY())
+				.build();
 	}
 
 	public static String convertArc(final Arc ARC) {
-		StringBuilder fxPath = new StringBuilder();
+		return arcToPathData(ARC).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData arcToPathData(final Arc ARC) {
+		final SvgPathData.Builder fxPath = new SvgPathData.Builder();
 		double centerX = ARC.getCenterX();
 		double centerY = ARC.getCenterY();
 		double radiusX = ARC.getRadiusX();
@@ -158,101 +179,61 @@ public class ShapeConverter {
 		double endY = centerY + radiusY * Math.sin(endAngle);
 
 		int xAxisRot = 0;
-		int largeArc = (length > 180) ? 1 : 0;
-		int sweep = (length < 0) ? 1 : 0;
+		boolean largeArc = length > 180;
+		boolean sweep = length < 0;
 
-		fxPath.append("M ").append(centerX).append(" ").append(centerY).append(" ");
+		fxPath.moveTo(centerX, centerY);
 
 		if (ArcType.ROUND == ARC.getType()) {
-			fxPath.append("l ").append(startX).append(" ").append(startY).append(" ");
+			fxPath.relativeLineTo(startX, startY);
 		}
 
-		fxPath
-				.append("A ")
-				.append(radiusX)
-				.append(" ")
-				.append(radiusY)
-				.append(" ")
-				.append(xAxisRot)
-				.append(" ")
-				.append(largeArc)
-				.append(" ")
-				.append(sweep)
-				.append(" ")
-				.append(endX)
-				.append(" ")
-				.append(endY)
-				.append(" ");
+		fxPath.arcTo(radiusX, radiusY, xAxisRot, largeArc, sweep, endX, endY);
 		if (ArcType.CHORD == ARC.getType() || ArcType.ROUND == ARC.getType()) {
-			fxPath.append("Z");
+			fxPath.closePath();
 		}
-		return fxPath.toString();
+		return fxPath.build();
 	}
 
 	public static String convertQuadCurve(final QuadCurve QUAD_CURVE) {
-		final StringBuilder fxPath = new StringBuilder();
-		fxPath
-				.append("M ")
-				.append(QUAD_CURVE.getStartX())
-				.append(" ")
-				.append(QUAD_CURVE.getStartY())
-				.append(" ")
-				.append("Q ")
-				.append(QUAD_CURVE.getControlX())
-				.append(" ")
-				.append(QUAD_CURVE.getControlY())
-				.append(QUAD_CURVE.getEndX())
-				.append(" ")
-				.append(QUAD_CURVE.getEndY());
-		return fxPath.toString();
+		return quadCurveToPathData(QUAD_CURVE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData quadCurveToPathData(final QuadCurve QUAD_CURVE) {
+		return new SvgPathData.Builder()
+				.moveTo(QUAD_CURVE.getStartX(), QUAD_CURVE.getStartY())
+				.quadCurveTo(QUAD_CURVE.getControlX(), QUAD_CURVE.getControlY(), QUAD_CURVE.getEndX(),
+						QUAD_CURVE.getEndY())
+				.build();
 	}
 
 	public static String convertCubicCurve(final CubicCurve CUBIC_CURVE) {
-		final StringBuilder fxPath = new StringBuilder();
-		fxPath
-				.append("M ")
-				.append(CUBIC_CURVE.getStartX())
-				.append(" ")
-				.append(CUBIC_CURVE.getStartY())
-				.append(" ")
-				.append("C ")
-				.append(CUBIC_CURVE.getControlX1())
-				.append(" ")
-				.append(CUBIC_CURVE.getControlY1())
-				.append(" ")
-				.append(CUBIC_CURVE.getControlX2())
-				.append(" ")
-				.append(CUBIC_CURVE.getControlY2())
-				.append(" ")
-				.append(CUBIC_CURVE.getEndX())
-				.append(" ")
-				.append(CUBIC_CURVE.getEndY());
-		return fxPath.toString();
+		return cubicCurveToPathData(CUBIC_CURVE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData cubicCurveToPathData(final CubicCurve CUBIC_CURVE) {
+		return new SvgPathData.Builder()
+				.moveTo(CUBIC_CURVE.getStartX(), CUBIC_CURVE.getStartY())
+				.cubicCurveTo(CUBIC_CURVE.getControlX1(), CUBIC_CURVE.getControlY1(), CUBIC_CURVE.getControlX2(),
+						CUBIC_CURVE.getControlY2(), CUBIC_CURVE.getEndX(), CUBIC_CURVE.getEndY())
+				.build();
 	}
 
 	public static String convertRectangle(final Rectangle RECTANGLE) {
-		final StringBuilder fxPath = new StringBuilder();
+		return rectangleToPathData(RECTANGLE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData rectangleToPathData(final Rectangle RECTANGLE) {
+		final SvgPathData.Builder fxPath = new SvgPathData.Builder();
 		final Bounds bounds = RECTANGLE.getBoundsInLocal();
 		if (Double.compare(RECTANGLE.getArcWidth(), 0.0) == 0 && Double.compare(RECTANGLE.getArcHeight(), 0.0) == 0) {
 			fxPath
-					.append("M ")
-					.append(bounds.getMinX())
-					.append(" ")
-					.append(bounds.getMinY())
-					.append(" ")
-					.append("H ")
-					.append(bounds.getMaxX())
-					.append(" ")
-					.append("V ")
-					.append(bounds.getMaxY())
-					.append(" ")
-					.append("H ")
-					.append(bounds.getMinX())
-					.append(" ")
-					.append("V ")
-					.append(bounds.getMinY())
-					.append(" ")
-					.append("Z");
+					.moveTo(bounds.getMinX(), bounds.getMinY())
+					.horizontalLineTo(bounds.getMaxX())
+					.verticalLineTo(bounds.getMaxY())
+					.horizontalLineTo(bounds.getMinX())
+					.verticalLineTo(bounds.getMinY())
+					.closePath();
 		} else {
 			double x = bounds.getMinX();
 			double y = bounds.getMinY();
@@ -263,318 +244,138 @@ public class ShapeConverter {
 			double r = x + width;
 			double b = y + height;
 			fxPath
-					.append("M ")
-					.append(x + arcWidth)
-					.append(" ")
-					.append(y)
-					.append(" ")
-					.append("L ")
-					.append(r - arcWidth)
-					.append(" ")
-					.append(y)
-					.append(" ")
-					.append("Q ")
-					.append(r)
-					.append(" ")
-					.append(y)
-					.append(" ")
-					.append(r)
-					.append(" ")
-					.append(y + arcHeight)
-					.append(" ")
-					.append("L ")
-					.append(r)
-					.append(" ")
-					.append(y + height - arcHeight)
-					.append(" ")
-					.append("Q ")
-					.append(r)
-					.append(" ")
-					.append(b)
-					.append(" ")
-					.append(r - arcWidth)
-					.append(" ")
-					.append(b)
-					.append(" ")
-					.append("L ")
-					.append(x + arcWidth)
-					.append(" ")
-					.append(b)
-					.append(" ")
-					.append("Q ")
-					.append(x)
-					.append(" ")
-					.append(b)
-					.append(" ")
-					.append(x)
-					.append(" ")
-					.append(b - arcHeight)
-					.append(" ")
-					.append("L ")
-					.append(x)
-					.append(" ")
-					.append(y + arcHeight)
-					.append(" ")
-					.append("Q ")
-					.append(x)
-					.append(" ")
-					.append(y)
-					.append(" ")
-					.append(x + arcWidth)
-					.append(" ")
-					.append(y)
-					.append(" ")
-					.append("Z");
+					.moveTo(x + arcWidth, y)
+					.lineTo(r - arcWidth, y)
+					.quadCurveTo(r, y, r, y + arcHeight)
+					.lineTo(r, y + height - arcHeight)
+					.quadCurveTo(r, b, r - arcWidth, b)
+					.lineTo(x + arcWidth, b)
+					.quadCurveTo(x, b, x, b - arcHeight)
+					.lineTo(x, y + arcHeight)
+					.quadCurveTo(x, y, x + arcWidth, y)
+					.closePath();
 		}
-		return fxPath.toString();
+		return fxPath.build();
 	}
 
 	public static String convertCircle(final Circle CIRCLE) {
-		final StringBuilder fxPath = new StringBuilder();
+		return circleToPathData(CIRCLE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData circleToPathData(final Circle CIRCLE) {
 		final double CENTER_X = CIRCLE.getCenterX() == 0 ? CIRCLE.getRadius() : CIRCLE.getCenterX();
 		final double CENTER_Y = CIRCLE.getCenterY() == 0 ? CIRCLE.getRadius() : CIRCLE.getCenterY();
 		final double RADIUS = CIRCLE.getRadius();
-		final double CONTROL_DISTANCE = RADIUS * KAPPA;
-		// Move to first point
-		fxPath.append("M ").append(CENTER_X).append(" ").append(CENTER_Y - RADIUS).append(" ");
-		// 1. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X + CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_Y - RADIUS)
-				.append(" ")
-				.append(CENTER_X + RADIUS)
-				.append(" ")
-				.append(CENTER_Y - CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_X + RADIUS)
-				.append(" ")
-				.append(CENTER_Y)
-				.append(" ");
-		// 2. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X + RADIUS)
-				.append(" ")
-				.append(CENTER_Y + CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_X + CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_Y + RADIUS)
-				.append(" ")
-				.append(CENTER_X)
-				.append(" ")
-				.append(CENTER_Y + RADIUS)
-				.append(" ");
-		// 3. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X - CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_Y + RADIUS)
-				.append(" ")
-				.append(CENTER_X - RADIUS)
-				.append(" ")
-				.append(CENTER_Y + CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_X - RADIUS)
-				.append(" ")
-				.append(CENTER_Y)
-				.append(" ");
-		// 4. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X - RADIUS)
-				.append(" ")
-				.append(CENTER_Y - CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_X - CONTROL_DISTANCE)
-				.append(" ")
-				.append(CENTER_Y - RADIUS)
-				.append(" ")
-				.append(CENTER_X)
-				.append(" ")
-				.append(CENTER_Y - RADIUS)
-				.append(" ");
-		// Close path
-		fxPath.append("Z");
-		return fxPath.toString();
+		return ellipseToPathData(CENTER_X, CENTER_Y, RADIUS, RADIUS);
 	}
 
 	public static String convertEllipse(final Ellipse ELLIPSE) {
-		final StringBuilder fxPath = new StringBuilder();
+		return ellipseToPathData(ELLIPSE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData ellipseToPathData(final Ellipse ELLIPSE) {
 		final double CENTER_X = ELLIPSE.getCenterX() == 0 ? ELLIPSE.getRadiusX() : ELLIPSE.getCenterX();
 		final double CENTER_Y = ELLIPSE.getCenterY() == 0 ? ELLIPSE.getRadiusY() : ELLIPSE.getCenterY();
-		final double RADIUS_X = ELLIPSE.getRadiusX();
-		final double RADIUS_Y = ELLIPSE.getRadiusY();
+		return ellipseToPathData(CENTER_X, CENTER_Y, ELLIPSE.getRadiusX(), ELLIPSE.getRadiusY());
+	}
+
+	private static SvgPathData ellipseToPathData(
+			final double CENTER_X,
+			final double CENTER_Y,
+			final double RADIUS_X,
+			final double RADIUS_Y) {
 		final double CONTROL_DISTANCE_X = RADIUS_X * KAPPA;
 		final double CONTROL_DISTANCE_Y = RADIUS_Y * KAPPA;
-		// Move to first point
-		fxPath.append("M ").append(CENTER_X).append(" ").append(CENTER_Y - RADIUS_Y).append(" ");
-		// 1. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X + CONTROL_DISTANCE_X)
-				.append(" ")
-				.append(CENTER_Y - RADIUS_Y)
-				.append(" ")
-				.append(CENTER_X + RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y - CONTROL_DISTANCE_Y)
-				.append(" ")
-				.append(CENTER_X + RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y)
-				.append(" ");
-		// 2. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X + RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y + CONTROL_DISTANCE_Y)
-				.append(" ")
-				.append(CENTER_X + CONTROL_DISTANCE_X)
-				.append(" ")
-				.append(CENTER_Y + RADIUS_Y)
-				.append(" ")
-				.append(CENTER_X)
-				.append(" ")
-				.append(CENTER_Y + RADIUS_Y)
-				.append(" ");
-		// 3. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X - CONTROL_DISTANCE_X)
-				.append(" ")
-				.append(CENTER_Y + RADIUS_Y)
-				.append(" ")
-				.append(CENTER_X - RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y + CONTROL_DISTANCE_Y)
-				.append(" ")
-				.append(CENTER_X - RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y)
-				.append(" ");
-		// 4. quadrant
-		fxPath
-				.append("C ")
-				.append(CENTER_X - RADIUS_X)
-				.append(" ")
-				.append(CENTER_Y - CONTROL_DISTANCE_Y)
-				.append(" ")
-				.append(CENTER_X - CONTROL_DISTANCE_X)
-				.append(" ")
-				.append(CENTER_Y - RADIUS_Y)
-				.append(" ")
-				.append(CENTER_X)
-				.append(" ")
-				.append(CENTER_Y - RADIUS_Y)
-				.append(" ");
-		// Close path
-		fxPath.append("Z");
-		return fxPath.toString();
+		return new SvgPathData.Builder()
+				// Move to first point
+				.moveTo(CENTER_X, CENTER_Y - RADIUS_Y)
+				// 1. quadrant
+				.cubicCurveTo(CENTER_X + CONTROL_DISTANCE_X, CENTER_Y - RADIUS_Y, CENTER_X + RADIUS_X,
+						CENTER_Y - CONTROL_DISTANCE_Y, CENTER_X + RADIUS_X, CENTER_Y)
+				// 2. quadrant
+				.cubicCurveTo(CENTER_X + RADIUS_X, CENTER_Y + CONTROL_DISTANCE_Y, CENTER_X + CONTROL_DISTANCE_X,
+						CENTER_Y + RADIUS_Y, CENTER_X, CENTER_Y + RADIUS_Y)
+				// 3. quadrant
+				.cubicCurveTo(CENTER_X - CONTROL_DISTANCE_X, CENTER_Y + RADIUS_Y, CENTER_X - RADIUS_X,
+						CENTER_Y + CONTROL_DISTANCE_Y, CENTER_X - RADIUS_X, CENTER_Y)
+				// 4. quadrant
+				.cubicCurveTo(CENTER_X - RADIUS_X, CENTER_Y - CONTROL_DISTANCE_Y, CENTER_X - CONTROL_DISTANCE_X,
+						CENTER_Y - RADIUS_Y, CENTER_X, CENTER_Y - RADIUS_Y)
+				// Close path
+				.closePath()
+				.build();
 	}
 
 	public static String convertPath(final Path PATH) {
-		final StringBuilder fxPath = new StringBuilder();
+		return pathToPathData(PATH).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData pathToPathData(final Path PATH) {
+		final SvgPathData.Builder fxPath = new SvgPathData.Builder();
 		for (PathElement element : PATH.getElements()) {
 			if (MoveTo.class.equals(element.getClass())) {
-				fxPath
-						.append("M ")
-						.append(((MoveTo) element).getX())
-						.append(" ")
-						.append(((MoveTo) element).getY())
-						.append(" ");
+				MoveTo moveTo = (MoveTo) element;
+				fxPath.moveTo(moveTo.getX(), moveTo.getY());
 			} else if (LineTo.class.equals(element.getClass())) {
-				fxPath
-						.append("L ")
-						.append(((LineTo) element).getX())
-						.append(" ")
-						.append(((LineTo) element).getY())
-						.append(" ");
+				LineTo lineTo = (LineTo) element;
+				fxPath.lineTo(lineTo.getX(), lineTo.getY());
 			} else if (CubicCurveTo.class.equals(element.getClass())) {
-				fxPath
-						.append("C ")
-						.append(((CubicCurveTo) element).getControlX1())
-						.append(" ")
-						.append(((CubicCurveTo) element).getControlY1())
-						.append(" ")
-						.append(((CubicCurveTo) element).getControlX2())
-						.append(" ")
-						.append(((CubicCurveTo) element).getControlY2())
-						.append(" ")
-						.append(((CubicCurveTo) element).getX())
-						.append(" ")
-						.append(((CubicCurveTo) element).getY())
-						.append(" ");
+				CubicCurveTo curveTo = (CubicCurveTo) element;
+				fxPath.cubicCurveTo(curveTo.getControlX1(), curveTo.getControlY1(), curveTo.getControlX2(),
+						curveTo.getControlY2(), curveTo.getX(), curveTo.getY());
 			} else if (QuadCurveTo.class.equals(element.getClass())) {
-				fxPath
-						.append("Q ")
-						.append(((QuadCurveTo) element).getControlX())
-						.append(" ")
-						.append(((QuadCurveTo) element).getControlY())
-						.append(" ")
-						.append(((QuadCurveTo) element).getX())
-						.append(" ")
-						.append(((QuadCurveTo) element).getY())
-						.append(" ");
+				QuadCurveTo curveTo = (QuadCurveTo) element;
+				fxPath.quadCurveTo(curveTo.getControlX(), curveTo.getControlY(), curveTo.getX(), curveTo.getY());
 			} else if (ArcTo.class.equals(element.getClass())) {
-				fxPath
-						.append("A ")
-						.append(((ArcTo) element).getX())
-						.append(" ")
-						.append(((ArcTo) element).getY())
-						.append(" ")
-						.append(((ArcTo) element).getRadiusX())
-						.append(" ")
-						.append(((ArcTo) element).getRadiusY())
-						.append(" ");
+				ArcTo arcTo = (ArcTo) element;
+				fxPath.arcTo(arcTo.getRadiusX(), arcTo.getRadiusY(), arcTo.getXAxisRotation(), arcTo.isLargeArcFlag(),
+						arcTo.isSweepFlag(), arcTo.getX(), arcTo.getY());
 			} else if (HLineTo.class.equals(element.getClass())) {
-				fxPath.append("H ").append(((HLineTo) element).getX()).append(" ");
+				fxPath.horizontalLineTo(((HLineTo) element).getX());
 			} else if (VLineTo.class.equals(element.getClass())) {
-				fxPath.append("V ").append(((VLineTo) element).getY()).append(" ");
+				fxPath.verticalLineTo(((VLineTo) element).getY());
 			} else if (ClosePath.class.equals(element.getClass())) {
-				fxPath.append("Z");
+				fxPath.closePath();
 			}
 		}
-		return fxPath.toString();
+		return fxPath.build();
 	}
 
 	public static String convertPolygon(final Polygon POLYGON) {
-		final StringBuilder fxPath = new StringBuilder();
-		final int size = POLYGON.getPoints().size();
-		if (size % 2 == 0) {
-			List<Double> coordinates = POLYGON.getPoints();
-			for (int i = 0; i < size; i += 2) {
-				fxPath
-						.append(i == 0 ? "M " : "L ")
-						.append(coordinates.get(i))
-						.append(" ")
-						.append(coordinates.get(i + 1))
-						.append(" ");
-			}
-			fxPath.append("Z");
+		return polygonToPathData(POLYGON).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData polygonToPathData(final Polygon POLYGON) {
+		final SvgPathData.Builder fxPath = new SvgPathData.Builder();
+		if (addPoints(fxPath, POLYGON.getPoints())) {
+			fxPath.closePath();
 		}
-		return fxPath.toString();
+		return fxPath.build();
 	}
 
 	public static String convertPolyline(final Polyline POLYLINE) {
-		final StringBuilder fxPath = new StringBuilder();
-		final int size = POLYLINE.getPoints().size();
-		if (size % 2 == 0) {
-			List<Double> coordinates = POLYLINE.getPoints();
-			for (int i = 0; i < size; i += 2) {
-				fxPath
-						.append(i == 0 ? "M " : "L ")
-						.append(coordinates.get(i))
-						.append(" ")
-						.append(coordinates.get(i + 1))
-						.append(" ");
+		return polylineToPathData(POLYLINE).toSvgString(new SvgNumberWriter());
+	}
+
+	static SvgPathData polylineToPathData(final Polyline POLYLINE) {
+		final SvgPathData.Builder fxPath = new SvgPathData.Builder();
+		addPoints(fxPath, POLYLINE.getPoints());
+		return fxPath.build();
+	}
+
+	private static boolean addPoints(final SvgPathData.Builder fxPath, final List<Double> COORDINATES) {
+		final int size = COORDINATES.size();
+		if (size % 2 != 0) {
+			return false;
+		}
+		for (int i = 0; i < size; i += 2) {
+			if (i == 0) {
+				fxPath.moveTo(COORDINATES.get(i), COORDINATES.get(i + 1));
+			} else {
+				fxPath.lineTo(COORDINATES.get(i), COORDINATES.get(i + 1));
 			}
 		}
-		return fxPath.toString();
+		return true;
 	}
 
 	private static Path processPath(final List<String> PATH_LIST, final PathReader READER) {
@@ -609,6 +410,14 @@ public class ShapeConverter {
 		return PATH;
 	}
 
+	/**
+	 * Converts a shape to svg path data
+	 */
+	private interface PathConverter {
+
+		SvgPathData convert(Shape shape);
+	}
+
 	private static class PathReader {
 
 		protected List<String> path;
@@ -1,20 +1,47 @@
 package org.treez.results.javafxchart.svgconverter.converters.shape;
 
 import java.util.List;
-import java.util.Objects;
 
 import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
 import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
 import org.treez.results.javafxchart.svgconverter.converters.AbstractNodeToSvgConverter;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeAlignment;
 import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineCap;
-
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineJoin;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextMode;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgShapeWriter;
+
+import javafx.beans.Observable;
 import javafx.geometry.Bounds;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.CubicCurve;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.QuadCurve;
+import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.shape.StrokeType;
+import javafx.scene.shape.VLineTo;
+import javafx.scene.text.Text;
 
 /**
  * Converts a Shape to SVG code
@@ -24,34 +51,231 @@ public class ShapeToSvgConverter extends AbstractNodeToSvgConverter<Shape> {
 	/**
 	 * Logger for this class
 	 */
+	@SuppressWarnings("unused")
 	private static Logger sysLog = Logger.getLogger(ShapeToSvgConverter.class);
 
-	
+	//#region ATTRIBUTES
+
+	private static final SvgNodeWriter NODE_WRITER = new SvgShapeWriter();
+
+	/**
+	 * Converts Text nodes to svg text elements if the text mode is TEXT
+	 */
+	private static final TextToSvgConverter TEXT_CONVERTER = new TextToSvgConverter();
+
+	/**
+	 * Caches the collection of the geometry dependencies for each concrete shape class. A shape class uses the
+	 * collection of its nearest super class, like the path conversion of the ShapeConverter.
+	 */
+	private static final ClassValue<GeometryCollector> GEOMETRY_COLLECTORS = new ClassValue<GeometryCollector>() {
+
+		@Override
+		protected GeometryCollector computeValue(Class<?> shapeClass) {
+			return determineGeometryCollector(shapeClass);
+		}
+	};
+
+	//#end region
+
 	//#region METHODS
 
 	@Override
-	public String extendCode(String initialSvgString, Shape shape) {
-		addDataFromNode(shape);
-		addDataFromShape(shape);
-		String svgString = initialSvgString + createSvgString();		
-		svgString = extendWithChildSvgCodeAndEndTag(svgString, shape);
-		return svgString;
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Shape shape) {
+		boolean isNativeText = shape instanceof Text && context.getTextMode().equals(SvgTextMode.TEXT);
+		if (isNativeText) {
+			return TEXT_CONVERTER.capture(context, (Text) shape);
+		}
+
+		SvgNodeProperties svgNodeProperties = addDataFromNode(context, shape);
+		addDataFromShape(context, svgNodeProperties, shape);
+		return createSnapshot(context, svgNodeProperties, null, shape);
+	}
+
+	@Override
+	public void collectDependencies(Shape shape, List<Observable> dependencies) {
+		super.collectDependencies(shape, dependencies);
+		collectShapeDependencies(shape, dependencies);
+	}
+
+	/**
+	 * Adds the observable properties of the given Shape that are read by addDataFromShape: the paint and stroke
+	 * properties and the properties that define the geometry of the concrete shape class (e.g. the arcs of a
+	 * Rectangle, that do not change its bounds).
+	 *
+	 * @param shape
+	 * @param dependencies
+	 */
+	public static void collectShapeDependencies(Shape shape, List<Observable> dependencies) {
+		dependencies.add(shape.layoutBoundsProperty());
+		dependencies.add(shape.fillProperty());
+		dependencies.add(shape.strokeProperty());
+		dependencies.add(shape.strokeWidthProperty());
+		dependencies.add(shape.strokeLineCapProperty());
+		dependencies.add(shape.strokeLineJoinProperty());
+		dependencies.add(shape.strokeMiterLimitProperty());
+		dependencies.add(shape.strokeDashOffsetProperty());
+		dependencies.add(shape.strokeTypeProperty());
+		dependencies.add(shape.getStrokeDashArray());
+		GEOMETRY_COLLECTORS.get(shape.getClass()).collect(shape, dependencies);
+	}
+
+	private static GeometryCollector determineGeometryCollector(Class<?> shapeClass) {
+		for (Class<?> currentClass = shapeClass; currentClass != null; currentClass = currentClass.getSuperclass()) {
+			if (Line.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectLineDependencies((Line) shape, dependencies);
+			} else if (Arc.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectArcDependencies((Arc) shape, dependencies);
+			} else if (QuadCurve.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectQuadCurveDependencies((QuadCurve) shape, dependencies);
+			} else if (CubicCurve.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectCubicCurveDependencies((CubicCurve) shape, dependencies);
+			} else if (Rectangle.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectRectangleDependencies((Rectangle) shape, dependencies);
+			} else if (Circle.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectCircleDependencies((Circle) shape, dependencies);
+			} else if (Ellipse.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectEllipseDependencies((Ellipse) shape, dependencies);
+			} else if (Text.class.equals(currentClass)) {
+				//also handles LabeledText
+				return (shape, dependencies) -> TextToSvgConverter.collectTextDependencies((Text) shape, dependencies);
+			} else if (Path.class.equals(currentClass)) {
+				return (shape, dependencies) -> collectPathDependencies((Path) shape, dependencies);
+			} else if (Polygon.class.equals(currentClass)) {
+				return (shape, dependencies) -> dependencies.add(((Polygon) shape).getPoints());
+			} else if (Polyline.class.equals(currentClass)) {
+				return (shape, dependencies) -> dependencies.add(((Polyline) shape).getPoints());
+			} else if (SVGPath.class.equals(currentClass)) {
+				return (shape, dependencies) -> dependencies.add(((SVGPath) shape).contentProperty());
+			}
+		}
+		//the ShapeConverter writes a constant warning for unknown shape classes
+		return (shape, dependencies) -> {
+			//no geometry dependencies
+		};
+	}
+
+	private static void collectLineDependencies(Line line, List<Observable> dependencies) {
+		dependencies.add(line.startXProperty());
+		dependencies.add(line.startYProperty());
+		dependencies.add(line.endXProperty());
+		dependencies.add(line.endYProperty());
+	}
+
+	private static void collectArcDependencies(Arc arc, List<Observable> dependencies) {
+		dependencies.add(arc.centerXProperty());
+		dependencies.add(arc.centerYProperty());
+		dependencies.add(arc.radiusXProperty());
+		dependencies.add(arc.radiusYProperty());
+		dependencies.add(arc.startAngleProperty());
+		dependencies.add(arc.lengthProperty());
+		dependencies.add(arc.typeProperty());
+	}
+
+	private static void collectQuadCurveDependencies(QuadCurve quadCurve, List<Observable> dependencies) {
+		dependencies.add(quadCurve.startXProperty());
+		dependencies.add(quadCurve.startYProperty());
+		dependencies.add(quadCurve.controlXProperty());
+		dependencies.add(quadCurve.controlYProperty());
+		dependencies.add(quadCurve.endXProperty());
+		dependencies.add(quadCurve.endYProperty());
 	}
 
-	private void addDataFromShape(Shape shape) {
-		svgNodeProperties = addDataFromShape(svgNodeProperties, shape);
+	private static void collectCubicCurveDependencies(CubicCurve cubicCurve, List<Observable> dependencies) {
+		dependencies.add(cubicCurve.startXProperty());
+		dependencies.add(cubicCurve.startYProperty());
+		dependencies.add(cubicCurve.controlX1Property());
+		dependencies.add(cubicCurve.controlY1Property());
+		dependencies.add(cubicCurve.controlX2Property());
+		dependencies.add(cubicCurve.controlY2Property());
+		dependencies.add(cubicCurve.endXProperty());
+		dependencies.add(cubicCurve.endYProperty());
+	}
+
+	private static void collectRectangleDependencies(Rectangle rectangle, List<Observable> dependencies) {
+		dependencies.add(rectangle.xProperty());
+		dependencies.add(rectangle.yProperty());
+		dependencies.add(rectangle.widthProperty());
+		dependencies.add(rectangle.heightProperty());
+		dependencies.add(rectangle.arcWidthProperty());
+		dependencies.add(rectangle.arcHeightProperty());
+	}
+
+	private static void collectCircleDependencies(Circle circle, List<Observable> dependencies) {
+		dependencies.add(circle.centerXProperty());
+		dependencies.add(circle.centerYProperty());
+		dependencies.add(circle.radiusProperty());
+	}
+
+	private static void collectEllipseDependencies(Ellipse ellipse, List<Observable> dependencies) {
+		dependencies.add(ellipse.centerXProperty());
+		dependencies.add(ellipse.centerYProperty());
+		dependencies.add(ellipse.radiusXProperty());
+		dependencies.add(ellipse.radiusYProperty());
+	}
+
+	/**
+	 * Adds the element list of the given Path and the properties of its current elements. If an element is replaced,
+	 * the list changes and the dependencies are collected again with the next capture.
+	 *
+	 * @param path
+	 * @param dependencies
+	 */
+	private static void collectPathDependencies(Path path, List<Observable> dependencies) {
+		dependencies.add(path.getElements());
+		for (PathElement element : path.getElements()) {
+			if (element instanceof MoveTo) {
+				MoveTo moveTo = (MoveTo) element;
+				dependencies.add(moveTo.xProperty());
+				dependencies.add(moveTo.yProperty());
+			} else if (element instanceof LineTo) {
+				LineTo lineTo = (LineTo) element;
+				dependencies.add(lineTo.xProperty());
+				dependencies.add(lineTo.yProperty());
+			} else if (element instanceof CubicCurveTo) {
+				CubicCurveTo curveTo = (CubicCurveTo) element;
+				dependencies.add(curveTo.controlX1Property());
+				dependencies.add(curveTo.controlY1Property());
+				dependencies.add(curveTo.controlX2Property());
+				dependencies.add(curveTo.controlY2Property());
+				dependencies.add(curveTo.xProperty());
+				dependencies.add(curveTo.yProperty());
+			} else if (element instanceof QuadCurveTo) {
+				QuadCurveTo curveTo = (QuadCurveTo) element;
+				dependencies.add(curveTo.controlXProperty());
+				dependencies.add(curveTo.controlYProperty());
+				dependencies.add(curveTo.xProperty());
+				dependencies.add(curveTo.yProperty());
+			} else if (element instanceof ArcTo) {
+				ArcTo arcTo = (ArcTo) element;
+				dependencies.add(arcTo.radiusXProperty());
+				dependencies.add(arcTo.radiusYProperty());
+				dependencies.add(arcTo.XAxisRotationProperty());
+				dependencies.add(arcTo.largeArcFlagProperty());
+				dependencies.add(arcTo.sweepFlagProperty());
+				dependencies.add(arcTo.xProperty());
+				dependencies.add(arcTo.yProperty());
+			} else if (element instanceof HLineTo) {
+				dependencies.add(((HLineTo) element).xProperty());
+			} else if (element instanceof VLineTo) {
+				dependencies.add(((VLineTo) element).yProperty());
+			}
+		}
 	}
 
 	/**
 	 * Extracts SVG properties from the given Shape and applies them.
+	 * @param context 
 	 * @param properties 
 	 * @param shape 
 	 * @return 
 	 */
-	public static SvgNodeProperties addDataFromShape(SvgNodeProperties properties, Shape shape) {
+	public static SvgNodeProperties addDataFromShape(SvgCaptureContext context, SvgNodeProperties properties,
+			Shape shape) {
 
 		//comment
-		properties.addComment("=> handled as Shape");
+		if (context.isVerboseCommentEnabled()) {
+			properties.addComment("=> handled as Shape");
+		}
 
 		//hasChildren: a shape has no children
 		properties.setHasChildren(false);
@@ -61,8 +285,8 @@ public class ShapeToSvgConverter extends AbstractNodeToSvgConverter<Shape> {
 
 		//x and y
 		Bounds bounds = shape.getBoundsInParent();
-		Double x = bounds.getMinX();
-		Double y = bounds.getMinY();
+		double x = bounds.getMinX();
+		double y = bounds.getMinY();
 
 		//Double xLayout = shape.getLayoutX();
 		//Double yLayout = shape.getLayoutY();
@@ -85,37 +309,45 @@ public class ShapeToSvgConverter extends AbstractNodeToSvgConverter<Shape> {
 		properties.setX(x);
 		properties.setY(y);
 
-		//path shape
-		String svgPathShape = shapeToSvg(shape);
-		properties.setPathShape(svgPathShape);
+		//path data: the outlines of a text are composed from cached glyphs if a glyph cache is used
+		SvgPathData pathData;
+		SvgGlyphCache glyphCache = context.getGlyphCache();
+		boolean isCachedText = shape instanceof Text && glyphCache != null;
+		if (isCachedText) {
+			pathData = glyphCache.createPathData((Text) shape);
+		} else {
+			pathData = ShapeConverter.shapeToPathData(shape);
+		}
+		pathData = context.getPathSimplifier().simplify(pathData);
+		properties.setPathData(pathData);
 
 		//fill
 		Paint fill = shape.getFill();
 
-		String fillColor = paintToColorString(fill);
+		String fillColor = paintToColorString(context, fill);
 		properties.setFill(fillColor);
 
 		//stroke
-		addStrokeDataFromShape(properties, shape);
+		addStrokeDataFromShape(context, properties, shape);
 
 		return properties;
 
 	}
 
-	private static void addStrokeDataFromShape(SvgNodeProperties properties, Shape shape) {
+	private static void addStrokeDataFromShape(SvgCaptureContext context, SvgNodeProperties properties, Shape shape) {
 
 		//color
 		Paint stroke = shape.getStroke();
-		String strokeColor = paintToColorString(stroke);
+		String strokeColor = paintToColorString(context, stroke);
 		properties.setStroke(strokeColor);
 
 		//width
-		Double strokeWidth = shape.getStrokeWidth();
+		double strokeWidth = shape.getStrokeWidth();
 		properties.setStrokeWidth(strokeWidth);
 
 		//line cap
 		StrokeLineCap strokeLineCap = shape.getStrokeLineCap();
-		properties.setStrokeLineCap(strokeLineCap);
+		properties.setStrokeLineCap(toSvgStrokeLineCap(strokeLineCap));
 
 		//dash array
 		List<Double> strokeDashArrayList = shape.getStrokeDashArray();
@@ -123,188 +355,97 @@ public class ShapeToSvgConverter extends AbstractNodeToSvgConverter<Shape> {
 		properties.setStrokeDashArray(strokeDashArray);
 
 		//dash offset
-		Double strokeDashOffset = shape.getStrokeDashOffset();
+		double strokeDashOffset = shape.getStrokeDashOffset();
 		properties.setStrokeDashOffset(strokeDashOffset);
 
 		//line join
 		StrokeLineJoin strokeLineJoin = shape.getStrokeLineJoin();
-		properties.setStrokeLineJoin(strokeLineJoin);
+		properties.setStrokeLineJoin(toSvgStrokeLineJoin(strokeLineJoin));
 
 		//miter limit
-		Double strokeMiterLimit = shape.getStrokeMiterLimit();
+		double strokeMiterLimit = shape.getStrokeMiterLimit();
 		properties.setStrokeMiterLimit(strokeMiterLimit);
 
 		//alignment
 		StrokeType strokeType = shape.getStrokeType();
-		properties.setStrokeAlignment(strokeType);
-	}
-
-	@Override
-	protected String createStyleContentString() {
-
-		String styleContent = super.createStyleContentString();
-		styleContent = addFillStyle(styleContent);
-		styleContent = addStrokeStyle(styleContent);
-
-		return styleContent;
-	}
-
-	private String addFillStyle(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		String fill = svgNodeProperties.getFill();
-		if (fill != null) {
-			styleContent = styleContent + "fill:" + fill + ";";
-		}
-		return styleContent;
-	}
-
-	//#region STROKE STYLE
-
-	private String addStrokeStyle(String initialStyleContent) {
-
-		String styleContent = initialStyleContent;
-		styleContent = addStrokeColor(styleContent);
-		styleContent = addStrokeWidth(styleContent);
-		styleContent = addStrokeAlignment(styleContent);
-		styleContent = addStrokeLineCap(styleContent);
-		styleContent = addStrokeDashArray(styleContent);
-
-		return styleContent;
+		properties.setStrokeAlignment(toSvgStrokeAlignment(strokeType));
 	}
 
-	private String addStrokeColor(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		//stroke color
-		List<String> strokes = svgNodeProperties.getStroke();
-		if (strokes != null) {
-			boolean hasOneStroke = strokes.size() == 1;
-			if (hasOneStroke) {
-				styleContent = styleContent + "stroke:" + strokes.get(0) + ";";
-			} else {
-				sysLog.warn("Could not determine stroke.");
-			}
-		}
-		return styleContent;
-	}
-
-	private String addStrokeWidth(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		//stroke width
-		List<Double> strokeWidths = svgNodeProperties.getStrokeWidth();
-		if (strokeWidths != null) {
-			boolean hasOneStrokeWidth = strokeWidths.size() == 1;
-			if (hasOneStrokeWidth) {
-				Double strokeWidth = strokeWidths.get(0);
-				if (!strokeWidth.equals(1)) {
-					styleContent = styleContent + "stroke-width:" + strokeWidth + ";";
-				}
-			} else {
-				sysLog.warn("Could not determine stroke width.");
-			}
-		}
-		return styleContent;
-	}
-
-	private String addStrokeAlignment(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		//stroke alignment
-		SvgStrokeAlignment strokeAlignment = svgNodeProperties.getStrokeAlignment();
-		if (strokeAlignment != null) {
-			if (!strokeAlignment.equals(SvgStrokeAlignment.CENTER)) {
-				styleContent = styleContent + "stroke-alignment:" + strokeAlignment + ";";
-				String message = "The svg stroke-alignment (JavaFx: StrokeType) is set to '" + strokeAlignment + "'.\n"
-						+ "This svg property is relativly new and might not yet be supported by your svg viewer.";
-				sysLog.warn(message);
-			}
-		}
-		return styleContent;
-	}
-
-	private String addStrokeLineCap(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		//stroke line cap
-		SvgStrokeLineCap strokeLineCap = svgNodeProperties.getStrokeLineCap();
-		if (strokeLineCap != null) {
-			if (!strokeLineCap.equals(SvgStrokeLineCap.SQUARE)) {
-				styleContent = styleContent + "stroke-linecap:" + strokeLineCap + ";";
-			}
-		}
-		return styleContent;
-	}
-
-	private String addStrokeDashArray(String initialStyleContent) {
-		String styleContent = initialStyleContent;
-		//stroke dash array
-		String strokeDashArray = svgNodeProperties.getStrokeDashArray();
-		if (strokeDashArray != null) {
-			if (!strokeDashArray.isEmpty()) {
-				styleContent = styleContent + "stroke-dasharray:" + strokeDashArray + ";";
-			}
+	/**
+	 * Converts a JavaFx stroke line cap to an svg stroke line cap
+	 *
+	 * @param javaFxStrokeLineCap
+	 * @return
+	 */
+	private static SvgStrokeLineCap toSvgStrokeLineCap(StrokeLineCap javaFxStrokeLineCap) {
+		switch (javaFxStrokeLineCap) {
+		case BUTT:
+			return SvgStrokeLineCap.BUTT;
+		case ROUND:
+			return SvgStrokeLineCap.ROUND;
+		case SQUARE:
+			return SvgStrokeLineCap.SQUARE;
+		default:
+			String message = "The line cap " + javaFxStrokeLineCap + " is not known.";
+			throw new IllegalArgumentException(message);
 		}
-		return styleContent;
 	}
 
-	//#end region
-
-	@Override
-	protected String createTagStartString(String idString, String styleString, String transformString) {
-
-		Objects.requireNonNull(svgNodeProperties, "svg node propeties must not be null.");
-
-		String pathShape = svgNodeProperties.getPathShape();
-		boolean hasPathShape = pathShape != null && !pathShape.isEmpty();
-
-		String startString;
-		if (hasPathShape) {
-			startString = indentation + "<path" + idString + styleString + transformString;
-		} else {
-			//something went wrong: do not add (corrupted) path tag
-			startString = indentation;
+	/**
+	 * Converts a JavaFx stroke line join to an svg stroke line join
+	 *
+	 * @param javaFxStrokeLineJoin
+	 * @return
+	 */
+	private static SvgStrokeLineJoin toSvgStrokeLineJoin(StrokeLineJoin javaFxStrokeLineJoin) {
+		switch (javaFxStrokeLineJoin) {
+		case MITER:
+			return SvgStrokeLineJoin.MITER;
+		case ROUND:
+			return SvgStrokeLineJoin.ROUND;
+		case BEVEL:
+			return SvgStrokeLineJoin.BEVEL;
+		default:
+			String message = "The line join " + javaFxStrokeLineJoin + " is not known.";
+			throw new IllegalArgumentException(message);
 		}
-		return startString;
 	}
 
 	/**
-	 * Creates the geometry string, including the end of the (base) tag. (This does not include the end tag of a maybe
-	 * existing parent group.)
+	 * Converts a JavaFx stroke type to an svg stroke alignment
 	 *
-	 * @param svgNodeProperties
+	 * @param javaFxStrokeType
 	 * @return
 	 */
-	@Override
-	protected String createGeometryString() {
-
-		String pathShape = svgNodeProperties.getPathShape();
-		boolean hasPathShape = pathShape != null && !pathShape.isEmpty();
-
-		if (hasPathShape) {
-			//create path geometry string
-			String shapeGeometryString = createPathGeometryString(pathShape);
-			return shapeGeometryString;
-		} else {
-			//something went wrong: include SVG comment with a warning
-			//the start string also checks for this issue and does not include a
-			//start tag. Therefore, the start of the comment tag is included here without issues.
-			String warningString = "<!-- warning: empty path shape -->\n";
-			return warningString;
+	private static SvgStrokeAlignment toSvgStrokeAlignment(StrokeType javaFxStrokeType) {
+		switch (javaFxStrokeType) {
+		case CENTERED:
+			return SvgStrokeAlignment.CENTER;
+		case INSIDE:
+			return SvgStrokeAlignment.INNER;
+		case OUTSIDE:
+			return SvgStrokeAlignment.OUTER;
+		default:
+			String message = "The stroke type " + javaFxStrokeType + " is not known.";
+			throw new IllegalArgumentException(message);
 		}
-
 	}
 
-	private static String createPathGeometryString(String pathShape) {
-		String shapeGeometryString = " d=\"" + pathShape + "\"/>\n\n";
-		return shapeGeometryString;
+	@Override
+	protected SvgNodeWriter getNodeWriter() {
+		return NODE_WRITER;
 	}
 
+	//#end region
+
+	//#region GEOMETRY COLLECTOR
+
 	/**
-	 * Converts a basic shape to an SVG string
-	 *
-	 * @param shape
-	 * @return
+	 * Adds the observable properties that define the geometry of a shape
 	 */
-	private static String shapeToSvg(Shape shape) {
-		String svgString = ShapeConverter.shapeToSvgString(shape);
-		return svgString;
+	private interface GeometryCollector {
+
+		void collect(Shape shape, List<Observable> dependencies);
 	}
 
 	//#end region
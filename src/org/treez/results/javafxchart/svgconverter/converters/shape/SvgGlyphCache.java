@@ -0,0 +1,356 @@
+package org.treez.results.javafxchart.svgconverter.converters.shape;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Transform;
+
+/**
+ * Caches the outlines of glyphs by font and character, so that Text nodes can be written as paths (text mode OUTLINES)
+ * without creating the outlines of the whole text with expensive geometric operations. Each glyph is outlined once;
+ * its outline is stored relative to the start of its baseline, together with its advance. The outline of a text is
+ * composed by placing the cached glyphs one after another on the baselines of its lines.
+ * <p>
+ * The composed outline ignores kerning and ligatures, the alignment of lines and the automatic wrapping of lines
+ * (see wrappingWidth), underline and strikethrough; the glyphs might therefore be placed slightly different than the
+ * glyphs that are rendered by JavaFx. The size of the cache is limited by a maximum number of glyphs; the least
+ * recently used glyphs are evicted first. A cache is thread safe and can be shared between exports by passing it with
+ * the export options.
+ */
+public final class SvgGlyphCache {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The default maximum number of cached glyphs
+	 */
+	public static final int DEFAULT_MAXIMUM_GLYPH_COUNT = 4096;
+
+	private static final char LINE_BREAK = '\n';
+
+	private final int maximumGlyphCount;
+
+	/**
+	 * The glyphs in access order (least recently used first); guarded by this
+	 */
+	private final LinkedHashMap<GlyphKey, Glyph> glyphs = new LinkedHashMap<>(256, 0.75f, true);
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgGlyphCache() {
+		this(DEFAULT_MAXIMUM_GLYPH_COUNT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumGlyphCount
+	 *            the maximum number of cached glyphs
+	 */
+	public SvgGlyphCache(int maximumGlyphCount) {
+		if (maximumGlyphCount < 0) {
+			String message = "The maximum glyph count must not be negative but is " + maximumGlyphCount + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.maximumGlyphCount = maximumGlyphCount;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Creates the outlines of the given Text from the cached glyphs. The outlines are placed in scene coordinates, like
+	 * the outlines that are created by the ShapeConverter without cache. The first line starts at the start of the
+	 * baseline of the Text; each further line starts one line height below.
+	 *
+	 * @param text
+	 * @return
+	 */
+	public SvgPathData createPathData(Text text) {
+		String content = text.getText();
+		if (content == null || content.isEmpty()) {
+			return new SvgPathData.Builder().build();
+		}
+		Font font = text.getFont();
+		Bounds layoutBounds = text.getLayoutBounds();
+		double lineStartX = layoutBounds.getMinX();
+		double baselineY = layoutBounds.getMinY() + text.getBaselineOffset();
+		double lineHeight = TextToSvgConverter.getLineHeight(text, content);
+
+		//the glyphs are placed in the local coordinates of the text and transformed to scene coordinates
+		Transform localToScene = text.getLocalToSceneTransform();
+		boolean isTranslation = localToScene.getMxx() == 1 && localToScene.getMxy() == 0
+				&& localToScene.getMyx() == 0 && localToScene.getMyy() == 1;
+
+		SvgPathData.Builder builder = new SvgPathData.Builder();
+		double penX = lineStartX;
+		int index = 0;
+		while (index < content.length()) {
+			int codePoint = content.codePointAt(index);
+			index += Character.charCount(codePoint);
+			if (codePoint == LINE_BREAK) {
+				penX = lineStartX;
+				baselineY += lineHeight;
+				continue;
+			}
+			Glyph glyph = getGlyph(font, codePoint);
+			if (isTranslation) {
+				builder.append(glyph.outline, penX + localToScene.getTx(), baselineY + localToScene.getTy());
+			} else {
+				appendTransformed(builder, glyph.outline, penX, baselineY, localToScene);
+			}
+			penX += glyph.advance;
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Appends the given glyph outline, shifted by the given pen position and transformed with the given transform. A
+	 * glyph outline only contains move, line, curve and close commands.
+	 *
+	 * @param builder
+	 * @param outline
+	 * @param penX
+	 * @param penY
+	 * @param transform
+	 */
+	private static void appendTransformed(
+			SvgPathData.Builder builder,
+			SvgPathData outline,
+			double penX,
+			double penY,
+			Transform transform) {
+		double[] points = new double[6];
+		int coordinateIndex = 0;
+		for (int commandIndex = 0; commandIndex < outline.getCommandCount(); commandIndex++) {
+			char command = outline.getCommand(commandIndex);
+			int coordinateCount = SvgPathData.getCoordinateCount(command);
+			for (int index = 0; index < coordinateCount; index += 2) {
+				Point2D point = transform.transform(penX + outline.getCoordinate(coordinateIndex + index),
+						penY + outline.getCoordinate(coordinateIndex + index + 1));
+				points[index] = point.getX();
+				points[index + 1] = point.getY();
+			}
+			coordinateIndex += coordinateCount;
+			switch (command) {
+			case 'M':
+				builder.moveTo(points[0], points[1]);
+				break;
+			case 'L':
+				builder.lineTo(points[0], points[1]);
+				break;
+			case 'Q':
+				builder.quadCurveTo(points[0], points[1], points[2], points[3]);
+				break;
+			case 'C':
+				builder.cubicCurveTo(points[0], points[1], points[2], points[3], points[4], points[5]);
+				break;
+			case 'Z':
+				builder.closePath();
+				break;
+			default:
+				String message = "The glyph outline contains the unexpected path command '" + command + "'.";
+				throw new IllegalStateException(message);
+			}
+		}
+	}
+
+	/**
+	 * Removes all glyphs; the counters are not reset
+	 */
+	public synchronized void clear() {
+		glyphs.clear();
+	}
+
+	/**
+	 * Returns the glyph of the given character from the cache or outlines it
+	 *
+	 * @param font
+	 * @param codePoint
+	 * @return
+	 */
+	private Glyph getGlyph(Font font, int codePoint) {
+		GlyphKey key = new GlyphKey(font.getFamily(), font.getStyle(), font.getSize(), codePoint);
+		Glyph glyph = get(key);
+		if (glyph == null) {
+			glyph = createGlyph(font, codePoint);
+			put(key, glyph);
+		}
+		return glyph;
+	}
+
+	/**
+	 * Outlines the given character. The outline is relative to the start of the baseline (text origin BASELINE at
+	 * 0,0); the advance is the width of the logical bounds.
+	 *
+	 * @param font
+	 * @param codePoint
+	 * @return
+	 */
+	private static Glyph createGlyph(Font font, int codePoint) {
+		Text glyphText = new Text(new String(Character.toChars(codePoint)));
+		glyphText.setFont(font);
+		Path outlinePath = (Path) Shape.subtract(glyphText, new Rectangle(0, 0));
+		SvgPathData outline = ShapeConverter.pathToPathData(outlinePath);
+		double advance = glyphText.getLayoutBounds().getWidth();
+		return new Glyph(outline, advance);
+	}
+
+	private synchronized Glyph get(GlyphKey key) {
+		Glyph glyph = glyphs.get(key);
+		if (glyph == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+		return glyph;
+	}
+
+	private synchronized void put(GlyphKey key, Glyph glyph) {
+		if (maximumGlyphCount == 0) {
+			return;
+		}
+		glyphs.put(key, glyph);
+
+		//evict the least recently used glyphs
+		Iterator<Map.Entry<GlyphKey, Glyph>> iterator = glyphs.entrySet().iterator();
+		while (glyphs.size() > maximumGlyphCount && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evictionCount++;
+		}
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public int getMaximumGlyphCount() {
+		return maximumGlyphCount;
+	}
+
+	/**
+	 * @return
+	 */
+	public synchronized int getGlyphCount() {
+		return glyphs.size();
+	}
+
+	/**
+	 * @return the number of glyphs that have been taken from the cache
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of glyphs that had to be outlined
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the ratio of the hits to all requested glyphs; 0 if no glyph has been requested
+	 */
+	public synchronized double getHitRate() {
+		long requestCount = hitCount + missCount;
+		if (requestCount == 0) {
+			return 0;
+		}
+		return (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return the number of glyphs that have been evicted to stay within the maximum glyph count
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	//#end region
+
+	//#region GLYPH
+
+	/**
+	 * The key of a glyph: the font family, style and size and the character
+	 */
+	private static final class GlyphKey {
+
+		private final String family;
+
+		private final String style;
+
+		private final double size;
+
+		private final int codePoint;
+
+		GlyphKey(String family, String style, double size, int codePoint) {
+			this.family = family;
+			this.style = style;
+			this.size = size;
+			this.codePoint = codePoint;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof GlyphKey)) {
+				return false;
+			}
+			GlyphKey other = (GlyphKey) object;
+			return codePoint == other.codePoint && Double.compare(size, other.size) == 0 && family.equals(other.family)
+					&& style.equals(other.style);
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = family.hashCode();
+			hash = 31 * hash + style.hashCode();
+			hash = 31 * hash + Double.hashCode(size);
+			return 31 * hash + codePoint;
+		}
+	}
+
+	/**
+	 * The outline of a glyph relative to the start of its baseline and the distance to the start of the next glyph
+	 */
+	private static final class Glyph {
+
+		private final SvgPathData outline;
+
+		private final double advance;
+
+		Glyph(SvgPathData outline, double advance) {
+			this.outline = outline;
+			this.advance = advance;
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,188 @@
+package org.treez.results.javafxchart.svgconverter.converters.shape;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.converters.AbstractNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgTextWriter;
+
+import javafx.beans.Observable;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * Converts a Text (e.g. the LabeledText of a control or a tick label of a chart axis) to a svg text element with the
+ * font and fill of the node, instead of the outlines of its glyphs. Explicit line breaks are written as tspan elements;
+ * lines that are wrapped automatically (see wrappingWidth) are written as a single line. The ShapeToSvgConverter uses
+ * this converter for all Text nodes if the text mode of the export options is TEXT.
+ */
+public class TextToSvgConverter extends AbstractNodeToSvgConverter<Text> {
+
+	//#region ATTRIBUTES
+
+	private static final SvgNodeWriter NODE_WRITER = new SvgTextWriter();
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public SvgNodeSnapshot capture(SvgCaptureContext context, Text text) {
+		SvgNodeProperties svgNodeProperties = addDataFromNode(context, text);
+		addDataFromText(context, svgNodeProperties, text);
+		return createSnapshot(context, svgNodeProperties, null, text);
+	}
+
+	@Override
+	public void collectDependencies(Text text, List<Observable> dependencies) {
+		super.collectDependencies(text, dependencies);
+		//includes the text dependencies
+		ShapeToSvgConverter.collectShapeDependencies(text, dependencies);
+	}
+
+	/**
+	 * Adds the observable properties of the given Text that define its content and layout (in addition to the
+	 * properties of the Shape). They are read by addDataFromText and by the outline conversion of the ShapeConverter.
+	 *
+	 * @param text
+	 * @param dependencies
+	 */
+	public static void collectTextDependencies(Text text, List<Observable> dependencies) {
+		dependencies.add(text.textProperty());
+		dependencies.add(text.fontProperty());
+		dependencies.add(text.underlineProperty());
+		dependencies.add(text.strikethroughProperty());
+		dependencies.add(text.lineSpacingProperty());
+		dependencies.add(text.xProperty());
+		dependencies.add(text.yProperty());
+		dependencies.add(text.textOriginProperty());
+		dependencies.add(text.boundsTypeProperty());
+		dependencies.add(text.wrappingWidthProperty());
+		dependencies.add(text.textAlignmentProperty());
+	}
+
+	/**
+	 * Extracts the svg properties of the given Text and applies them. The origin of the svg text is the start of the
+	 * baseline of the first line.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @param text
+	 */
+	private static void addDataFromText(SvgCaptureContext context, SvgNodeProperties svgNodeProperties, Text text) {
+
+		//comment
+		if (context.isVerboseCommentEnabled()) {
+			svgNodeProperties.addComment("=> handled as Text");
+		}
+
+		//a text has no children and is not defined by a rect
+		svgNodeProperties.setHasChildren(false);
+		svgNodeProperties.setIsDefinedByRect(false);
+
+		//x & y: the start of the baseline in the coordinates of the parent
+		Bounds layoutBounds = text.getLayoutBounds();
+		double baselineY = layoutBounds.getMinY() + text.getBaselineOffset();
+		Point2D origin = text.localToParent(layoutBounds.getMinX(), baselineY);
+		svgNodeProperties.setX(origin.getX());
+		svgNodeProperties.setY(origin.getY());
+
+		//content
+		String content = text.getText();
+		if (content == null) {
+			content = "";
+		}
+		svgNodeProperties.setText(content);
+
+		//line height
+		svgNodeProperties.setLineHeight(getLineHeight(text, content));
+
+		//font
+		Font font = text.getFont();
+		svgNodeProperties.setFontFamily(font.getFamily());
+		svgNodeProperties.setFontSize(font.getSize());
+		addFontStyle(svgNodeProperties, font);
+
+		//decoration
+		svgNodeProperties.setTextDecoration(createTextDecoration(text));
+
+		//fill
+		String fill = paintToColorString(context, text.getFill());
+		svgNodeProperties.setFill(fill);
+
+		//stroke
+		String stroke = paintToColorString(context, text.getStroke());
+		svgNodeProperties.setStroke(stroke);
+		svgNodeProperties.setStrokeWidth(text.getStrokeWidth());
+	}
+
+	/**
+	 * Returns the distance of the baselines of two lines of the given Text, including the line spacing
+	 *
+	 * @param text
+	 * @param content
+	 *            the (non null) content of the text
+	 * @return
+	 */
+	static double getLineHeight(Text text, String content) {
+		int lineCount = 1;
+		for (int index = 0; index < content.length(); index++) {
+			if (content.charAt(index) == '\n') {
+				lineCount++;
+			}
+		}
+		return (text.getLayoutBounds().getHeight() + text.getLineSpacing()) / lineCount;
+	}
+
+	/**
+	 * Derives the svg font weight and style from the style name of the given font (e.g. "Bold Italic")
+	 *
+	 * @param svgNodeProperties
+	 * @param font
+	 */
+	private static void addFontStyle(SvgNodeProperties svgNodeProperties, Font font) {
+		String style = font.getStyle();
+		if (style == null) {
+			return;
+		}
+		String lowerCaseStyle = style.toLowerCase(Locale.ROOT);
+		boolean isBold = lowerCaseStyle.contains("bold") || lowerCaseStyle.contains("black")
+				|| lowerCaseStyle.contains("heavy");
+		if (isBold) {
+			svgNodeProperties.setFontWeight("bold");
+		}
+		boolean isItalic = lowerCaseStyle.contains("italic") || lowerCaseStyle.contains("oblique");
+		if (isItalic) {
+			svgNodeProperties.setFontStyle("italic");
+		}
+	}
+
+	private static String createTextDecoration(Text text) {
+		boolean isUnderline = text.isUnderline();
+		boolean isStrikethrough = text.isStrikethrough();
+		if (isUnderline && isStrikethrough) {
+			return "underline line-through";
+		}
+		if (isUnderline) {
+			return "underline";
+		}
+		if (isStrikethrough) {
+			return "line-through";
+		}
+		return null;
+	}
+
+	@Override
+	protected SvgNodeWriter getNodeWriter() {
+		return NODE_WRITER;
+	}
+
+	//#end region
+
+}
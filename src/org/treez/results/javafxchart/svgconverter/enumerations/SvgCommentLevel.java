@@ -0,0 +1,34 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines which svg comments are written to the output
+ */
+public enum SvgCommentLevel {
+
+	//#region VALUES
+
+	/**
+	 * no comments at all
+	 */
+	NONE,
+
+	/**
+	 * only warnings about features that are not (yet) supported
+	 */
+	WARNINGS,
+
+	/**
+	 * warnings and a comment for each node that describes its class, css classes and how it has been handled
+	 */
+	VERBOSE;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
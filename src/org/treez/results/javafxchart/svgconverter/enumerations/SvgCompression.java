@@ -0,0 +1,35 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how the svg code is compressed when it is written to a file
+ */
+public enum SvgCompression {
+
+	//#region VALUES
+
+	/**
+	 * the svg code is written uncompressed
+	 */
+	NONE,
+
+	/**
+	 * the svg code is written as gzip stream (e.g. an svgz file) by a single deflater
+	 */
+	GZIP,
+
+	/**
+	 * the svg code is written as gzip stream whose blocks are deflated in parallel by the common fork join pool; the
+	 * result is a single valid gzip stream that is only slightly larger than the one of GZIP
+	 */
+	PARALLEL_GZIP;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
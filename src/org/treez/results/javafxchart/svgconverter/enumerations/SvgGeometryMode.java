@@ -0,0 +1,30 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how the path geometries of the svg elements are written
+ */
+public enum SvgGeometryMode {
+
+	//#region VALUES
+
+	/**
+	 * each path element includes its path data
+	 */
+	INLINE,
+
+	/**
+	 * each distinct path geometry (relative to its start point) is written once in a defs element; the elements
+	 * reference the geometries with use elements
+	 */
+	SHARED;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
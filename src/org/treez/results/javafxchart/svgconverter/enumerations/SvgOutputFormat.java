@@ -0,0 +1,29 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how the svg code is laid out
+ */
+public enum SvgOutputFormat {
+
+	//#region VALUES
+
+	/**
+	 * indented code with line breaks, easy to read
+	 */
+	PRETTY,
+
+	/**
+	 * code without indentation and line breaks, as small as possible
+	 */
+	MINIFIED;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
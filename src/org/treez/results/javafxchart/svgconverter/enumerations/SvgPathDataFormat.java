@@ -0,0 +1,30 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how the path data ("d" attribute) of the svg paths is written
+ */
+public enum SvgPathDataFormat {
+
+	//#region VALUES
+
+	/**
+	 * absolute commands; all commands and numbers are separated by spaces (e.g. "M 10 20 L 15.5 20")
+	 */
+	READABLE,
+
+	/**
+	 * the shorter of the absolute and relative command for each segment, horizontal and vertical lines, no repeated
+	 * command letters, no leading zeros and only required separators (e.g. "M10 20h5.5")
+	 */
+	COMPACT;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
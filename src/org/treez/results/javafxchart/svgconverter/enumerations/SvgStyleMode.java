@@ -0,0 +1,29 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how the styles of the svg elements are written
+ */
+public enum SvgStyleMode {
+
+	//#region VALUES
+
+	/**
+	 * each element gets an inline style attribute
+	 */
+	INLINE,
+
+	/**
+	 * each distinct style is written once as css class in a style element; the elements reference the classes
+	 */
+	CLASSES;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
@@ -0,0 +1,30 @@
+package org.treez.results.javafxchart.svgconverter.enumerations;
+
+/**
+ * Defines how Text nodes (including the texts of labeled controls) are written
+ */
+public enum SvgTextMode {
+
+	//#region VALUES
+
+	/**
+	 * the outlines of the text are written as path; the result does not depend on the fonts of the svg viewer
+	 */
+	OUTLINES,
+
+	/**
+	 * the text is written as text element (with a tspan element per line) with the font family, size, weight, style
+	 * and fill of the node; the result is much smaller and faster to write but requires the fonts in the svg viewer
+	 */
+	TEXT;
+
+	//#end region
+
+	//#region ATTRIBUTES
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	//#end region
+}
@@ -0,0 +1,122 @@
+package org.treez.results.javafxchart.svgconverter.incremental;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGeometryTable;
+import org.treez.results.javafxchart.svgconverter.writer.SvgStyleTable;
+
+/**
+ * Wraps the snapshot of a subtree and remembers the svg code that has been written for it. As long as the subtree is
+ * not changed, the incremental exporter reuses this snapshot and the remembered code is appended instead of writing
+ * the subtree again. The code depends on the depth the subtree is written at; it is written again if the depth
+ * differs.
+ */
+final class FragmentSnapshot implements SvgNodeSnapshot {
+
+	//#region ATTRIBUTES
+
+	private final SvgNodeSnapshot snapshot;
+
+	/**
+	 * The last written fragment or null; replaced as a whole, so that the snapshot can be written by several threads
+	 */
+	private volatile Fragment fragment;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param snapshot
+	 */
+	FragmentSnapshot(SvgNodeSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public void write(SvgExportContext context) throws IOException {
+		int depth = context.getDepth();
+		Fragment currentFragment = fragment;
+		boolean isReusable = currentFragment != null && currentFragment.startDepth == depth;
+		if (!isReusable) {
+			SvgStyleTable fragmentStyleTable = null;
+			if (context.getStyleTable() != null) {
+				fragmentStyleTable = new SvgStyleTable();
+			}
+			SvgGeometryTable fragmentGeometryTable = null;
+			if (context.getGeometryTable() != null) {
+				fragmentGeometryTable = new SvgGeometryTable();
+			}
+			StringBuilder codeBuilder = new StringBuilder();
+			SvgExportContext fragmentContext = new SvgExportContext(codeBuilder, depth, context.getOptions(),
+					fragmentStyleTable, fragmentGeometryTable);
+			snapshot.write(fragmentContext);
+			currentFragment = new Fragment(codeBuilder.toString(), depth, fragmentContext.getDepth(),
+					fragmentStyleTable, fragmentGeometryTable);
+			fragment = currentFragment;
+		}
+
+		context.appendFragment(currentFragment.code, currentFragment.styleTable, currentFragment.geometryTable);
+		context.setDepth(currentFragment.endDepth);
+	}
+
+	@Override
+	public int getNodeCount() {
+		return snapshot.getNodeCount();
+	}
+
+	@Override
+	public long getFingerprint() {
+		return snapshot.getFingerprint();
+	}
+
+	@Override
+	public SvgNodeSnapshot getContentSnapshot() {
+		return snapshot.getContentSnapshot();
+	}
+
+	//#end region
+
+	//#region FRAGMENT
+
+	/**
+	 * The svg code of the subtree, the depths before and after writing it and the css classes
+	 * and geometries it references (or null)
+	 */
+	private static final class Fragment {
+
+		private final String code;
+
+		private final int startDepth;
+
+		private final int endDepth;
+
+		private final SvgStyleTable styleTable;
+
+		private final SvgGeometryTable geometryTable;
+
+		Fragment(
+				String code,
+				int startDepth,
+				int endDepth,
+				SvgStyleTable styleTable,
+				SvgGeometryTable geometryTable) {
+			this.code = code;
+			this.startDepth = startDepth;
+			this.endDepth = endDepth;
+			this.styleTable = styleTable;
+			this.geometryTable = geometryTable;
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,346 @@
+package org.treez.results.javafxchart.svgconverter.incremental;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.JavaFxNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureContext;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureOptions;
+import org.treez.results.javafxchart.svgconverter.converters.NodeConverterRegistry;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+
+/**
+ * Exports the same node tree repeatedly and only captures and writes the subtrees that changed since the last export.
+ * For each captured node, invalidation listeners are attached to the properties its converter reads (see
+ * NodeConverter.collectDependencies). An invalidation marks the node and its ancestors as dirty. Clean subtrees reuse
+ * their last snapshot and the svg code that has been written for it, so the cost of an export scales with the
+ * changed part of the tree and not with its size. The exporter must be used on the JavaFx Application Thread (if the
+ * nodes are part of a shown scene); the returned snapshots can be written on any thread. Call dispose to remove the
+ * listeners. A viewport is not supported, since the visibility of a clean subtree might change with its ancestors.
+ */
+public final class SvgIncrementalExporter {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(SvgIncrementalExporter.class);
+
+	//#region ATTRIBUTES
+
+	private final Node root;
+
+	private final SvgCaptureOptions options;
+
+	private final IncrementalCaptureContext captureContext;
+
+	private final Map<Node, TrackedNode> trackedNodes = new IdentityHashMap<>();
+
+	/**
+	 * Nodes without known dependencies; they are captured again for each export
+	 */
+	private final Set<TrackedNode> untrackableNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Former children of captured nodes; they are untracked after the capture if they have not been captured again
+	 */
+	private final List<TrackedNode> removalCandidates = new ArrayList<>();
+
+	/**
+	 * Collects the tracked children of the node that is currently captured
+	 */
+	private List<TrackedNode> capturedChildren = new ArrayList<>();
+
+	/**
+	 * Incremented for each capture; tracked nodes remember the last capture they have been part of
+	 */
+	private int captureIndex;
+
+	private int capturedNodeCount;
+
+	private int reusedSubtreeCount;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor. The options must not be changed while the exporter is used.
+	 *
+	 * @param root
+	 * @param options
+	 */
+	public SvgIncrementalExporter(Node root, SvgCaptureOptions options) {
+		this.root = Objects.requireNonNull(root, "Root node must not be null.");
+		this.options = Objects.requireNonNull(options, "Options must not be null.");
+		if (options.getViewport() != null) {
+			throw new IllegalArgumentException("The incremental export does not support a viewport.");
+		}
+		this.captureContext = new IncrementalCaptureContext(options);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Captures a snapshot of the root node; only the dirty subtrees are captured again
+	 *
+	 * @return
+	 */
+	public SvgSnapshot captureSnapshot() {
+		captureIndex++;
+		capturedNodeCount = 0;
+		reusedSubtreeCount = 0;
+		for (TrackedNode untrackableNode : untrackableNodes) {
+			markDirty(untrackableNode.node);
+		}
+
+		capturedChildren = new ArrayList<>(1);
+		SvgNodeSnapshot rootSnapshot = captureContext.capture(root);
+		untrackRemovedNodes();
+
+		return new SvgSnapshot(rootSnapshot, options);
+	}
+
+	/**
+	 * Captures the changes and returns the svg code of the whole tree
+	 *
+	 * @return
+	 */
+	public String export() {
+		return JavaFxNodeToSvgConverter.snapshotToSvg(captureSnapshot());
+	}
+
+	/**
+	 * Captures the changes and writes the svg code of the whole tree to the given output
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	public void export(Appendable out) throws IOException {
+		JavaFxNodeToSvgConverter.snapshotToSvg(captureSnapshot(), out);
+	}
+
+	/**
+	 * Marks all nodes as dirty, e.g. if a value changed that is not observable
+	 */
+	public void invalidateAll() {
+		for (TrackedNode trackedNode : trackedNodes.values()) {
+			trackedNode.isDirty = true;
+		}
+	}
+
+	/**
+	 * Removes all listeners and forgets all snapshots
+	 */
+	public void dispose() {
+		for (TrackedNode trackedNode : trackedNodes.values()) {
+			trackedNode.removeListeners();
+		}
+		trackedNodes.clear();
+		untrackableNodes.clear();
+		removalCandidates.clear();
+	}
+
+	/**
+	 * Marks the given node and its ancestors as dirty
+	 *
+	 * @param node
+	 */
+	private void markDirty(Node node) {
+		for (Node currentNode = node; currentNode != null; currentNode = currentNode.getParent()) {
+			TrackedNode trackedNode = trackedNodes.get(currentNode);
+			if (trackedNode != null) {
+				trackedNode.isDirty = true;
+			}
+		}
+	}
+
+	private SvgNodeSnapshot captureTracked(Node node) {
+		TrackedNode trackedNode = trackedNodes.get(node);
+		if (trackedNode == null) {
+			trackedNode = new TrackedNode(node);
+			trackedNodes.put(node, trackedNode);
+		}
+		trackedNode.captureIndex = captureIndex;
+		capturedChildren.add(trackedNode);
+
+		boolean isReusable = !trackedNode.isDirty && trackedNode.snapshot != null;
+		if (isReusable) {
+			reusedSubtreeCount++;
+			return trackedNode.snapshot;
+		}
+
+		capturedNodeCount++;
+		List<TrackedNode> parentChildren = capturedChildren;
+		capturedChildren = new ArrayList<>();
+		try {
+			//clean before capturing: invalidations during the capture mark the node as dirty again
+			trackedNode.isDirty = false;
+			trackedNode.updateListeners();
+			SvgNodeSnapshot snapshot = captureContext.captureWithConverter(node);
+			trackedNode.snapshot = new FragmentSnapshot(snapshot);
+
+			removalCandidates.addAll(trackedNode.children);
+			trackedNode.children = capturedChildren;
+		} finally {
+			capturedChildren = parentChildren;
+		}
+		return trackedNode.snapshot;
+	}
+
+	/**
+	 * Untracks the former children (and their subtrees) that have not been captured again
+	 */
+	private void untrackRemovedNodes() {
+		for (TrackedNode removalCandidate : removalCandidates) {
+			untrack(removalCandidate);
+		}
+		removalCandidates.clear();
+	}
+
+	private void untrack(TrackedNode trackedNode) {
+		boolean isStillUsed = trackedNode.captureIndex == captureIndex;
+		if (isStillUsed || trackedNodes.get(trackedNode.node) != trackedNode) {
+			return;
+		}
+		trackedNode.removeListeners();
+		trackedNodes.remove(trackedNode.node);
+		untrackableNodes.remove(trackedNode);
+		for (TrackedNode child : trackedNode.children) {
+			untrack(child);
+		}
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return the number of nodes that have been captured by the last export
+	 */
+	public int getCapturedNodeCount() {
+		return capturedNodeCount;
+	}
+
+	/**
+	 * @return the number of unchanged subtrees that have been reused by the last export
+	 */
+	public int getReusedSubtreeCount() {
+		return reusedSubtreeCount;
+	}
+
+	/**
+	 * @return the number of nodes the exporter listens to
+	 */
+	public int getTrackedNodeCount() {
+		return trackedNodes.size();
+	}
+
+	//#end region
+
+	//#region CAPTURE CONTEXT
+
+	/**
+	 * Capture context that reuses the snapshots of clean subtrees
+	 */
+	private final class IncrementalCaptureContext extends SvgCaptureContext {
+
+		IncrementalCaptureContext(SvgCaptureOptions options) {
+			super(options);
+		}
+
+		@Override
+		public SvgNodeSnapshot capture(Node node) {
+			return captureTracked(node);
+		}
+
+		SvgNodeSnapshot captureWithConverter(Node node) {
+			return super.capture(node);
+		}
+	}
+
+	//#end region
+
+	//#region TRACKED NODE
+
+	/**
+	 * The listeners, the last snapshot and the captured children of a node
+	 */
+	private final class TrackedNode implements InvalidationListener {
+
+		private final Node node;
+
+		private List<Observable> dependencies = Collections.emptyList();
+
+		private List<TrackedNode> children = Collections.emptyList();
+
+		private FragmentSnapshot snapshot;
+
+		private boolean isDirty = true;
+
+		private int captureIndex;
+
+		TrackedNode(Node node) {
+			this.node = node;
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			if (!isDirty) {
+				markDirty(node);
+			}
+		}
+
+		/**
+		 * Listens to the current dependencies of the node (they might have changed, e.g. if the shape of a Region has
+		 * been replaced). Observable values are validated, since lazily computed values only notify again after they
+		 * have been read.
+		 */
+		void updateListeners() {
+			removeListeners();
+			dependencies = new ArrayList<>();
+			NodeConverterRegistry.getConverter(node).collectDependencies(node, dependencies);
+			for (Observable dependency : dependencies) {
+				dependency.addListener(this);
+				boolean isObservableValue = dependency instanceof ObservableValue;
+				if (isObservableValue) {
+					((ObservableValue<?>) dependency).getValue();
+				}
+			}
+
+			boolean isUntrackable = dependencies.isEmpty();
+			if (isUntrackable) {
+				if (untrackableNodes.add(this)) {
+					sysLog.debug("The converter of '" + node.getClass().getName()
+							+ "' does not declare dependencies; the node is captured for each export.");
+				}
+			} else {
+				untrackableNodes.remove(this);
+			}
+		}
+
+		void removeListeners() {
+			for (Observable dependency : dependencies) {
+				dependency.removeListener(this);
+			}
+			dependencies = Collections.emptyList();
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,209 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+/**
+ * Reads the values of a serialized snapshot (see {@link SvgSnapshotFormat}) from an input stream. Corrupt data is
+ * reported with an IOException.
+ */
+public final class SvgBinaryInput {
+
+	//#region ATTRIBUTES
+
+	private static final int VARIABLE_INTEGER_MASK = 0x7F;
+
+	private static final int CONTINUATION_BIT = 0x80;
+
+	private static final int BITS_PER_BYTE = 7;
+
+	/**
+	 * The maximum number of bytes of a variable length integer
+	 */
+	private static final int MAXIMUM_INTEGER_BYTE_COUNT = 5;
+
+	private final DataInputStream in;
+
+	/**
+	 * The strings that have been read, in the order of their appearance
+	 */
+	private final List<String> strings = new ArrayList<>();
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param in
+	 */
+	public SvgBinaryInput(InputStream in) {
+		Objects.requireNonNull(in, "Input stream must not be null.");
+		this.in = new DataInputStream(in);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Reads an unsigned variable length integer
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public int readInt() throws IOException {
+		int value = 0;
+		for (int byteIndex = 0; byteIndex < MAXIMUM_INTEGER_BYTE_COUNT; byteIndex++) {
+			int currentByte = in.readUnsignedByte();
+			value |= (currentByte & VARIABLE_INTEGER_MASK) << (BITS_PER_BYTE * byteIndex);
+			boolean isLastByte = (currentByte & CONTINUATION_BIT) == 0;
+			if (isLastByte) {
+				if (value < 0) {
+					throw new IOException("The snapshot contains an integer that is out of range.");
+				}
+				return value;
+			}
+		}
+		throw new IOException("The snapshot contains an integer with too many bytes.");
+	}
+
+	/**
+	 * Reads an unsigned variable length integer and checks that it does not exceed the given maximum
+	 *
+	 * @param maximum
+	 * @param name
+	 *            the name of the value, used in the error message
+	 * @return
+	 * @throws IOException
+	 */
+	public int readInt(int maximum, String name) throws IOException {
+		int value = readInt();
+		if (value > maximum) {
+			String message = "The " + name + " " + value + " of the snapshot exceeds the maximum " + maximum + ".";
+			throw new IOException(message);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a fixed size integer (e.g. the magic number)
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public int readFixedInt() throws IOException {
+		return in.readInt();
+	}
+
+	/**
+	 * @return
+	 * @throws IOException
+	 */
+	public double readDouble() throws IOException {
+		return in.readDouble();
+	}
+
+	/**
+	 * @return
+	 * @throws IOException
+	 */
+	public boolean readBoolean() throws IOException {
+		return in.readBoolean();
+	}
+
+	/**
+	 * Reads a string reference and, for a new string, the string itself
+	 *
+	 * @return the string or null
+	 * @throws IOException
+	 */
+	public String readString() throws IOException {
+		int reference = readInt();
+		if (reference == SvgSnapshotFormat.NULL_STRING) {
+			return null;
+		}
+		if (reference == SvgSnapshotFormat.NEW_STRING) {
+			int byteCount = readInt();
+			byte[] bytes = new byte[byteCount];
+			in.readFully(bytes);
+			String value = new String(bytes, StandardCharsets.UTF_8);
+			strings.add(value);
+			return value;
+		}
+		int index = reference - SvgSnapshotFormat.STRING_INDEX_OFFSET;
+		if (index >= strings.size()) {
+			String message = "The snapshot references the unknown string " + index + ".";
+			throw new IOException(message);
+		}
+		return strings.get(index);
+	}
+
+	/**
+	 * Reads the name of an enumeration value
+	 *
+	 * @param enumType
+	 * @return the enumeration value or null
+	 * @throws IOException
+	 */
+	public <T extends Enum<T>> T readEnum(Class<T> enumType) throws IOException {
+		String name = readString();
+		if (name == null) {
+			return null;
+		}
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException exception) {
+			String message = "The snapshot contains the unknown value " + name + " of " + enumType.getSimpleName()
+					+ ".";
+			throw new IOException(message, exception);
+		}
+	}
+
+	/**
+	 * Reads path data
+	 *
+	 * @return the path data or null
+	 * @throws IOException
+	 */
+	public SvgPathData readPathData() throws IOException {
+		boolean hasPathData = readBoolean();
+		if (!hasPathData) {
+			return null;
+		}
+		boolean isRaw = readBoolean();
+		if (isRaw) {
+			String rawData = readString();
+			if (rawData == null) {
+				throw new IOException("The snapshot contains raw path data without content.");
+			}
+			return SvgPathData.fromRawData(rawData);
+		}
+		int commandCount = readInt();
+		char[] commands = new char[commandCount];
+		for (int index = 0; index < commandCount; index++) {
+			commands[index] = (char) in.readUnsignedByte();
+		}
+		int coordinateCount = readInt();
+		double[] coordinates = new double[coordinateCount];
+		for (int index = 0; index < coordinateCount; index++) {
+			coordinates[index] = in.readDouble();
+		}
+		try {
+			return SvgPathData.fromCommands(commands, coordinates);
+		} catch (IllegalArgumentException exception) {
+			throw new IOException("The snapshot contains invalid path data.", exception);
+		}
+	}
+
+	//#end region
+
+}
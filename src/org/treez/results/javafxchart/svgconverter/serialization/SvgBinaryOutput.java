@@ -0,0 +1,187 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+/**
+ * Writes the values of a serialized snapshot (see {@link SvgSnapshotFormat}) to an output stream. Each string is only
+ * written once; later occurrences are written as references to the string table.
+ */
+public final class SvgBinaryOutput {
+
+	//#region ATTRIBUTES
+
+	private static final int VARIABLE_INTEGER_MASK = 0x7F;
+
+	private static final int CONTINUATION_BIT = 0x80;
+
+	private static final int BITS_PER_BYTE = 7;
+
+	private final DataOutputStream out;
+
+	/**
+	 * Maps the written strings to their index in the string table
+	 */
+	private final Map<String, Integer> stringIndices = new HashMap<>();
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param out
+	 */
+	public SvgBinaryOutput(OutputStream out) {
+		Objects.requireNonNull(out, "Output stream must not be null.");
+		this.out = new DataOutputStream(out);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the given non negative integer as unsigned variable length integer (seven bits per byte)
+	 *
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeInt(int value) throws IOException {
+		if (value < 0) {
+			String message = "The value must not be negative but is " + value + ".";
+			throw new IllegalArgumentException(message);
+		}
+		int remainingValue = value;
+		while (remainingValue > VARIABLE_INTEGER_MASK) {
+			out.writeByte((remainingValue & VARIABLE_INTEGER_MASK) | CONTINUATION_BIT);
+			remainingValue >>>= BITS_PER_BYTE;
+		}
+		out.writeByte(remainingValue);
+	}
+
+	/**
+	 * Writes the given fixed size integer (e.g. the magic number)
+	 *
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeFixedInt(int value) throws IOException {
+		out.writeInt(value);
+	}
+
+	/**
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeDouble(double value) throws IOException {
+		out.writeDouble(value);
+	}
+
+	/**
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeBoolean(boolean value) throws IOException {
+		out.writeBoolean(value);
+	}
+
+	/**
+	 * Writes the given string (that might be null) as reference to the string table. A new string is written as UTF-8
+	 * bytes after the reference.
+	 *
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeString(String value) throws IOException {
+		if (value == null) {
+			writeInt(SvgSnapshotFormat.NULL_STRING);
+			return;
+		}
+		Integer index = stringIndices.get(value);
+		if (index != null) {
+			writeInt(SvgSnapshotFormat.STRING_INDEX_OFFSET + index);
+			return;
+		}
+		stringIndices.put(value, stringIndices.size());
+		writeInt(SvgSnapshotFormat.NEW_STRING);
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Writes the name of the given enumeration value (that might be null)
+	 *
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeEnum(Enum<?> value) throws IOException {
+		if (value == null) {
+			writeString(null);
+		} else {
+			writeString(value.name());
+		}
+	}
+
+	/**
+	 * Writes the given path data (that might be null): either the raw data or the commands and their coordinates
+	 *
+	 * @param pathData
+	 * @throws IOException
+	 */
+	public void writePathData(SvgPathData pathData) throws IOException {
+		boolean hasPathData = pathData != null;
+		writeBoolean(hasPathData);
+		if (!hasPathData) {
+			return;
+		}
+		boolean isRaw = pathData.isRaw();
+		writeBoolean(isRaw);
+		if (isRaw) {
+			writeString(pathData.getRawData());
+			return;
+		}
+		int commandCount = pathData.getCommandCount();
+		writeInt(commandCount);
+		for (int index = 0; index < commandCount; index++) {
+			out.writeByte(pathData.getCommand(index));
+		}
+		int coordinateCount = pathData.getTotalCoordinateCount();
+		writeInt(coordinateCount);
+		for (int index = 0; index < coordinateCount; index++) {
+			out.writeDouble(pathData.getCoordinate(index));
+		}
+	}
+
+	/**
+	 * Flushes the underlying output stream
+	 *
+	 * @throws IOException
+	 */
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return the number of bytes that have been written
+	 */
+	public int getByteCount() {
+		return out.size();
+	}
+
+	//#end region
+
+}
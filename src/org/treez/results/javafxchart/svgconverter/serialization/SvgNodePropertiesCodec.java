@@ -0,0 +1,271 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeAlignment;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineCap;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineJoin;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
+
+/**
+ * Writes and reads the svg node properties of a serialized snapshot (see {@link SvgSnapshotFormat}) with the accessors
+ * of the properties. The boolean properties are written as bit flags; each per side value is written as its count (0,
+ * 1 or 4) followed by the values.
+ */
+final class SvgNodePropertiesCodec {
+
+	//#region ATTRIBUTES
+
+	private static final int DEFINED_BY_RECT_FLAG = 1;
+
+	private static final int HAS_CHILDREN_FLAG = 1 << 1;
+
+	private static final int GROUP_FLAG = 1 << 2;
+
+	private static final int SIDE_COUNT = SvgNodeProperties.SIDE_COUNT;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgNodePropertiesCodec() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes all given properties to the given binary output
+	 *
+	 * @param out
+	 * @param properties
+	 * @throws IOException
+	 */
+	static void encode(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		out.writeString(properties.getComment());
+		out.writeString(properties.getId());
+		out.writeInt(encodeFlags(properties));
+		out.writeEnum(properties.getVisibility());
+		out.writeDouble(properties.getOpacity());
+		encodeStrokeOpacities(out, properties);
+		out.writeDouble(properties.getX());
+		out.writeDouble(properties.getY());
+		out.writeDouble(properties.getXScale());
+		out.writeDouble(properties.getYScale());
+		out.writeDouble(properties.getRotation());
+		out.writeDouble(properties.getRotationAxisX());
+		out.writeDouble(properties.getRotationAxisY());
+		out.writePathData(properties.getPathData());
+		out.writeDouble(properties.getRectWidth());
+		out.writeDouble(properties.getRectHeight());
+		out.writeString(properties.getFill());
+		encodeFillRadii(out, properties);
+		encodeStrokes(out, properties);
+		encodeStrokeWidths(out, properties);
+		out.writeEnum(properties.getStrokeLineCap());
+		out.writeEnum(properties.getStrokeLineJoin());
+		out.writeEnum(properties.getStrokeAlignment());
+		out.writeDouble(properties.getStrokeMiterLimit());
+		out.writeString(properties.getStrokeDashArray());
+		out.writeDouble(properties.getStrokeDashOffset());
+		encodeStrokeRadii(out, properties);
+		out.writeDouble(properties.getFontSize());
+		out.writeString(properties.getFontFamily());
+		out.writeString(properties.getFontWeight());
+		out.writeString(properties.getFontStyle());
+		out.writeString(properties.getText());
+		out.writeString(properties.getTextDecoration());
+		out.writeDouble(properties.getLineHeight());
+	}
+
+	/**
+	 * Resets the given properties and sets the properties that are read from the given binary input (see encode)
+	 *
+	 * @param in
+	 * @param properties
+	 * @throws IOException
+	 */
+	static void decode(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		properties.reset();
+		properties.setComment(in.readString());
+		properties.setId(in.readString());
+		decodeFlags(in, properties);
+		properties.setVisibility(in.readEnum(SvgVisibility.class));
+		properties.setOpacity(in.readDouble());
+		decodeStrokeOpacities(in, properties);
+		properties.setX(in.readDouble());
+		properties.setY(in.readDouble());
+		properties.setXScale(in.readDouble());
+		properties.setYScale(in.readDouble());
+		properties.setRotation(in.readDouble());
+		properties.setRotationAxisX(in.readDouble());
+		properties.setRotationAxisY(in.readDouble());
+		properties.setPathData(in.readPathData());
+		properties.setRectWidth(in.readDouble());
+		properties.setRectHeight(in.readDouble());
+		properties.setFill(in.readString());
+		decodeFillRadii(in, properties);
+		decodeStrokes(in, properties);
+		decodeStrokeWidths(in, properties);
+		properties.setStrokeLineCap(in.readEnum(SvgStrokeLineCap.class));
+		properties.setStrokeLineJoin(in.readEnum(SvgStrokeLineJoin.class));
+		properties.setStrokeAlignment(in.readEnum(SvgStrokeAlignment.class));
+		properties.setStrokeMiterLimit(in.readDouble());
+		properties.setStrokeDashArray(in.readString());
+		properties.setStrokeDashOffset(in.readDouble());
+		decodeStrokeRadii(in, properties);
+		properties.setFontSize(in.readDouble());
+		properties.setFontFamily(in.readString());
+		properties.setFontWeight(in.readString());
+		properties.setFontStyle(in.readString());
+		properties.setText(in.readString());
+		properties.setTextDecoration(in.readString());
+		properties.setLineHeight(in.readDouble());
+	}
+
+	//#region FLAGS
+
+	private static int encodeFlags(SvgNodeProperties properties) {
+		int flags = 0;
+		if (properties.isDefinedByRect()) {
+			flags |= DEFINED_BY_RECT_FLAG;
+		}
+		if (properties.hasChildren()) {
+			flags |= HAS_CHILDREN_FLAG;
+		}
+		if (properties.isGroup()) {
+			flags |= GROUP_FLAG;
+		}
+		return flags;
+	}
+
+	private static void decodeFlags(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int flags = in.readInt();
+		properties.setIsDefinedByRect((flags & DEFINED_BY_RECT_FLAG) != 0);
+		properties.setHasChildren((flags & HAS_CHILDREN_FLAG) != 0);
+		properties.setIsGroup((flags & GROUP_FLAG) != 0);
+	}
+
+	//#end region
+
+	//#region PER SIDE VALUES
+
+	private static void encodeStrokeOpacities(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		int count = properties.getStrokeOpacityCount();
+		out.writeInt(count);
+		for (int side = 0; side < count; side++) {
+			out.writeDouble(properties.getStrokeOpacity(side));
+		}
+	}
+
+	private static void decodeStrokeOpacities(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int count = readPerSideCount(in, "stroke opacity count");
+		if (count == 1) {
+			properties.setStrokeOpacity(in.readDouble());
+		} else if (count == SIDE_COUNT) {
+			properties.setStrokeOpacities(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+		}
+	}
+
+	private static void encodeFillRadii(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		int count = properties.getFillRadiusCount();
+		out.writeInt(count);
+		for (int corner = 0; corner < count; corner++) {
+			out.writeDouble(properties.getFillRadius(corner));
+		}
+	}
+
+	private static void decodeFillRadii(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int count = readPerSideCount(in, "fill radius count");
+		if (count == 1) {
+			properties.setFillRadius(in.readDouble());
+		} else if (count == SIDE_COUNT) {
+			properties.setFillRadii(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+		}
+	}
+
+	private static void encodeStrokes(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		int count = properties.getStrokeCount();
+		out.writeInt(count);
+		for (int side = 0; side < count; side++) {
+			out.writeString(properties.getStroke(side));
+		}
+	}
+
+	private static void decodeStrokes(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int count = readPerSideCount(in, "stroke count");
+		if (count == 1) {
+			properties.setStroke(in.readString());
+		} else if (count == SIDE_COUNT) {
+			String[] strokes = new String[SIDE_COUNT];
+			for (int side = 0; side < SIDE_COUNT; side++) {
+				strokes[side] = in.readString();
+				if (strokes[side] == null) {
+					throw new IOException("The snapshot contains a stroke without color.");
+				}
+			}
+			properties.setStrokes(strokes[0], strokes[1], strokes[2], strokes[3]);
+		}
+	}
+
+	private static void encodeStrokeWidths(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		int count = properties.getStrokeWidthCount();
+		out.writeInt(count);
+		for (int side = 0; side < count; side++) {
+			out.writeDouble(properties.getStrokeWidth(side));
+		}
+	}
+
+	private static void decodeStrokeWidths(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int count = readPerSideCount(in, "stroke width count");
+		if (count == 1) {
+			properties.setStrokeWidth(in.readDouble());
+		} else if (count == SIDE_COUNT) {
+			properties.setStrokeWidths(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+		}
+	}
+
+	private static void encodeStrokeRadii(SvgBinaryOutput out, SvgNodeProperties properties) throws IOException {
+		int count = properties.getStrokeRadiusCount();
+		out.writeInt(count);
+		for (int corner = 0; corner < count; corner++) {
+			out.writeDouble(properties.getStrokeRadius(corner));
+		}
+	}
+
+	private static void decodeStrokeRadii(SvgBinaryInput in, SvgNodeProperties properties) throws IOException {
+		int count = readPerSideCount(in, "stroke radius count");
+		if (count == 1) {
+			properties.setStrokeRadius(in.readDouble());
+		} else if (count == SIDE_COUNT) {
+			properties.setStrokeRadii(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+		}
+	}
+
+	/**
+	 * Reads the count of a per side value, which is 0 (not set), 1 (a single value for all sides) or 4
+	 *
+	 * @param in
+	 * @param name
+	 * @return
+	 * @throws IOException
+	 */
+	private static int readPerSideCount(SvgBinaryInput in, String name) throws IOException {
+		int count = in.readInt(SIDE_COUNT, name);
+		boolean isValid = count == 0 || count == 1 || count == SIDE_COUNT;
+		if (!isValid) {
+			String message = "The " + name + " " + count + " of the snapshot is not valid.";
+			throw new IOException(message);
+		}
+		return count;
+	}
+
+	//#end region
+
+	//#end region
+
+}
@@ -0,0 +1,193 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCommentLevel;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgGeometryMode;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgOutputFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgPathDataFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStyleMode;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextAnchor;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgEmptySnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgLabelSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPropertiesSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgWarningSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGroupWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgRegionWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgShapeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgTextWriter;
+
+/**
+ * Reads a snapshot that has been serialized by the {@link SvgSnapshotEncoder}. The decoder does not use any JavaFx
+ * classes; the decoded snapshot can be written in a process without JavaFx toolkit and writes the same svg code as
+ * the original snapshot.
+ */
+public final class SvgSnapshotDecoder {
+
+	//#region ATTRIBUTES
+
+	private static final SvgNodeWriter NODE_WRITER = new SvgNodeWriter();
+
+	private static final SvgNodeWriter GROUP_WRITER = new SvgGroupWriter();
+
+	private static final SvgNodeWriter REGION_WRITER = new SvgRegionWriter();
+
+	private static final SvgNodeWriter SHAPE_WRITER = new SvgShapeWriter();
+
+	private static final SvgNodeWriter TEXT_WRITER = new SvgTextWriter();
+
+	/**
+	 * The maximum initial capacity of a child list; larger lists grow while their children are read, so that corrupt
+	 * data can not cause huge allocations
+	 */
+	private static final int MAXIMUM_INITIAL_CHILD_CAPACITY = 1024;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgSnapshotDecoder() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Reads a serialized snapshot from the given input stream. The stream is not closed.
+	 *
+	 * @param inputStream
+	 * @return
+	 * @throws IOException
+	 *             if the stream does not contain a snapshot of the current format version or the snapshot is corrupt
+	 */
+	public static SvgSnapshot decode(InputStream inputStream) throws IOException {
+		SvgBinaryInput in = new SvgBinaryInput(inputStream);
+		int magic = in.readFixedInt();
+		if (magic != SvgSnapshotFormat.MAGIC) {
+			throw new IOException("The stream does not contain a serialized snapshot.");
+		}
+		int version = in.readInt();
+		if (version != SvgSnapshotFormat.VERSION) {
+			String message = "The snapshot version " + version + " is not supported. The supported version is "
+					+ SvgSnapshotFormat.VERSION + ".";
+			throw new IOException(message);
+		}
+		SvgExportOptions options = decodeOptions(in);
+		SvgNodeSnapshot rootSnapshot = decodeNode(in);
+		return new SvgSnapshot(rootSnapshot, options);
+	}
+
+	private static SvgExportOptions decodeOptions(SvgBinaryInput in) throws IOException {
+		SvgExportOptions options = new SvgExportOptions();
+		options.setOutputFormat(readRequiredEnum(in, SvgOutputFormat.class));
+		options.setCommentLevel(readRequiredEnum(in, SvgCommentLevel.class));
+		options.setStyleMode(readRequiredEnum(in, SvgStyleMode.class));
+		options.setGeometryMode(readRequiredEnum(in, SvgGeometryMode.class));
+		options.setPathDataFormat(readRequiredEnum(in, SvgPathDataFormat.class));
+		try {
+			options.setMaximumFractionDigits(in.readInt());
+			options.setParallelSubtreeThreshold(in.readInt());
+		} catch (IllegalArgumentException exception) {
+			throw new IOException("The snapshot contains invalid options.", exception);
+		}
+		return options;
+	}
+
+	private static <T extends Enum<T>> T readRequiredEnum(SvgBinaryInput in, Class<T> enumType) throws IOException {
+		T value = in.readEnum(enumType);
+		if (value == null) {
+			String message = "The snapshot does not contain a value of " + enumType.getSimpleName() + ".";
+			throw new IOException(message);
+		}
+		return value;
+	}
+
+	private static SvgNodeSnapshot decodeNode(SvgBinaryInput in) throws IOException {
+		int tag = in.readInt();
+		switch (tag) {
+		case SvgSnapshotFormat.EMPTY_NODE:
+			return SvgEmptySnapshot.INSTANCE;
+		case SvgSnapshotFormat.PROPERTIES_NODE:
+			return decodePropertiesNode(in);
+		case SvgSnapshotFormat.LABEL_NODE:
+			return decodeLabelNode(in);
+		case SvgSnapshotFormat.WARNING_NODE:
+			return new SvgWarningSnapshot(in.readString());
+		default:
+			String message = "The snapshot contains the unknown node tag " + tag + ".";
+			throw new IOException(message);
+		}
+	}
+
+	private static SvgNodeSnapshot decodePropertiesNode(SvgBinaryInput in) throws IOException {
+		SvgNodeWriter nodeWriter = getNodeWriter(in.readInt());
+		String warning = in.readString();
+		SvgNodeProperties properties = new SvgNodeProperties();
+		SvgNodePropertiesCodec.decode(in, properties);
+
+		int childCount = in.readInt();
+		List<SvgNodeSnapshot> childSnapshots = Collections.emptyList();
+		if (childCount > 0) {
+			List<SvgNodeSnapshot> children = new ArrayList<>(Math.min(childCount, MAXIMUM_INITIAL_CHILD_CAPACITY));
+			for (int index = 0; index < childCount; index++) {
+				children.add(decodeNode(in));
+			}
+			childSnapshots = Collections.unmodifiableList(children);
+		}
+		return new SvgPropertiesSnapshot(nodeWriter, properties, warning, childSnapshots);
+	}
+
+	private static SvgNodeSnapshot decodeLabelNode(SvgBinaryInput in) throws IOException {
+		String comment = in.readString();
+		SvgNodeSnapshot imageSnapshot = null;
+		boolean hasImage = in.readBoolean();
+		if (hasImage) {
+			imageSnapshot = decodeNode(in);
+		}
+		String text = in.readString();
+		String backgroundFill = in.readString();
+		double textWidth = in.readDouble();
+		double textHeight = in.readDouble();
+		double x = in.readDouble();
+		double y = in.readDouble();
+		String fontFamily = in.readString();
+		double fontSize = in.readDouble();
+		String fill = in.readString();
+		SvgTextAnchor textAnchor = in.readEnum(SvgTextAnchor.class);
+		return new SvgLabelSnapshot(comment, imageSnapshot, text, backgroundFill, textWidth, textHeight, x, y,
+				fontFamily, fontSize, fill, textAnchor);
+	}
+
+	private static SvgNodeWriter getNodeWriter(int nodeWriterKind) throws IOException {
+		switch (nodeWriterKind) {
+		case SvgSnapshotFormat.NODE_WRITER:
+			return NODE_WRITER;
+		case SvgSnapshotFormat.GROUP_WRITER:
+			return GROUP_WRITER;
+		case SvgSnapshotFormat.REGION_WRITER:
+			return REGION_WRITER;
+		case SvgSnapshotFormat.SHAPE_WRITER:
+			return SHAPE_WRITER;
+		case SvgSnapshotFormat.TEXT_WRITER:
+			return TEXT_WRITER;
+		default:
+			String message = "The snapshot contains the unknown node writer " + nodeWriterKind + ".";
+			throw new IOException(message);
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,149 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgEmptySnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgLabelSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPropertiesSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgWarningSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGroupWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgRegionWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgShapeWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgTextWriter;
+
+/**
+ * Serializes a captured snapshot to the binary snapshot format (see {@link SvgSnapshotFormat}), so that the svg code
+ * can be written by another process (e.g. a worker without JavaFx toolkit, see {@link SvgSnapshotWorker}). Only the
+ * options that influence the writing are serialized; the options that are only used while capturing (simplification
+ * tolerance, pruning, viewport and text mode) have already been applied and the fragment and glyph caches are bound to
+ * the current process.
+ */
+public final class SvgSnapshotEncoder {
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgSnapshotEncoder() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Serializes the given snapshot to the given output stream. The stream is flushed but not closed.
+	 *
+	 * @param snapshot
+	 * @param outputStream
+	 * @throws IOException
+	 */
+	public static void encode(SvgSnapshot snapshot, OutputStream outputStream) throws IOException {
+		Objects.requireNonNull(snapshot, "Snapshot must not be null.");
+		SvgBinaryOutput out = new SvgBinaryOutput(outputStream);
+		out.writeFixedInt(SvgSnapshotFormat.MAGIC);
+		out.writeInt(SvgSnapshotFormat.VERSION);
+		encodeOptions(out, snapshot.getOptions());
+		encodeNode(out, snapshot.getRootSnapshot());
+		out.flush();
+	}
+
+	private static void encodeOptions(SvgBinaryOutput out, SvgExportOptions options) throws IOException {
+		out.writeEnum(options.getOutputFormat());
+		out.writeEnum(options.getCommentLevel());
+		out.writeEnum(options.getStyleMode());
+		out.writeEnum(options.getGeometryMode());
+		out.writeEnum(options.getPathDataFormat());
+		out.writeInt(options.getMaximumFractionDigits());
+		out.writeInt(options.getParallelSubtreeThreshold());
+	}
+
+	private static void encodeNode(SvgBinaryOutput out, SvgNodeSnapshot snapshot) throws IOException {
+		SvgNodeSnapshot contentSnapshot = snapshot.getContentSnapshot();
+		if (contentSnapshot instanceof SvgEmptySnapshot) {
+			out.writeInt(SvgSnapshotFormat.EMPTY_NODE);
+		} else if (contentSnapshot instanceof SvgPropertiesSnapshot) {
+			out.writeInt(SvgSnapshotFormat.PROPERTIES_NODE);
+			encodePropertiesNode(out, (SvgPropertiesSnapshot) contentSnapshot);
+		} else if (contentSnapshot instanceof SvgLabelSnapshot) {
+			out.writeInt(SvgSnapshotFormat.LABEL_NODE);
+			encodeLabelNode(out, (SvgLabelSnapshot) contentSnapshot);
+		} else if (contentSnapshot instanceof SvgWarningSnapshot) {
+			out.writeInt(SvgSnapshotFormat.WARNING_NODE);
+			out.writeString(((SvgWarningSnapshot) contentSnapshot).getWarning());
+		} else {
+			String message = "The snapshot " + contentSnapshot.getClass().getName() + " can not be serialized.";
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	private static void encodePropertiesNode(SvgBinaryOutput out, SvgPropertiesSnapshot snapshot)
+			throws IOException {
+		out.writeInt(getNodeWriterKind(snapshot.getNodeWriter()));
+		out.writeString(snapshot.getWarning());
+		SvgNodePropertiesCodec.encode(out, snapshot.getProperties());
+		List<SvgNodeSnapshot> childSnapshots = snapshot.getChildSnapshots();
+		out.writeInt(childSnapshots.size());
+		for (SvgNodeSnapshot childSnapshot : childSnapshots) {
+			encodeNode(out, childSnapshot);
+		}
+	}
+
+	private static void encodeLabelNode(SvgBinaryOutput out, SvgLabelSnapshot snapshot) throws IOException {
+		out.writeString(snapshot.getComment());
+		SvgNodeSnapshot imageSnapshot = snapshot.getImageSnapshot();
+		boolean hasImage = imageSnapshot != null;
+		out.writeBoolean(hasImage);
+		if (hasImage) {
+			encodeNode(out, imageSnapshot);
+		}
+		out.writeString(snapshot.getText());
+		out.writeString(snapshot.getBackgroundFill());
+		out.writeDouble(snapshot.getTextWidth());
+		out.writeDouble(snapshot.getTextHeight());
+		out.writeDouble(snapshot.getX());
+		out.writeDouble(snapshot.getY());
+		out.writeString(snapshot.getFontFamily());
+		out.writeDouble(snapshot.getFontSize());
+		out.writeString(snapshot.getFill());
+		out.writeEnum(snapshot.getTextAnchor());
+	}
+
+	/**
+	 * Identifies the given node writer. Only the node writers of this library can be serialized, since a custom node
+	 * writer might not be available in the process that reads the snapshot.
+	 *
+	 * @param nodeWriter
+	 * @return
+	 */
+	private static int getNodeWriterKind(SvgNodeWriter nodeWriter) {
+		Class<?> nodeWriterClass = nodeWriter.getClass();
+		if (nodeWriterClass.equals(SvgNodeWriter.class)) {
+			return SvgSnapshotFormat.NODE_WRITER;
+		}
+		if (nodeWriterClass.equals(SvgGroupWriter.class)) {
+			return SvgSnapshotFormat.GROUP_WRITER;
+		}
+		if (nodeWriterClass.equals(SvgRegionWriter.class)) {
+			return SvgSnapshotFormat.REGION_WRITER;
+		}
+		if (nodeWriterClass.equals(SvgShapeWriter.class)) {
+			return SvgSnapshotFormat.SHAPE_WRITER;
+		}
+		if (nodeWriterClass.equals(SvgTextWriter.class)) {
+			return SvgSnapshotFormat.TEXT_WRITER;
+		}
+		String message = "The node writer " + nodeWriterClass.getName() + " can not be serialized.";
+		throw new IllegalArgumentException(message);
+	}
+
+	//#end region
+
+}
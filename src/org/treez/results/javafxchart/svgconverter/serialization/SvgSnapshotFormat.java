@@ -0,0 +1,109 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+/**
+ * Defines the constants of the binary snapshot format. A serialized snapshot starts with the magic number and the
+ * format version, followed by the export options and the node tree in document order. Each node starts with a tag
+ * that identifies the kind of its snapshot. Integers are written as unsigned variable length integers, numbers as
+ * eight byte doubles and strings (including the names of enumeration values) by a string table, so that repeated
+ * colors and style values are only written once.
+ * <p>
+ * The version has to be increased if the format is changed; a decoder rejects snapshots with another version.
+ */
+public final class SvgSnapshotFormat {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The magic number at the start of a serialized snapshot ("JFXS")
+	 */
+	public static final int MAGIC = 0x4A465853;
+
+	/**
+	 * The current version of the format
+	 */
+	public static final int VERSION = 2;
+
+	//#region NODE TAGS
+
+	/**
+	 * The tag of an empty snapshot that does not write any code
+	 */
+	static final int EMPTY_NODE = 0;
+
+	/**
+	 * The tag of a snapshot that writes node properties with a node writer
+	 */
+	static final int PROPERTIES_NODE = 1;
+
+	/**
+	 * The tag of the snapshot of a label
+	 */
+	static final int LABEL_NODE = 2;
+
+	/**
+	 * The tag of the snapshot of a node that is not supported
+	 */
+	static final int WARNING_NODE = 3;
+
+	//#end region
+
+	//#region NODE WRITERS
+
+	/**
+	 * Identifies the default node writer
+	 */
+	static final int NODE_WRITER = 0;
+
+	/**
+	 * Identifies the group writer
+	 */
+	static final int GROUP_WRITER = 1;
+
+	/**
+	 * Identifies the region writer
+	 */
+	static final int REGION_WRITER = 2;
+
+	/**
+	 * Identifies the shape writer
+	 */
+	static final int SHAPE_WRITER = 3;
+
+	/**
+	 * Identifies the text writer
+	 */
+	static final int TEXT_WRITER = 4;
+
+	//#end region
+
+	//#region STRING TABLE
+
+	/**
+	 * The string reference of null
+	 */
+	static final int NULL_STRING = 0;
+
+	/**
+	 * The string reference that is followed by a new string; the new string is added to the string table
+	 */
+	static final int NEW_STRING = 1;
+
+	/**
+	 * The offset of the references to strings of the string table
+	 */
+	static final int STRING_INDEX_OFFSET = 2;
+
+	//#end region
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgSnapshotFormat() {}
+
+	//#end region
+
+}
@@ -0,0 +1,113 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCompression;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.ByteChannelAppendable;
+import org.treez.results.javafxchart.svgconverter.writer.GzipByteChannel;
+
+/**
+ * Converts serialized snapshots (see {@link SvgSnapshotEncoder}) to svg files. The worker does not use any JavaFx
+ * classes and can therefore run in a headless process without JavaFx toolkit, e.g. to move the writing of large
+ * documents out of the process that shows the scene:
+ * <p>
+ * java -cp ... org.treez.results.javafxchart.svgconverter.serialization.SvgSnapshotWorker snapshot.bin chart.svg
+ * [NONE|GZIP|PARALLEL_GZIP]
+ */
+@SuppressWarnings("checkstyle:uncommentedmain")
+public final class SvgSnapshotWorker {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(SvgSnapshotWorker.class);
+
+	//#region ATTRIBUTES
+
+	private static final int MINIMUM_ARGUMENT_COUNT = 2;
+
+	private static final int MAXIMUM_ARGUMENT_COUNT = 3;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgSnapshotWorker() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Main; expects the path of the serialized snapshot, the path of the svg file and optionally the compression
+	 *
+	 * @param args
+	 */
+	public static void main(String[] args) {
+		boolean isLoggingConfigured = Logger.getRootLogger().getAllAppenders().hasMoreElements();
+		if (!isLoggingConfigured) {
+			BasicConfigurator.configure();
+		}
+
+		boolean hasValidArgumentCount = args.length >= MINIMUM_ARGUMENT_COUNT && args.length <= MAXIMUM_ARGUMENT_COUNT;
+		if (!hasValidArgumentCount) {
+			sysLog.error("Usage: SvgSnapshotWorker <snapshot file> <svg file> [NONE|GZIP|PARALLEL_GZIP]");
+			System.exit(2);
+			return;
+		}
+
+		SvgCompression compression = SvgCompression.NONE;
+		if (args.length == MAXIMUM_ARGUMENT_COUNT) {
+			compression = SvgCompression.valueOf(args[2]);
+		}
+
+		try {
+			convert(Paths.get(args[0]), Paths.get(args[1]), compression);
+		} catch (IOException exception) {
+			sysLog.error("Could not convert the snapshot " + args[0], exception);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Reads the serialized snapshot from the given snapshot file and writes its svg code to the given svg file
+	 *
+	 * @param snapshotPath
+	 * @param svgPath
+	 * @param compression
+	 * @throws IOException
+	 */
+	public static void convert(Path snapshotPath, Path svgPath, SvgCompression compression) throws IOException {
+		Objects.requireNonNull(snapshotPath, "Snapshot path must not be null.");
+		Objects.requireNonNull(svgPath, "Svg path must not be null.");
+		SvgSnapshot snapshot;
+		try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+			snapshot = SvgSnapshotDecoder.decode(inputStream);
+		}
+
+		try (FileChannel fileChannel = FileChannel.open(svgPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				WritableByteChannel channel = GzipByteChannel.createChannel(fileChannel, compression);
+				ByteChannelAppendable out = new ByteChannelAppendable(channel)) {
+			snapshot.write(out);
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,42 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+
+/**
+ * A snapshot that does not write any svg code, e.g. for nodes that are outside of the exported viewport or invisible
+ */
+public final class SvgEmptySnapshot implements SvgNodeSnapshot {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The shared instance
+	 */
+	public static final SvgEmptySnapshot INSTANCE = new SvgEmptySnapshot();
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor; use the shared instance
+	 */
+	private SvgEmptySnapshot() {}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public void write(SvgExportContext context) {
+		//nothing to write
+	}
+
+	@Override
+	public int getNodeCount() {
+		return 0;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,126 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+/**
+ * Computes 64 bit content fingerprints of snapshots. A fingerprint is built by mixing all values that influence the
+ * svg code into a running hash, starting with {@link #START}. Two snapshots with the same fingerprint are assumed to
+ * write the same svg code (the probability of a collision is negligible for 64 bits).
+ */
+public final class SvgFingerprint {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * Fingerprint of snapshots whose content is not known; such snapshots are never cached
+	 */
+	public static final long NONE = 0;
+
+	/**
+	 * The start value of a running hash
+	 */
+	public static final long START = 0xcbf29ce484222325L;
+
+	private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * Is mixed in for null values
+	 */
+	private static final long NULL_VALUE = 0x5bd1e9955bd1e995L;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgFingerprint() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Mixes the given value into the given hash
+	 *
+	 * @param hash
+	 * @param value
+	 * @return
+	 */
+	public static long mix(long hash, long value) {
+		long mixed = (hash ^ value) * MULTIPLIER;
+		return mixed ^ (mixed >>> 29);
+	}
+
+	/**
+	 * Mixes the given value into the given hash
+	 *
+	 * @param hash
+	 * @param value
+	 * @return
+	 */
+	public static long mix(long hash, double value) {
+		return mix(hash, Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Mixes the given value into the given hash
+	 *
+	 * @param hash
+	 * @param value
+	 * @return
+	 */
+	public static long mix(long hash, boolean value) {
+		if (value) {
+			return mix(hash, 1L);
+		}
+		return mix(hash, 2L);
+	}
+
+	/**
+	 * Mixes the given string (or null) into the given hash
+	 *
+	 * @param hash
+	 * @param value
+	 * @return
+	 */
+	public static long mix(long hash, String value) {
+		if (value == null) {
+			return mix(hash, NULL_VALUE);
+		}
+		long result = mix(hash, (long) value.length());
+		for (int index = 0; index < value.length(); index++) {
+			result = mix(result, (long) value.charAt(index));
+		}
+		return result;
+	}
+
+	/**
+	 * Mixes the given enum constant (or null) into the given hash
+	 *
+	 * @param hash
+	 * @param value
+	 * @return
+	 */
+	public static long mix(long hash, Enum<?> value) {
+		if (value == null) {
+			return mix(hash, NULL_VALUE);
+		}
+		return mix(hash, (long) value.ordinal());
+	}
+
+	/**
+	 * Finishes a running hash. The result is never {@link #NONE}.
+	 *
+	 * @param hash
+	 * @return
+	 */
+	public static long finish(long hash) {
+		if (hash == NONE) {
+			return START;
+		}
+		return hash;
+	}
+
+	//#end region
+
+}
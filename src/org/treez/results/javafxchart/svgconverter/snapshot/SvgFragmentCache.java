@@ -0,0 +1,303 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGeometryTable;
+import org.treez.results.javafxchart.svgconverter.writer.SvgStyleTable;
+
+/**
+ * Caches the svg code of subtrees by their content fingerprint (see {@link SvgNodeSnapshot#getFingerprint()}), so
+ * that identical subtrees (e.g. the same legend in many charts or repeated exports of the same scene) are only
+ * written once. The cache only holds fingerprints and svg code; it does not reference any snapshots or nodes and
+ * therefore never keeps a scene alive. The size of the cache is limited by a byte budget (two bytes per cached
+ * character); the least recently used fragments are evicted first. A cache is thread safe and can be shared between
+ * exports by passing it with the export options.
+ */
+public final class SvgFragmentCache {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The default minimum number of nodes of a cached subtree
+	 */
+	public static final int DEFAULT_MINIMUM_NODE_COUNT = 8;
+
+	private static final int BYTES_PER_CHARACTER = 2;
+
+	private final long maximumByteCount;
+
+	private final int minimumNodeCount;
+
+	/**
+	 * The fragments in access order (least recently used first); guarded by this
+	 */
+	private final LinkedHashMap<FragmentKey, Fragment> fragments = new LinkedHashMap<>(64, 0.75f, true);
+
+	private long byteCount;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumByteCount
+	 *            the byte budget of the cache
+	 */
+	public SvgFragmentCache(long maximumByteCount) {
+		this(maximumByteCount, DEFAULT_MINIMUM_NODE_COUNT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumByteCount
+	 *            the byte budget of the cache
+	 * @param minimumNodeCount
+	 *            the minimum number of nodes of a subtree to be cached; smaller subtrees are always written, since
+	 *            writing them is cheaper than caching them
+	 */
+	public SvgFragmentCache(long maximumByteCount, int minimumNodeCount) {
+		if (maximumByteCount < 0) {
+			String message = "The maximum byte count must not be negative but is " + maximumByteCount + ".";
+			throw new IllegalArgumentException(message);
+		}
+		if (minimumNodeCount < 1) {
+			String message = "The minimum node count must be at least 1 but is " + minimumNodeCount + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.maximumByteCount = maximumByteCount;
+		this.minimumNodeCount = minimumNodeCount;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the given snapshot with the given context. If the svg code of an identical subtree has been cached for the
+	 * same depth and options, the cached code is appended; otherwise the subtree is written and its code is cached.
+	 *
+	 * @param context
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public void write(SvgExportContext context, SvgNodeSnapshot snapshot) throws IOException {
+		boolean isCacheable = snapshot.getNodeCount() >= minimumNodeCount;
+		long fingerprint = SvgFingerprint.NONE;
+		if (isCacheable) {
+			fingerprint = snapshot.getFingerprint();
+		}
+		if (fingerprint == SvgFingerprint.NONE) {
+			snapshot.write(context);
+			return;
+		}
+
+		int depth = context.getDepth();
+		SvgExportOptions options = context.getOptions();
+		FragmentKey key = new FragmentKey(fingerprint, depth, createOptionsKey(options));
+		Fragment fragment = get(key);
+		if (fragment == null) {
+			//the fragment collects its own css classes and geometries, so that it can be remapped to each document
+			//that uses it
+			SvgStyleTable fragmentStyleTable = null;
+			if (context.getStyleTable() != null) {
+				fragmentStyleTable = new SvgStyleTable();
+			}
+			SvgGeometryTable fragmentGeometryTable = null;
+			if (context.getGeometryTable() != null) {
+				fragmentGeometryTable = new SvgGeometryTable();
+			}
+			StringBuilder codeBuilder = new StringBuilder();
+			SvgExportContext fragmentContext = new SvgExportContext(codeBuilder, depth, options, fragmentStyleTable,
+					fragmentGeometryTable);
+			snapshot.write(fragmentContext);
+			fragment = new Fragment(codeBuilder.toString(), fragmentContext.getDepth(), fragmentStyleTable,
+					fragmentGeometryTable);
+			put(key, fragment);
+		}
+
+		context.appendFragment(fragment.code, fragment.styleTable, fragment.geometryTable);
+		context.setDepth(fragment.endDepth);
+	}
+
+	/**
+	 * Removes all fragments; the counters are not reset
+	 */
+	public synchronized void clear() {
+		fragments.clear();
+		byteCount = 0;
+	}
+
+	private synchronized Fragment get(FragmentKey key) {
+		Fragment fragment = fragments.get(key);
+		if (fragment == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+		return fragment;
+	}
+
+	private synchronized void put(FragmentKey key, Fragment fragment) {
+		long fragmentByteCount = BYTES_PER_CHARACTER * (long) fragment.code.length();
+		if (fragmentByteCount > maximumByteCount) {
+			return;
+		}
+		Fragment replacedFragment = fragments.put(key, fragment);
+		if (replacedFragment != null) {
+			byteCount -= BYTES_PER_CHARACTER * (long) replacedFragment.code.length();
+		}
+		byteCount += fragmentByteCount;
+
+		//evict the least recently used fragments
+		Iterator<Map.Entry<FragmentKey, Fragment>> iterator = fragments.entrySet().iterator();
+		while (byteCount > maximumByteCount && iterator.hasNext()) {
+			Fragment evictedFragment = iterator.next().getValue();
+			iterator.remove();
+			byteCount -= BYTES_PER_CHARACTER * (long) evictedFragment.code.length();
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * The cached code depends on all options that influence the formatting
+	 *
+	 * @param options
+	 * @return
+	 */
+	private static long createOptionsKey(SvgExportOptions options) {
+		long hash = SvgFingerprint.mix(SvgFingerprint.START, options.getOutputFormat());
+		hash = SvgFingerprint.mix(hash, options.getCommentLevel());
+		hash = SvgFingerprint.mix(hash, options.getStyleMode());
+		hash = SvgFingerprint.mix(hash, options.getGeometryMode());
+		hash = SvgFingerprint.mix(hash, options.getPathDataFormat());
+		return SvgFingerprint.mix(hash, (long) options.getMaximumFractionDigits());
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public long getMaximumByteCount() {
+		return maximumByteCount;
+	}
+
+	/**
+	 * @return
+	 */
+	public int getMinimumNodeCount() {
+		return minimumNodeCount;
+	}
+
+	/**
+	 * @return the estimated number of bytes of the cached fragments
+	 */
+	public synchronized long getByteCount() {
+		return byteCount;
+	}
+
+	/**
+	 * @return
+	 */
+	public synchronized int getFragmentCount() {
+		return fragments.size();
+	}
+
+	/**
+	 * @return the number of subtrees whose code has been taken from the cache
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of cacheable subtrees that had to be written
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of fragments that have been evicted to stay within the byte budget
+	 */
+	public synchronized long getEvictionCount() {
+		return evictionCount;
+	}
+
+	//#end region
+
+	//#region FRAGMENT
+
+	/**
+	 * The key of a fragment: the fingerprint of the subtree, the depth it is written at and the options
+	 */
+	private static final class FragmentKey {
+
+		private final long fingerprint;
+
+		private final int depth;
+
+		private final long optionsKey;
+
+		FragmentKey(long fingerprint, int depth, long optionsKey) {
+			this.fingerprint = fingerprint;
+			this.depth = depth;
+			this.optionsKey = optionsKey;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof FragmentKey)) {
+				return false;
+			}
+			FragmentKey other = (FragmentKey) object;
+			return fingerprint == other.fingerprint && depth == other.depth && optionsKey == other.optionsKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(SvgFingerprint.mix(SvgFingerprint.mix(fingerprint, (long) depth), optionsKey));
+		}
+	}
+
+	/**
+	 * The svg code of a subtree, the depth after writing it and the css classes
+	 * and geometries it references (or null)
+	 */
+	private static final class Fragment {
+
+		private final String code;
+
+		private final int endDepth;
+
+		private final SvgStyleTable styleTable;
+
+		private final SvgGeometryTable geometryTable;
+
+		Fragment(String code, int endDepth, SvgStyleTable styleTable, SvgGeometryTable geometryTable) {
+			this.code = code;
+			this.endDepth = endDepth;
+			this.styleTable = styleTable;
+			this.geometryTable = geometryTable;
+		}
+	}
+
+	//#end region
+
+}
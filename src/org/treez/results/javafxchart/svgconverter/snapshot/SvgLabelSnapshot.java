@@ -0,0 +1,320 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextAnchor;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNumberWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgTextWriter;
+
+/**
+ * The captured values of a Label: the text with its position, font and color, the background and the snapshot of the
+ * graphic. The label is written as text element that is wrapped in a group with a background rect if the label has a
+ * graphic or a background.
+ */
+public final class SvgLabelSnapshot implements SvgNodeSnapshot {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The comment that is written before the label or null
+	 */
+	private final String comment;
+
+	/**
+	 * The snapshot of the graphic of the label or null
+	 */
+	private final SvgNodeSnapshot imageSnapshot;
+
+	private final String text;
+
+	/**
+	 * The background color or null
+	 */
+	private final String backgroundFill;
+
+	private final double textWidth;
+
+	private final double textHeight;
+
+	private final double x;
+
+	private final double y;
+
+	private final String fontFamily;
+
+	private final double fontSize;
+
+	/**
+	 * The text color or null
+	 */
+	private final String fill;
+
+	private final SvgTextAnchor textAnchor;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param comment
+	 * @param imageSnapshot
+	 * @param text
+	 * @param backgroundFill
+	 * @param textWidth
+	 * @param textHeight
+	 * @param x
+	 * @param y
+	 * @param fontFamily
+	 * @param fontSize
+	 * @param fill
+	 * @param textAnchor
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public SvgLabelSnapshot(
+			String comment,
+			SvgNodeSnapshot imageSnapshot,
+			String text,
+			String backgroundFill,
+			double textWidth,
+			double textHeight,
+			double x,
+			double y,
+			String fontFamily,
+			double fontSize,
+			String fill,
+			SvgTextAnchor textAnchor) {
+		this.comment = comment;
+		this.imageSnapshot = imageSnapshot;
+		this.text = text;
+		this.backgroundFill = backgroundFill;
+		this.textWidth = textWidth;
+		this.textHeight = textHeight;
+		this.x = x;
+		this.y = y;
+		this.fontFamily = fontFamily;
+		this.fontSize = fontSize;
+		this.fill = fill;
+		this.textAnchor = textAnchor;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public void write(SvgExportContext context) throws IOException {
+
+		Appendable out = context.getOut();
+
+		//comment
+		if (comment != null) {
+			out.append(context.getIndentation()).append("<!--").append(comment).append("-->").append(
+					context.getLineBreak());
+		}
+
+		//<rect> start
+		boolean wrapInRect = imageSnapshot != null || backgroundFill != null;
+		if (wrapInRect) {
+			writeRectStartTag(context);
+		}
+
+		//<text> start
+		writeTextStartTag(context);
+
+		//<text> content
+		if (text != null) {
+			out.append(SvgTextWriter.escapeText(text));
+		}
+
+		//<text> end
+		out.append("</text>").append(context.getSectionBreak());
+
+		//<rect> end
+		if (wrapInRect) {
+			context.decreaseDepth();
+			writeRectEndTag(context);
+		}
+	}
+
+	@Override
+	public int getNodeCount() {
+		if (imageSnapshot == null) {
+			return 1;
+		}
+		return 1 + imageSnapshot.getNodeCount();
+	}
+
+	@Override
+	public long getFingerprint() {
+		long hash = SvgFingerprint.mix(SvgFingerprint.START, SvgLabelSnapshot.class.getName());
+		if (imageSnapshot != null) {
+			long imageFingerprint = imageSnapshot.getFingerprint();
+			if (imageFingerprint == SvgFingerprint.NONE) {
+				return SvgFingerprint.NONE;
+			}
+			hash = SvgFingerprint.mix(hash, imageFingerprint);
+		}
+		hash = SvgFingerprint.mix(hash, comment);
+		hash = SvgFingerprint.mix(hash, text);
+		hash = SvgFingerprint.mix(hash, backgroundFill);
+		hash = SvgFingerprint.mix(hash, textWidth);
+		hash = SvgFingerprint.mix(hash, textHeight);
+		hash = SvgFingerprint.mix(hash, x);
+		hash = SvgFingerprint.mix(hash, y);
+		hash = SvgFingerprint.mix(hash, fontFamily);
+		hash = SvgFingerprint.mix(hash, fontSize);
+		hash = SvgFingerprint.mix(hash, fill);
+		hash = SvgFingerprint.mix(hash, textAnchor);
+		return SvgFingerprint.finish(hash);
+	}
+
+	private void writeTextStartTag(SvgExportContext context) throws IOException {
+		Appendable out = context.getOut();
+		SvgNumberWriter numberWriter = context.getNumberWriter();
+
+		out.append(context.getIndentation()).append("<text x=\"");
+		numberWriter.write(out, x);
+		out.append("\" y=\"");
+		numberWriter.write(out, y);
+		out.append('"');
+		if (fontFamily != null) {
+			out.append(" font-family=\"").append(SvgTextWriter.escapeText(fontFamily)).append('"');
+		}
+		out.append(" font-size=\"");
+		numberWriter.write(out, fontSize);
+		out.append('"');
+
+		if (fill != null) {
+			out.append(" fill=\"").append(fill).append('"');
+		}
+
+		//if (!textAnchor.equals(SvgTextAnchor.LEFT)) {
+		out.append(" text-anchor=\"").append(textAnchor.toString()).append('"');
+		//}
+
+		out.append('>');
+	}
+
+	private void writeRectStartTag(SvgExportContext context) throws IOException {
+
+		Appendable out = context.getOut();
+		out.append(context.getIndentation()).append("<g>").append(context.getLineBreak());
+		context.increaseDepth();
+		String width = context.getNumberWriter().format(textWidth);
+		String height = context.getNumberWriter().format(textHeight);
+		String rectString = "<rect width=\"" + width + "\" height=\"" + height + "\"";
+		if (backgroundFill != null) {
+			rectString = rectString + " fill=\"" + backgroundFill + "\"";
+		}
+		rectString = rectString + "/>" + context.getSectionBreak();
+		out.append(context.getIndentation()).append(rectString);
+
+		writeImage(context);
+	}
+
+	private static void writeRectEndTag(SvgExportContext context) throws IOException {
+		context.getOut().append(context.getIndentation()).append("</g>").append(context.getSectionBreak());
+	}
+
+	private void writeImage(SvgExportContext context) throws IOException {
+		if (imageSnapshot != null) {
+			int depth = context.getDepth();
+			imageSnapshot.write(context);
+			context.setDepth(depth);
+		}
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public String getComment() {
+		return comment;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgNodeSnapshot getImageSnapshot() {
+		return imageSnapshot;
+	}
+
+	/**
+	 * @return
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return
+	 */
+	public String getBackgroundFill() {
+		return backgroundFill;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getTextWidth() {
+		return textWidth;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getTextHeight() {
+		return textHeight;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * @return
+	 */
+	public String getFontFamily() {
+		return fontFamily;
+	}
+
+	/**
+	 * @return
+	 */
+	public double getFontSize() {
+		return fontSize;
+	}
+
+	/**
+	 * @return
+	 */
+	public String getFill() {
+		return fill;
+	}
+
+	/**
+	 * @return
+	 */
+	public SvgTextAnchor getTextAnchor() {
+		return textAnchor;
+	}
+
+	//#end region
+
+}
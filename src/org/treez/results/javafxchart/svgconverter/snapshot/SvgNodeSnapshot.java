@@ -0,0 +1,53 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+
+/**
+ * An immutable snapshot of a JavaFx node (and its children) that holds all values that are needed to write its SVG
+ * code. A snapshot does not reference any JavaFx node. It is thread safe and can be written on any thread, any number
+ * of times.
+ */
+public interface SvgNodeSnapshot {
+
+	/**
+	 * Writes the SVG code for the captured node to the output of the given export context
+	 *
+	 * @param context
+	 * @throws IOException
+	 */
+	void write(SvgExportContext context) throws IOException;
+
+	/**
+	 * Returns the number of nodes of the captured subtree (including this node). This is used to decide if the subtree
+	 * is large enough to be written in parallel to its siblings.
+	 *
+	 * @return
+	 */
+	default int getNodeCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns a fingerprint of the content of the captured subtree: snapshots with the same fingerprint write the same
+	 * svg code. This is used to reuse the svg code of identical subtrees from a fragment cache. Snapshots whose content
+	 * is unknown return {@link SvgFingerprint#NONE} and are never cached.
+	 *
+	 * @return
+	 */
+	default long getFingerprint() {
+		return SvgFingerprint.NONE;
+	}
+
+	/**
+	 * Returns the snapshot that describes the content of this snapshot. Snapshots that only wrap another snapshot (e.g.
+	 * to remember its svg code) return the content of the wrapped snapshot. This is used to serialize a snapshot.
+	 *
+	 * @return
+	 */
+	default SvgNodeSnapshot getContentSnapshot() {
+		return this;
+	}
+
+}
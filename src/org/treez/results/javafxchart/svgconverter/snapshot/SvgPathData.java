@@ -0,0 +1,522 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.writer.SvgNumberWriter;
+
+/**
+ * Immutable svg path data ("d" attribute of a path). The path is stored as a sequence of commands with their
+ * coordinates, so that it can be captured on the JavaFx Application Thread without formatting any numbers and can be
+ * written later on any thread. Path data that is not available as commands (e.g. the content of an SVGPath) is kept
+ * as raw string.
+ */
+public final class SvgPathData {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * Empty path data
+	 */
+	public static final SvgPathData EMPTY = new SvgPathData(new char[0], 0, new double[0], 0, "");
+
+	private final char[] commands;
+
+	private final double[] coordinates;
+
+	/**
+	 * The raw path data; null if the path data is given by the commands
+	 */
+	private final String rawData;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	private SvgPathData(char[] commands, int commandCount, double[] coordinates, int coordinateCount, String rawData) {
+		this.commands = Arrays.copyOf(commands, commandCount);
+		this.coordinates = Arrays.copyOf(coordinates, coordinateCount);
+		this.rawData = rawData;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Creates path data from a raw svg path data string
+	 *
+	 * @param rawData
+	 * @return
+	 */
+	public static SvgPathData fromRawData(String rawData) {
+		Objects.requireNonNull(rawData, "Raw path data must not be null.");
+		return new SvgPathData(new char[0], 0, new double[0], 0, rawData);
+	}
+
+	/**
+	 * Creates path data from the given commands and their coordinates (e.g. read from a serialized snapshot). The
+	 * arrays are copied.
+	 *
+	 * @param commands
+	 * @param coordinates
+	 * @return
+	 */
+	public static SvgPathData fromCommands(char[] commands, double[] coordinates) {
+		int coordinateCount = 0;
+		for (char command : commands) {
+			coordinateCount += getCoordinateCount(command);
+		}
+		if (coordinateCount != coordinates.length) {
+			String message = "The commands require " + coordinateCount + " coordinates but " + coordinates.length
+					+ " are given.";
+			throw new IllegalArgumentException(message);
+		}
+		return new SvgPathData(commands, commands.length, coordinates, coordinates.length, null);
+	}
+
+	/**
+	 * Returns the number of coordinates of the given path command
+	 *
+	 * @param command
+	 * @return
+	 */
+	public static int getCoordinateCount(char command) {
+		switch (command) {
+		case 'M':
+		case 'L':
+		case 'l':
+			return 2;
+		case 'H':
+		case 'V':
+			return 1;
+		case 'C':
+			return 6;
+		case 'Q':
+			return 4;
+		case 'A':
+			return 7;
+		case 'Z':
+			return 0;
+		default:
+			String message = "The path command '" + command + "' is not known.";
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	/**
+	 * Writes the path data to the given output. Commands and coordinates are separated by single spaces.
+	 *
+	 * @param out
+	 * @param numberWriter
+	 */
+	public void write(StringBuilder out, SvgNumberWriter numberWriter) {
+		write(out, numberWriter, 0, 0);
+	}
+
+	/**
+	 * Writes the path data to the given output, shifted by the negative of the given offset (e.g. the start point, to
+	 * get a geometry that is independent of its position). Raw path data can not be shifted.
+	 *
+	 * @param out
+	 * @param numberWriter
+	 * @param offsetX
+	 * @param offsetY
+	 */
+	public void write(StringBuilder out, SvgNumberWriter numberWriter, double offsetX, double offsetY) {
+		boolean isShifted = offsetX != 0 || offsetY != 0;
+		if (rawData != null) {
+			if (isShifted) {
+				throw new IllegalArgumentException("Raw path data can not be shifted.");
+			}
+			out.append(rawData);
+			return;
+		}
+		int coordinateIndex = 0;
+		for (int commandIndex = 0; commandIndex < commands.length; commandIndex++) {
+			char command = commands[commandIndex];
+			if (commandIndex > 0) {
+				out.append(' ');
+			}
+			out.append(command);
+			int coordinateCount = getCoordinateCount(command);
+			for (int index = 0; index < coordinateCount; index++) {
+				out.append(' ');
+				double coordinate = coordinates[coordinateIndex++];
+				if (isShifted) {
+					coordinate -= getOffset(command, index, offsetX, offsetY);
+				}
+				numberWriter.write(out, coordinate);
+			}
+		}
+	}
+
+	/**
+	 * Returns the offset for the coordinate with the given index of the given command. Coordinates that are no
+	 * absolute positions (e.g. relative lines, radii and flags) are not shifted.
+	 *
+	 * @param command
+	 * @param index
+	 * @param offsetX
+	 * @param offsetY
+	 * @return
+	 */
+	private static double getOffset(char command, int index, double offsetX, double offsetY) {
+		switch (command) {
+		case 'M':
+		case 'L':
+		case 'C':
+		case 'Q':
+			if (index % 2 == 0) {
+				return offsetX;
+			}
+			return offsetY;
+		case 'H':
+			return offsetX;
+		case 'V':
+			return offsetY;
+		case 'A':
+			if (index == 5) {
+				return offsetX;
+			}
+			if (index == 6) {
+				return offsetY;
+			}
+			return 0;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the path data as string
+	 *
+	 * @param numberWriter
+	 * @return
+	 */
+	public String toSvgString(SvgNumberWriter numberWriter) {
+		if (rawData != null) {
+			return rawData;
+		}
+		StringBuilder pathBuilder = new StringBuilder(8 * coordinates.length + 2 * commands.length);
+		write(pathBuilder, numberWriter);
+		return pathBuilder.toString();
+	}
+
+	/**
+	 * Mixes the content of the path data into the given fingerprint hash
+	 *
+	 * @param hash
+	 * @return
+	 */
+	public long mixFingerprint(long hash) {
+		long result = SvgFingerprint.mix(hash, rawData);
+		result = SvgFingerprint.mix(result, (long) commands.length);
+		for (char command : commands) {
+			result = SvgFingerprint.mix(result, (long) command);
+		}
+		for (double coordinate : coordinates) {
+			result = SvgFingerprint.mix(result, coordinate);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the x coordinate of the start point if the path starts with a move; 0 otherwise (e.g. for raw path
+	 * data)
+	 *
+	 * @return
+	 */
+	public double getStartX() {
+		if (startsWithMove()) {
+			return coordinates[0];
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the y coordinate of the start point if the path starts with a move; 0 otherwise (e.g. for raw path
+	 * data)
+	 *
+	 * @return
+	 */
+	public double getStartY() {
+		if (startsWithMove()) {
+			return coordinates[1];
+		}
+		return 0;
+	}
+
+	private boolean startsWithMove() {
+		return rawData == null && commands.length > 0 && commands[0] == 'M';
+	}
+
+	/**
+	 * @return
+	 */
+	public boolean isEmpty() {
+		if (rawData != null) {
+			return rawData.isEmpty();
+		}
+		return commands.length == 0;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * Returns true if the path data is given as raw string instead of commands
+	 *
+	 * @return
+	 */
+	public boolean isRaw() {
+		return rawData != null;
+	}
+
+	/**
+	 * @return the raw path data or null
+	 */
+	public String getRawData() {
+		return rawData;
+	}
+
+	/**
+	 * @return
+	 */
+	public int getCommandCount() {
+		return commands.length;
+	}
+
+	/**
+	 * @param index
+	 * @return
+	 */
+	public char getCommand(int index) {
+		return commands[index];
+	}
+
+	/**
+	 * @return
+	 */
+	public int getTotalCoordinateCount() {
+		return coordinates.length;
+	}
+
+	/**
+	 * @param index
+	 * @return
+	 */
+	public double getCoordinate(int index) {
+		return coordinates[index];
+	}
+
+	//#end region
+
+	//#region BUILDER
+
+	/**
+	 * Collects path commands and creates immutable path data. A builder must only be used by one thread.
+	 */
+	public static final class Builder {
+
+		private char[] commands = new char[16];
+
+		private int commandCount;
+
+		private double[] coordinates = new double[32];
+
+		private int coordinateCount;
+
+		/**
+		 * @param x
+		 * @param y
+		 * @return
+		 */
+		public Builder moveTo(double x, double y) {
+			addCommand('M');
+			addCoordinates(x, y);
+			return this;
+		}
+
+		/**
+		 * @param x
+		 * @param y
+		 * @return
+		 */
+		public Builder lineTo(double x, double y) {
+			addCommand('L');
+			addCoordinates(x, y);
+			return this;
+		}
+
+		/**
+		 * Adds a line that is relative to the current point
+		 *
+		 * @param dx
+		 * @param dy
+		 * @return
+		 */
+		public Builder relativeLineTo(double dx, double dy) {
+			addCommand('l');
+			addCoordinates(dx, dy);
+			return this;
+		}
+
+		/**
+		 * @param x
+		 * @return
+		 */
+		public Builder horizontalLineTo(double x) {
+			addCommand('H');
+			addCoordinate(x);
+			return this;
+		}
+
+		/**
+		 * @param y
+		 * @return
+		 */
+		public Builder verticalLineTo(double y) {
+			addCommand('V');
+			addCoordinate(y);
+			return this;
+		}
+
+		/**
+		 * @param controlX1
+		 * @param controlY1
+		 * @param controlX2
+		 * @param controlY2
+		 * @param x
+		 * @param y
+		 * @return
+		 */
+		public Builder cubicCurveTo(
+				double controlX1,
+				double controlY1,
+				double controlX2,
+				double controlY2,
+				double x,
+				double y) {
+			addCommand('C');
+			addCoordinates(controlX1, controlY1);
+			addCoordinates(controlX2, controlY2);
+			addCoordinates(x, y);
+			return this;
+		}
+
+		/**
+		 * @param controlX
+		 * @param controlY
+		 * @param x
+		 * @param y
+		 * @return
+		 */
+		public Builder quadCurveTo(double controlX, double controlY, double x, double y) {
+			addCommand('Q');
+			addCoordinates(controlX, controlY);
+			addCoordinates(x, y);
+			return this;
+		}
+
+		/**
+		 * @param radiusX
+		 * @param radiusY
+		 * @param xAxisRotation
+		 * @param isLargeArc
+		 * @param isSweep
+		 * @param x
+		 * @param y
+		 * @return
+		 */
+		@SuppressWarnings("checkstyle:parameternumber")
+		public Builder arcTo(
+				double radiusX,
+				double radiusY,
+				double xAxisRotation,
+				boolean isLargeArc,
+				boolean isSweep,
+				double x,
+				double y) {
+			addCommand('A');
+			addCoordinates(radiusX, radiusY);
+			addCoordinate(xAxisRotation);
+			addCoordinates(flagValue(isLargeArc), flagValue(isSweep));
+			addCoordinates(x, y);
+			return this;
+		}
+
+		/**
+		 * @return
+		 */
+		public Builder closePath() {
+			addCommand('Z');
+			return this;
+		}
+
+		/**
+		 * Appends the commands of the given path data, shifted by the given offset (e.g. to place a glyph outline at
+		 * the current pen position). Coordinates that are no absolute positions are not shifted. Raw path data can
+		 * not be appended.
+		 *
+		 * @param pathData
+		 * @param offsetX
+		 * @param offsetY
+		 * @return
+		 */
+		public Builder append(SvgPathData pathData, double offsetX, double offsetY) {
+			if (pathData.rawData != null) {
+				throw new IllegalArgumentException("Raw path data can not be appended.");
+			}
+			int coordinateIndex = 0;
+			for (char command : pathData.commands) {
+				addCommand(command);
+				int commandCoordinateCount = getCoordinateCount(command);
+				for (int index = 0; index < commandCoordinateCount; index++) {
+					double coordinate = pathData.coordinates[coordinateIndex++];
+					addCoordinate(coordinate + getOffset(command, index, offsetX, offsetY));
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Creates immutable path data from the collected commands
+		 *
+		 * @return
+		 */
+		public SvgPathData build() {
+			return new SvgPathData(commands, commandCount, coordinates, coordinateCount, null);
+		}
+
+		private static double flagValue(boolean flag) {
+			if (flag) {
+				return 1;
+			}
+			return 0;
+		}
+
+		private void addCommand(char command) {
+			if (commandCount == commands.length) {
+				commands = Arrays.copyOf(commands, 2 * commandCount);
+			}
+			commands[commandCount++] = command;
+		}
+
+		private void addCoordinates(double first, double second) {
+			addCoordinate(first);
+			addCoordinate(second);
+		}
+
+		private void addCoordinate(double coordinate) {
+			if (coordinateCount == coordinates.length) {
+				coordinates = Arrays.copyOf(coordinates, 2 * coordinateCount);
+			}
+			coordinates[coordinateCount++] = coordinate;
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,339 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Simplifies the straight line parts of svg path data with a distance tolerance (in the units of the path
+ * coordinates): each run of consecutive line commands is first reduced by dropping the points that are close to the
+ * last kept point (linear time; this removes the many points of dense series that fall into one output pixel) and
+ * then simplified with the Ramer-Douglas-Peucker algorithm. The removed points are at most the tolerance away from the
+ * simplified lines. Curves, arcs, moves and closes are kept as they are; raw path data is not
+ * simplified. A simplifier holds scratch buffers and must only be used by one thread at a time.
+ */
+public class SvgPathSimplifier {
+
+	//#region ATTRIBUTES
+
+	private final double tolerance;
+
+	private final double squaredHalfTolerance;
+
+	/**
+	 * The points of the current line run (the first point is the start point of the run)
+	 */
+	private double[] runX = new double[64];
+
+	private double[] runY = new double[64];
+
+	private int runLength;
+
+	private boolean[] isKept = new boolean[64];
+
+	/**
+	 * Pairs of first and last index of the ranges that still have to be simplified
+	 */
+	private int[] rangeStack = new int[64];
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param tolerance
+	 *            the maximum distance of a removed point to the simplified lines; 0 disables the simplification
+	 */
+	public SvgPathSimplifier(double tolerance) {
+		boolean isValid = tolerance >= 0 && !Double.isInfinite(tolerance);
+		if (!isValid) {
+			String message = "The simplification tolerance must be a finite value >= 0 but is " + tolerance + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.tolerance = tolerance;
+		double halfTolerance = tolerance / 2;
+		this.squaredHalfTolerance = halfTolerance * halfTolerance;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Returns the simplified path data or the given path data if no point can be removed (or the simplification is
+	 * disabled)
+	 *
+	 * @param pathData
+	 * @return
+	 */
+	public SvgPathData simplify(SvgPathData pathData) {
+		boolean isSimplifiable = tolerance > 0 && !pathData.isRaw() && pathData.getCommandCount() > 2;
+		if (!isSimplifiable) {
+			return pathData;
+		}
+
+		SvgPathData.Builder builder = new SvgPathData.Builder();
+		boolean isChanged = false;
+		double currentX = 0;
+		double currentY = 0;
+		double startX = 0;
+		double startY = 0;
+
+		//the commands and first coordinate of the current line run
+		int runStartCommandIndex = -1;
+		int runStartCoordinateIndex = 0;
+		runLength = 0;
+
+		int coordinateIndex = 0;
+		for (int commandIndex = 0; commandIndex < pathData.getCommandCount(); commandIndex++) {
+			char command = pathData.getCommand(commandIndex);
+			boolean isLine = command == 'L' || command == 'l' || command == 'H' || command == 'V';
+			if (isLine) {
+				if (runStartCommandIndex < 0) {
+					runStartCommandIndex = commandIndex;
+					runStartCoordinateIndex = coordinateIndex;
+					runLength = 0;
+					addRunPoint(currentX, currentY);
+				}
+				switch (command) {
+				case 'L':
+					currentX = pathData.getCoordinate(coordinateIndex);
+					currentY = pathData.getCoordinate(coordinateIndex + 1);
+					break;
+				case 'l':
+					currentX += pathData.getCoordinate(coordinateIndex);
+					currentY += pathData.getCoordinate(coordinateIndex + 1);
+					break;
+				case 'H':
+					currentX = pathData.getCoordinate(coordinateIndex);
+					break;
+				default:
+					currentY = pathData.getCoordinate(coordinateIndex);
+					break;
+				}
+				addRunPoint(currentX, currentY);
+			} else {
+				if (runStartCommandIndex >= 0) {
+					isChanged |= writeRun(builder, pathData, runStartCommandIndex, runStartCoordinateIndex,
+							commandIndex);
+					runStartCommandIndex = -1;
+				}
+				copyCommand(builder, pathData, command, coordinateIndex);
+				if (command == 'Z') {
+					currentX = startX;
+					currentY = startY;
+				} else {
+					int coordinateCount = SvgPathData.getCoordinateCount(command);
+					currentX = pathData.getCoordinate(coordinateIndex + coordinateCount - 2);
+					currentY = pathData.getCoordinate(coordinateIndex + coordinateCount - 1);
+					if (command == 'M') {
+						startX = currentX;
+						startY = currentY;
+					}
+				}
+			}
+			coordinateIndex += SvgPathData.getCoordinateCount(command);
+		}
+		if (runStartCommandIndex >= 0) {
+			isChanged |= writeRun(builder, pathData, runStartCommandIndex, runStartCoordinateIndex,
+					pathData.getCommandCount());
+		}
+
+		if (!isChanged) {
+			return pathData;
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Simplifies the current line run and adds the kept points as lines. If no point is removed, the original
+	 * commands are copied. Returns true if points have been removed.
+	 */
+	private boolean writeRun(
+			SvgPathData.Builder builder,
+			SvgPathData pathData,
+			int startCommandIndex,
+			int startCoordinateIndex,
+			int endCommandIndex) {
+		int keptCount = simplifyRun();
+		boolean isChanged = keptCount < runLength;
+		if (isChanged) {
+			//the first point is the current point of the path and is not written
+			for (int index = 1; index < keptCount; index++) {
+				builder.lineTo(runX[index], runY[index]);
+			}
+		} else {
+			int coordinateIndex = startCoordinateIndex;
+			for (int commandIndex = startCommandIndex; commandIndex < endCommandIndex; commandIndex++) {
+				char command = pathData.getCommand(commandIndex);
+				copyCommand(builder, pathData, command, coordinateIndex);
+				coordinateIndex += SvgPathData.getCoordinateCount(command);
+			}
+		}
+		return isChanged;
+	}
+
+	/**
+	 * Simplifies the current run: the kept points are moved to the front of the run and their number is returned.
+	 * Both steps use half of the tolerance, so that a removed point is at most the tolerance away from the result.
+	 *
+	 * @return
+	 */
+	private int simplifyRun() {
+
+		//radial distance: drop the points that are too close to the last kept point
+		int lastIndex = runLength - 1;
+		int candidateCount = 1;
+		for (int index = 1; index < lastIndex; index++) {
+			double dx = runX[index] - runX[candidateCount - 1];
+			double dy = runY[index] - runY[candidateCount - 1];
+			if (dx * dx + dy * dy > squaredHalfTolerance) {
+				runX[candidateCount] = runX[index];
+				runY[candidateCount] = runY[index];
+				candidateCount++;
+			}
+		}
+		runX[candidateCount] = runX[lastIndex];
+		runY[candidateCount] = runY[lastIndex];
+		candidateCount++;
+
+		//Ramer-Douglas-Peucker with an explicit stack of index ranges
+		int lastCandidate = candidateCount - 1;
+		Arrays.fill(isKept, 0, candidateCount, false);
+		isKept[0] = true;
+		isKept[lastCandidate] = true;
+		int stackSize = pushRange(0, 0, lastCandidate);
+		while (stackSize > 0) {
+			int last = rangeStack[--stackSize];
+			int first = rangeStack[--stackSize];
+			int farthestIndex = -1;
+			double maxSquaredDistance = squaredHalfTolerance;
+			for (int index = first + 1; index < last; index++) {
+				double squaredDistance = squaredSegmentDistance(index, first, last);
+				if (squaredDistance > maxSquaredDistance) {
+					farthestIndex = index;
+					maxSquaredDistance = squaredDistance;
+				}
+			}
+			if (farthestIndex >= 0) {
+				isKept[farthestIndex] = true;
+				stackSize = pushRange(stackSize, first, farthestIndex);
+				stackSize = pushRange(stackSize, farthestIndex, last);
+			}
+		}
+
+		int keptCount = 0;
+		for (int index = 0; index < candidateCount; index++) {
+			if (isKept[index]) {
+				runX[keptCount] = runX[index];
+				runY[keptCount] = runY[index];
+				keptCount++;
+			}
+		}
+		return keptCount;
+	}
+
+	private int pushRange(int stackSize, int first, int last) {
+		if (last - first < 2) {
+			return stackSize;
+		}
+		if (stackSize + 2 > rangeStack.length) {
+			rangeStack = Arrays.copyOf(rangeStack, 2 * rangeStack.length);
+		}
+		rangeStack[stackSize] = first;
+		rangeStack[stackSize + 1] = last;
+		return stackSize + 2;
+	}
+
+	/**
+	 * Returns the squared distance of the point with the given index to the segment between the points with the given
+	 * first and last index
+	 */
+	private double squaredSegmentDistance(int index, int first, int last) {
+		double x = runX[first];
+		double y = runY[first];
+		double dx = runX[last] - x;
+		double dy = runY[last] - y;
+		double squaredLength = dx * dx + dy * dy;
+		if (squaredLength > 0) {
+			double t = ((runX[index] - x) * dx + (runY[index] - y) * dy) / squaredLength;
+			if (t > 1) {
+				x = runX[last];
+				y = runY[last];
+			} else if (t > 0) {
+				x += dx * t;
+				y += dy * t;
+			}
+		}
+		double distanceX = runX[index] - x;
+		double distanceY = runY[index] - y;
+		return distanceX * distanceX + distanceY * distanceY;
+	}
+
+	private void addRunPoint(double x, double y) {
+		if (runLength == runX.length) {
+			int capacity = 2 * runLength;
+			runX = Arrays.copyOf(runX, capacity);
+			runY = Arrays.copyOf(runY, capacity);
+			isKept = Arrays.copyOf(isKept, capacity);
+		}
+		runX[runLength] = x;
+		runY[runLength] = y;
+		runLength++;
+	}
+
+	private static void copyCommand(SvgPathData.Builder builder, SvgPathData pathData, char command, int index) {
+		switch (command) {
+		case 'M':
+			builder.moveTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1));
+			break;
+		case 'L':
+			builder.lineTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1));
+			break;
+		case 'l':
+			builder.relativeLineTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1));
+			break;
+		case 'H':
+			builder.horizontalLineTo(pathData.getCoordinate(index));
+			break;
+		case 'V':
+			builder.verticalLineTo(pathData.getCoordinate(index));
+			break;
+		case 'C':
+			builder.cubicCurveTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1),
+					pathData.getCoordinate(index + 2), pathData.getCoordinate(index + 3),
+					pathData.getCoordinate(index + 4), pathData.getCoordinate(index + 5));
+			break;
+		case 'Q':
+			builder.quadCurveTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1),
+					pathData.getCoordinate(index + 2), pathData.getCoordinate(index + 3));
+			break;
+		case 'A':
+			builder.arcTo(pathData.getCoordinate(index), pathData.getCoordinate(index + 1),
+					pathData.getCoordinate(index + 2), pathData.getCoordinate(index + 3) != 0,
+					pathData.getCoordinate(index + 4) != 0, pathData.getCoordinate(index + 5),
+					pathData.getCoordinate(index + 6));
+			break;
+		case 'Z':
+			builder.closePath();
+			break;
+		default:
+			String message = "The path command '" + command + "' is not known.";
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public double getTolerance() {
+		return tolerance;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,173 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.writer.SvgNodeWriter;
+
+/**
+ * The snapshot of a node that is described by svg node properties. The snapshot writes the properties with the node
+ * writer of the converter that captured them, followed by the snapshots of the children and the end tag of the group
+ * that wraps the children.
+ */
+public final class SvgPropertiesSnapshot implements SvgNodeSnapshot {
+
+	//#region ATTRIBUTES
+
+	private final SvgNodeWriter nodeWriter;
+
+	/**
+	 * The captured properties; they are never modified after construction
+	 */
+	private final SvgNodeProperties properties;
+
+	/**
+	 * A warning that is written as svg comment before the node or null
+	 */
+	private final String warning;
+
+	private final List<SvgNodeSnapshot> childSnapshots;
+
+	/**
+	 * The number of nodes of the subtree, including this node
+	 */
+	private final int nodeCount;
+
+	/**
+	 * The lazily computed fingerprint; 0 if it has not been computed yet
+	 */
+	private volatile long fingerprint;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param nodeWriter
+	 * @param properties
+	 *            the properties; they must not be modified afterwards
+	 * @param warning
+	 *            a warning that is written as svg comment before the node or null
+	 * @param childSnapshots
+	 *            an unmodifiable list of the snapshots of the children
+	 */
+	public SvgPropertiesSnapshot(
+			SvgNodeWriter nodeWriter,
+			SvgNodeProperties properties,
+			String warning,
+			List<SvgNodeSnapshot> childSnapshots) {
+		this.nodeWriter = nodeWriter;
+		this.properties = properties;
+		this.warning = warning;
+		this.childSnapshots = childSnapshots;
+		int count = 1;
+		for (SvgNodeSnapshot childSnapshot : childSnapshots) {
+			count += childSnapshot.getNodeCount();
+		}
+		this.nodeCount = count;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public void write(SvgExportContext context) throws IOException {
+
+		Appendable out = context.getOut();
+		if (warning != null && context.isWarningCommentEnabled()) {
+			out.append(context.getIndentation()).append("<!--").append(warning).append("-->").append(
+					context.getLineBreak());
+		}
+
+		//the node writers might modify the properties while writing; therefore the scratch properties are used
+		SvgNodeProperties svgNodeProperties = context.getProperties();
+		svgNodeProperties.copyFrom(properties);
+		nodeWriter.write(context, svgNodeProperties);
+
+		if (childSnapshots.isEmpty()) {
+			return;
+		}
+
+		SvgSubtreeWriter.writeChildren(context, childSnapshots);
+
+		//add g-end tag
+		context.decreaseDepth();
+		out.append(context.getIndentation()).append("</g>").append(context.getLineBreak());
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	@Override
+	public long getFingerprint() {
+		long currentFingerprint = fingerprint;
+		if (currentFingerprint == SvgFingerprint.NONE) {
+			currentFingerprint = computeFingerprint();
+			fingerprint = currentFingerprint;
+		}
+		return currentFingerprint;
+	}
+
+	/**
+	 * Computes the fingerprint from the node writer, the properties, the warning and the fingerprints of the children
+	 *
+	 * @return
+	 */
+	private long computeFingerprint() {
+		long hash = SvgFingerprint.mix(SvgFingerprint.START, nodeWriter.getClass().getName());
+		hash = properties.mixFingerprint(hash);
+		hash = SvgFingerprint.mix(hash, warning);
+		hash = SvgFingerprint.mix(hash, (long) childSnapshots.size());
+		for (SvgNodeSnapshot childSnapshot : childSnapshots) {
+			long childFingerprint = childSnapshot.getFingerprint();
+			if (childFingerprint == SvgFingerprint.NONE) {
+				//the content of the child is unknown; the fingerprint is computed again for each request
+				return SvgFingerprint.NONE;
+			}
+			hash = SvgFingerprint.mix(hash, childFingerprint);
+		}
+		return SvgFingerprint.finish(hash);
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public SvgNodeWriter getNodeWriter() {
+		return nodeWriter;
+	}
+
+	/**
+	 * @return the captured properties; they must not be modified
+	 */
+	public SvgNodeProperties getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return the warning that is written as svg comment before the node or null
+	 */
+	public String getWarning() {
+		return warning;
+	}
+
+	/**
+	 * @return
+	 */
+	public List<SvgNodeSnapshot> getChildSnapshots() {
+		return childSnapshots;
+	}
+
+	//#end region
+
+}
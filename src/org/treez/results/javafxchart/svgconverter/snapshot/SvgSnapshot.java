@@ -0,0 +1,150 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCommentLevel;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgGeometryMode;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgOutputFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgPathDataFormat;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStyleMode;
+
+/**
+ * An immutable snapshot of a whole svg document: the snapshot of the root node and the export options it has been
+ * captured with. The options are copied, so that later changes of the original options do not affect the snapshot;
+ * the options that are only used for capturing (see SvgCaptureOptions) are not kept. A snapshot is thread safe; it can
+ * be written on any thread, any number of times.
+ */
+public final class SvgSnapshot {
+
+	//#region ATTRIBUTES
+
+	private final SvgNodeSnapshot rootSnapshot;
+
+	private final SvgOutputFormat outputFormat;
+
+	private final SvgCommentLevel commentLevel;
+
+	private final SvgStyleMode styleMode;
+
+	private final SvgGeometryMode geometryMode;
+
+	private final SvgPathDataFormat pathDataFormat;
+
+	private final int maximumFractionDigits;
+
+	private final int parallelSubtreeThreshold;
+
+	private final SvgFragmentCache fragmentCache;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param rootSnapshot
+	 * @param options
+	 */
+	public SvgSnapshot(SvgNodeSnapshot rootSnapshot, SvgExportOptions options) {
+		this.rootSnapshot = Objects.requireNonNull(rootSnapshot, "Root snapshot must not be null.");
+		Objects.requireNonNull(options, "Options must not be null.");
+		this.outputFormat = options.getOutputFormat();
+		this.commentLevel = options.getCommentLevel();
+		this.styleMode = options.getStyleMode();
+		this.geometryMode = options.getGeometryMode();
+		this.pathDataFormat = options.getPathDataFormat();
+		this.maximumFractionDigits = options.getMaximumFractionDigits();
+		this.parallelSubtreeThreshold = options.getParallelSubtreeThreshold();
+		this.fragmentCache = options.getFragmentCache();
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the svg document (including svg header and svg end tag) to the given output
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	public void write(Appendable out) throws IOException {
+
+		boolean isClassMode = styleMode.equals(SvgStyleMode.CLASSES);
+		boolean isSharedGeometryMode = geometryMode.equals(SvgGeometryMode.SHARED);
+		if (isClassMode || isSharedGeometryMode) {
+			//the style and defs elements are written before the content, but their entries and names are only known
+			//afterwards
+			StringBuilder contentBuilder = new StringBuilder();
+			SvgExportContext context = new SvgExportContext(contentBuilder, 1, getOptions());
+			SvgSubtreeWriter.writeSubtree(context, rootSnapshot);
+
+			out.append(createSvgHeader(outputFormat));
+			context.setDepth(1);
+			context.writeDefinitionsAndContent(out, contentBuilder);
+		} else {
+			out.append(createSvgHeader(outputFormat));
+			SvgExportContext context = new SvgExportContext(out, 1, getOptions());
+			SvgSubtreeWriter.writeSubtree(context, rootSnapshot);
+		}
+
+		String endString = "</svg>";
+		out.append(endString);
+	}
+
+	/**
+	 * Creates the SVG header
+	 *
+	 * @param outputFormat
+	 * @return
+	 */
+	private static String createSvgHeader(SvgOutputFormat outputFormat) {
+
+		boolean isMinified = outputFormat.equals(SvgOutputFormat.MINIFIED);
+		if (isMinified) {
+			return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>"
+					+ "<svg xmlns:svg=\"http://www.w3.org/2000/svg\" xmlns=\"http://www.w3.org/2000/svg\">";
+		}
+
+		String svgHeader = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" + "<svg\n"
+				+ "    xmlns:svg=\"http://www.w3.org/2000/svg\"\n" + "    xmlns=\"http://www.w3.org/2000/svg\"\n"
+				+ ">\n";
+		return svgHeader;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public SvgNodeSnapshot getRootSnapshot() {
+		return rootSnapshot;
+	}
+
+	/**
+	 * Returns a new copy of the export options the snapshot has been captured with
+	 *
+	 * @return
+	 */
+	public SvgExportOptions getOptions() {
+		SvgExportOptions options = new SvgExportOptions();
+		options.setOutputFormat(outputFormat);
+		options.setCommentLevel(commentLevel);
+		options.setStyleMode(styleMode);
+		options.setGeometryMode(geometryMode);
+		options.setPathDataFormat(pathDataFormat);
+		options.setMaximumFractionDigits(maximumFractionDigits);
+		options.setParallelSubtreeThreshold(parallelSubtreeThreshold);
+		options.setFragmentCache(fragmentCache);
+		return options;
+	}
+
+	//#end region
+
+}
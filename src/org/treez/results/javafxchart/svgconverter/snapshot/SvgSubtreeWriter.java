@@ -0,0 +1,169 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGeometryTable;
+import org.treez.results.javafxchart.svgconverter.writer.SvgStyleTable;
+
+/**
+ * Writes the snapshots of the children of a node. If a parallel subtree threshold is set in the export options, the
+ * child subtrees that reach the threshold are written to separate buffers by fork join tasks (of the common pool)
+ * while the smaller siblings are written sequentially. The buffers are appended to the output in document order, so
+ * that the result is identical to a sequential export. If a fragment cache is set in the export options, the code of
+ * each subtree is taken from the cache if possible.
+ */
+public final class SvgSubtreeWriter {
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Private Constructor to prevent construction
+	 */
+	private SvgSubtreeWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the given child snapshots. Each child starts with the current depth of the context; the depth is restored
+	 * after each child.
+	 *
+	 * @param context
+	 * @param childSnapshots
+	 * @throws IOException
+	 */
+	public static void writeChildren(SvgExportContext context, List<SvgNodeSnapshot> childSnapshots)
+			throws IOException {
+
+		int threshold = context.getOptions().getParallelSubtreeThreshold();
+		SubtreeTask[] tasks = forkLargeSubtrees(context, childSnapshots, threshold);
+
+		int depth = context.getDepth();
+		for (int index = 0; index < childSnapshots.size(); index++) {
+			boolean isForked = tasks != null && tasks[index] != null;
+			if (isForked) {
+				context.getOut().append(tasks[index].join());
+			} else {
+				writeSubtree(context, childSnapshots.get(index));
+			}
+
+			//each child starts with the depth of its parent
+			if (context.getDepth() != depth) {
+				context.setDepth(depth);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given subtree; the svg code is taken from the fragment cache of the options if available
+	 *
+	 * @param context
+	 * @param snapshot
+	 * @throws IOException
+	 */
+	public static void writeSubtree(SvgExportContext context, SvgNodeSnapshot snapshot) throws IOException {
+		SvgFragmentCache fragmentCache = context.getOptions().getFragmentCache();
+		if (fragmentCache == null) {
+			snapshot.write(context);
+		} else {
+			fragmentCache.write(context, snapshot);
+		}
+	}
+
+	/**
+	 * Forks a task for each child subtree that reaches the threshold. Returns null if no task has been forked, e.g.
+	 * because the threshold is 0 or there is only one child (that is written by the current thread anyway).
+	 *
+	 * @param context
+	 * @param childSnapshots
+	 * @param threshold
+	 * @return the forked tasks, indexed like the children (null for children that are written sequentially)
+	 */
+	private static SubtreeTask[] forkLargeSubtrees(
+			SvgExportContext context,
+			List<SvgNodeSnapshot> childSnapshots,
+			int threshold) {
+
+		boolean isParallel = threshold > 0 && childSnapshots.size() > 1;
+		if (!isParallel) {
+			return null;
+		}
+
+		SubtreeTask[] tasks = null;
+		for (int index = 0; index < childSnapshots.size(); index++) {
+			SvgNodeSnapshot childSnapshot = childSnapshots.get(index);
+			if (childSnapshot.getNodeCount() >= threshold) {
+				if (tasks == null) {
+					tasks = new SubtreeTask[childSnapshots.size()];
+				}
+				SubtreeTask task = new SubtreeTask(childSnapshot, context);
+				task.fork();
+				tasks[index] = task;
+			}
+		}
+		return tasks;
+	}
+
+	//#end region
+
+	//#region TASK
+
+	/**
+	 * Writes a single subtree to an own buffer, using an own export context
+	 */
+	private static final class SubtreeTask extends RecursiveTask<StringBuilder> {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The estimated number of characters per node, used for the initial buffer capacity
+		 */
+		private static final int CHARACTERS_PER_NODE = 128;
+
+		private final transient SvgNodeSnapshot snapshot;
+
+		private final int depth;
+
+		private final transient SvgExportOptions options;
+
+		/**
+		 * The style table of the document (shared with the other tasks) or null
+		 */
+		private final transient SvgStyleTable styleTable;
+
+		/**
+		 * The geometry table of the document (shared with the other tasks) or null
+		 */
+		private final transient SvgGeometryTable geometryTable;
+
+		SubtreeTask(SvgNodeSnapshot snapshot, SvgExportContext parentContext) {
+			this.snapshot = snapshot;
+			this.depth = parentContext.getDepth();
+			this.options = parentContext.getOptions();
+			this.styleTable = parentContext.getStyleTable();
+			this.geometryTable = parentContext.getGeometryTable();
+		}
+
+		@Override
+		protected StringBuilder compute() {
+			StringBuilder buffer = new StringBuilder(CHARACTERS_PER_NODE * snapshot.getNodeCount());
+			SvgExportContext subtreeContext = new SvgExportContext(buffer, depth, options, styleTable,
+					geometryTable);
+			try {
+				writeSubtree(subtreeContext, snapshot);
+			} catch (IOException exception) {
+				//a StringBuilder does not throw IOExceptions
+				throw new IllegalStateException("Could not write SVG subtree", exception);
+			}
+			return buffer;
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,60 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+
+/**
+ * The snapshot of a node that can not be converted: only writes a warning comment (if warnings are enabled)
+ */
+public final class SvgWarningSnapshot implements SvgNodeSnapshot {
+
+	//#region ATTRIBUTES
+
+	private final String warning;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param warning
+	 */
+	public SvgWarningSnapshot(String warning) {
+		this.warning = warning;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public void write(SvgExportContext context) throws IOException {
+		if (context.isWarningCommentEnabled()) {
+			context.getOut().append(context.getIndentation()).append("<!--").append(warning).append(" -->")
+					.append(context.getLineBreak());
+		}
+	}
+
+	@Override
+	public long getFingerprint() {
+		long hash = SvgFingerprint.mix(SvgFingerprint.START, SvgWarningSnapshot.class.getName());
+		return SvgFingerprint.finish(SvgFingerprint.mix(hash, warning));
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public String getWarning() {
+		return warning;
+	}
+
+	//#end region
+
+}
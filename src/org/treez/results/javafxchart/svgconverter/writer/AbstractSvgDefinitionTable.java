@@ -0,0 +1,195 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class for tables that collect shared definitions of an svg document (e.g. css classes or geometries). A
+ * definition is identified by its content. While the document is written, the svg code only contains references to
+ * the definitions (see SvgDefinitionReferences); the short names of the definitions are assigned when the document is
+ * completed, in the order of their first reference in the document. Therefore the names do not depend on the order in
+ * which (parallel) subtrees have been written, and the code of cached fragments is remapped to the definitions of the
+ * document it is appended to. A table is thread safe.
+ */
+public abstract class AbstractSvgDefinitionTable {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The first character of the names and references of the definitions; has to be a letter
+	 */
+	private final char prefix;
+
+	/**
+	 * The indices of the referenced definitions by definition; guarded by this
+	 */
+	private final Map<String, Integer> indices = new HashMap<>();
+
+	/**
+	 * The referenced definitions by index; guarded by this
+	 */
+	private final List<String> indexedDefinitions = new ArrayList<>();
+
+	/**
+	 * The names of the referenced definitions by index (null if no name has been assigned yet); guarded by this
+	 */
+	private final List<String> names = new ArrayList<>();
+
+	/**
+	 * The named definitions by name, in the order in which the names have been assigned; guarded by this
+	 */
+	private final Map<String, String> namedDefinitions = new LinkedHashMap<>();
+
+	/**
+	 * The names that must not be assigned to a definition (e.g. the ids of nodes); guarded by this
+	 */
+	private final Set<String> reservedNames = new HashSet<>();
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param prefix
+	 *            the first character of the names and references of the definitions; has to be a letter
+	 */
+	protected AbstractSvgDefinitionTable(char prefix) {
+		if (!Character.isLetter(prefix)) {
+			String message = "The prefix has to be a letter but is '" + prefix + "'.";
+			throw new IllegalArgumentException(message);
+		}
+		this.prefix = prefix;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Adds the given definition (if it has not been added yet) and returns a reference to it, that is written to the
+	 * svg code instead of the name of the definition
+	 *
+	 * @param definition
+	 * @return
+	 */
+	public synchronized String reference(String definition) {
+		Integer index = indices.get(definition);
+		if (index == null) {
+			index = indexedDefinitions.size();
+			indices.put(definition, index);
+			indexedDefinitions.add(definition);
+			names.add(null);
+		}
+		return SvgDefinitionReferences.createReference(prefix, index);
+	}
+
+	/**
+	 * Reserves the given name, so that it is not assigned to a definition (e.g. the id of a node that might be equal
+	 * to the id of a geometry). Only names that start with the prefix have to be reserved.
+	 *
+	 * @param name
+	 */
+	public synchronized void reserveName(String name) {
+		boolean hasPrefix = !name.isEmpty() && name.charAt(0) == prefix;
+		if (hasPrefix) {
+			reservedNames.add(name);
+		}
+	}
+
+	/**
+	 * Reserves all names that have been reserved in the given table (e.g. the table of an appended fragment)
+	 *
+	 * @param definitionTable
+	 */
+	public void reserveNames(AbstractSvgDefinitionTable definitionTable) {
+		Set<String> otherReservedNames;
+		synchronized (definitionTable) {
+			otherReservedNames = new HashSet<>(definitionTable.reservedNames);
+		}
+		synchronized (this) {
+			reservedNames.addAll(otherReservedNames);
+		}
+	}
+
+	/**
+	 * Returns the name of the definition with the given index. If the definition has no name yet, the next short name
+	 * (the prefix followed by a sequential number) is assigned to it. If that name has been reserved, a suffix is
+	 * added.
+	 *
+	 * @param index
+	 * @return the name or null if there is no definition with the given index
+	 */
+	public synchronized String getName(int index) {
+		if (index < 0 || index >= names.size()) {
+			return null;
+		}
+		String name = names.get(index);
+		if (name == null) {
+			name = createName();
+			names.set(index, name);
+			namedDefinitions.put(name, indexedDefinitions.get(index));
+		}
+		return name;
+	}
+
+	private String createName() {
+		String name = prefix + Integer.toString(namedDefinitions.size(), Character.MAX_RADIX);
+		if (!reservedNames.contains(name)) {
+			return name;
+		}
+		int suffix = 1;
+		while (reservedNames.contains(name + "_" + suffix)) {
+			suffix++;
+		}
+		return name + "_" + suffix;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return the first character of the names and references of the definitions
+	 */
+	public char getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * @param index
+	 * @return the definition with the given index or null if there is no such definition
+	 */
+	public synchronized String getDefinition(int index) {
+		if (index < 0 || index >= indexedDefinitions.size()) {
+			return null;
+		}
+		return indexedDefinitions.get(index);
+	}
+
+	/**
+	 * Returns the definitions that have a name, in the order in which the names have been assigned. The caller has to
+	 * hold the lock of this table while using the map.
+	 *
+	 * @return
+	 */
+	protected Map<String, String> getNamedDefinitions() {
+		return namedDefinitions;
+	}
+
+	/**
+	 * @return
+	 */
+	public synchronized int getDefinitionCount() {
+		return indexedDefinitions.size();
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,182 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * An Appendable that encodes the appended characters as UTF-8 directly into a direct ByteBuffer and drains that buffer
+ * to a WritableByteChannel whenever it is full. The SVG code therefore never exists as a whole, neither as chars nor as
+ * bytes. The direct buffer is allocated once per thread and reused for following exports. Closing this Appendable
+ * flushes the remaining bytes and releases the buffer; it does not close the channel.
+ */
+public class ByteChannelAppendable implements Appendable, Flushable, Closeable {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The size of the direct byte buffer
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The maximum number of bytes that is written for a single code point
+	 */
+	private static final int MAX_BYTES_PER_CODE_POINT = 4;
+
+	/**
+	 * Holds the direct byte buffer of the current thread while it is not in use
+	 */
+	private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
+
+	private final WritableByteChannel channel;
+
+	private ByteBuffer buffer;
+
+	/**
+	 * A high surrogate that has been appended without its low surrogate so far
+	 */
+	private char pendingHighSurrogate;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param channel
+	 */
+	public ByteChannelAppendable(WritableByteChannel channel) {
+		this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+		this.buffer = acquireBuffer();
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	public Appendable append(CharSequence charSequence) throws IOException {
+		CharSequence text = charSequence == null ? "null" : charSequence;
+		return append(text, 0, text.length());
+	}
+
+	@Override
+	public Appendable append(CharSequence charSequence, int start, int end) throws IOException {
+		CharSequence text = charSequence == null ? "null" : charSequence;
+		for (int index = start; index < end; index++) {
+			append(text.charAt(index));
+		}
+		return this;
+	}
+
+	@Override
+	@SuppressWarnings("checkstyle:magicnumber")
+	public Appendable append(char character) throws IOException {
+		ensureOpen();
+		if (buffer.remaining() < MAX_BYTES_PER_CODE_POINT) {
+			drainBuffer();
+		}
+
+		if (pendingHighSurrogate != 0) {
+			char highSurrogate = pendingHighSurrogate;
+			pendingHighSurrogate = 0;
+			if (Character.isLowSurrogate(character)) {
+				int codePoint = Character.toCodePoint(highSurrogate, character);
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+				return this;
+			}
+			//unpaired high surrogate
+			buffer.put((byte) '?');
+			if (buffer.remaining() < MAX_BYTES_PER_CODE_POINT) {
+				drainBuffer();
+			}
+		}
+
+		if (character < 0x80) {
+			buffer.put((byte) character);
+		} else if (character < 0x800) {
+			buffer.put((byte) (0xC0 | (character >> 6)));
+			buffer.put((byte) (0x80 | (character & 0x3F)));
+		} else if (Character.isHighSurrogate(character)) {
+			pendingHighSurrogate = character;
+		} else if (Character.isLowSurrogate(character)) {
+			//unpaired low surrogate
+			buffer.put((byte) '?');
+		} else {
+			buffer.put((byte) (0xE0 | (character >> 12)));
+			buffer.put((byte) (0x80 | ((character >> 6) & 0x3F)));
+			buffer.put((byte) (0x80 | (character & 0x3F)));
+		}
+		return this;
+	}
+
+	/**
+	 * Writes all buffered bytes to the channel
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		drainBuffer();
+	}
+
+	/**
+	 * Flushes the buffered bytes and releases the byte buffer. The channel is not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (buffer == null) {
+			return;
+		}
+		try {
+			if (pendingHighSurrogate != 0) {
+				pendingHighSurrogate = 0;
+				buffer.put((byte) '?');
+			}
+			drainBuffer();
+		} finally {
+			releaseBuffer(buffer);
+			buffer = null;
+		}
+	}
+
+	private void drainBuffer() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private void ensureOpen() throws IOException {
+		if (buffer == null) {
+			throw new IOException("The appendable has already been closed.");
+		}
+	}
+
+	private static ByteBuffer acquireBuffer() {
+		ByteBuffer cachedBuffer = BUFFER_CACHE.get();
+		if (cachedBuffer == null) {
+			return ByteBuffer.allocateDirect(BUFFER_SIZE);
+		}
+		//remove the buffer from the cache while it is in use, e.g. by nested exports on the same thread
+		BUFFER_CACHE.remove();
+		cachedBuffer.clear();
+		return cachedBuffer;
+	}
+
+	private static void releaseBuffer(ByteBuffer usedBuffer) {
+		usedBuffer.clear();
+		BUFFER_CACHE.set(usedBuffer);
+	}
+
+	//#end region
+
+}
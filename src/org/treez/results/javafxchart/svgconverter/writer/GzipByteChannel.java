@@ -0,0 +1,339 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgCompression;
+
+/**
+ * A WritableByteChannel that compresses the written bytes to a gzip stream and writes it to a target channel. The
+ * bytes are collected in blocks of {@link #BLOCK_SIZE} bytes. In sequential mode, each block is fed to a single
+ * deflater. In parallel mode, each block is deflated by an own fork join task (of the common pool) with the last
+ * 32 KB of the previous block as dictionary and ends with a sync flush, so that the deflated blocks can simply be
+ * concatenated to a single valid gzip stream (like pigz). The number of blocks in flight is limited, so that the
+ * memory usage does not depend on the size of the document. Closing this channel finishes the gzip stream; it does
+ * not close the target channel.
+ */
+public class GzipByteChannel implements WritableByteChannel {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The number of uncompressed bytes per block
+	 */
+	public static final int BLOCK_SIZE = 128 * 1024;
+
+	/**
+	 * The size of the deflate window; the maximum distance of a back reference
+	 */
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The gzip header: magic number, deflate method, no flags, no modification time, no extra flags and unknown os
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	private static final int TRAILER_SIZE = 8;
+
+	private final WritableByteChannel channel;
+
+	private final boolean isParallel;
+
+	/**
+	 * The maximum number of parallel blocks that are deflated or waiting to be written
+	 */
+	private final int maximumPendingBlockCount;
+
+	private final CRC32 checksum = new CRC32();
+
+	/**
+	 * The deflater of the sequential mode or null
+	 */
+	private Deflater deflater;
+
+	/**
+	 * The output buffer of the sequential mode or null
+	 */
+	private byte[] outputBuffer;
+
+	/**
+	 * The forked tasks of the parallel mode in document order
+	 */
+	private final ArrayDeque<BlockTask> pendingTasks = new ArrayDeque<>();
+
+	private byte[] block = new byte[BLOCK_SIZE];
+
+	private int blockLength;
+
+	/**
+	 * The last block that has been passed to a parallel task; provides the dictionary of the next block
+	 */
+	private byte[] previousBlock;
+
+	private long uncompressedByteCount;
+
+	private boolean isOpen = true;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor; writes the gzip header to the given channel
+	 *
+	 * @param channel
+	 * @param isParallel
+	 *            if true, the blocks are deflated in parallel
+	 * @throws IOException
+	 */
+	public GzipByteChannel(WritableByteChannel channel, boolean isParallel) throws IOException {
+		this.channel = Objects.requireNonNull(channel, "Channel must not be null.");
+		this.isParallel = isParallel;
+		this.maximumPendingBlockCount = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+		if (!isParallel) {
+			deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+		}
+		writeFully(ByteBuffer.wrap(HEADER));
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Wraps the given channel with a channel that compresses the written bytes. The given channel itself is returned if
+	 * no compression is used.
+	 *
+	 * @param channel
+	 * @param compression
+	 * @return
+	 * @throws IOException
+	 */
+	public static WritableByteChannel createChannel(WritableByteChannel channel, SvgCompression compression)
+			throws IOException {
+		Objects.requireNonNull(compression, "Compression must not be null.");
+		switch (compression) {
+		case NONE:
+			return channel;
+		case GZIP:
+			return new GzipByteChannel(channel, false);
+		case PARALLEL_GZIP:
+			return new GzipByteChannel(channel, true);
+		default:
+			String message = "The compression " + compression + " is not known.";
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	@Override
+	public int write(ByteBuffer source) throws IOException {
+		ensureOpen();
+		int byteCount = source.remaining();
+		while (source.hasRemaining()) {
+			int length = Math.min(source.remaining(), BLOCK_SIZE - blockLength);
+			source.get(block, blockLength, length);
+			checksum.update(block, blockLength, length);
+			blockLength += length;
+			if (blockLength == BLOCK_SIZE) {
+				deflateBlock(false);
+			}
+		}
+		uncompressedByteCount += byteCount;
+		return byteCount;
+	}
+
+	/**
+	 * Deflates the remaining bytes and writes the end of the gzip stream. The target channel is not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!isOpen) {
+			return;
+		}
+		isOpen = false;
+		try {
+			deflateBlock(true);
+			while (!pendingTasks.isEmpty()) {
+				writeFully(ByteBuffer.wrap(pendingTasks.removeFirst().join()));
+			}
+			writeFully(createTrailer());
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+				deflater = null;
+			}
+		}
+	}
+
+	/**
+	 * Deflates the current block and starts a new one
+	 *
+	 * @param isLast
+	 *            if true, the deflate stream is finished
+	 * @throws IOException
+	 */
+	private void deflateBlock(boolean isLast) throws IOException {
+		if (isParallel) {
+			forkBlockTask(isLast);
+		} else {
+			deflater.setInput(block, 0, blockLength);
+			if (isLast) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					writeDeflatedBytes(Deflater.NO_FLUSH);
+				}
+			} else {
+				while (!deflater.needsInput()) {
+					writeDeflatedBytes(Deflater.NO_FLUSH);
+				}
+			}
+			blockLength = 0;
+		}
+	}
+
+	private void writeDeflatedBytes(int flushMode) throws IOException {
+		int length = deflater.deflate(outputBuffer, 0, outputBuffer.length, flushMode);
+		if (length > 0) {
+			writeFully(ByteBuffer.wrap(outputBuffer, 0, length));
+		}
+	}
+
+	private void forkBlockTask(boolean isLast) throws IOException {
+		//write finished blocks in document order as long as too many blocks are in flight
+		while (pendingTasks.size() >= maximumPendingBlockCount) {
+			writeFully(ByteBuffer.wrap(pendingTasks.removeFirst().join()));
+		}
+
+		byte[] taskBlock = block;
+		if (blockLength < taskBlock.length) {
+			taskBlock = Arrays.copyOf(block, blockLength);
+		}
+		BlockTask task = new BlockTask(taskBlock, previousBlock, isLast);
+		task.fork();
+		pendingTasks.addLast(task);
+
+		//the block array is owned by the task now; only full blocks are followed by further blocks
+		previousBlock = taskBlock;
+		block = new byte[BLOCK_SIZE];
+		blockLength = 0;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private ByteBuffer createTrailer() {
+		byte[] trailer = new byte[TRAILER_SIZE];
+		long crc = checksum.getValue();
+		for (int index = 0; index < 4; index++) {
+			trailer[index] = (byte) (crc >>> (8 * index));
+			//the size is written modulo 2^32
+			trailer[4 + index] = (byte) (uncompressedByteCount >>> (8 * index));
+		}
+		return ByteBuffer.wrap(trailer);
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private void ensureOpen() throws ClosedChannelException {
+		if (!isOpen) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	@Override
+	public boolean isOpen() {
+		return isOpen;
+	}
+
+	/**
+	 * @return the number of uncompressed bytes that have been written to this channel
+	 */
+	public long getUncompressedByteCount() {
+		return uncompressedByteCount;
+	}
+
+	//#end region
+
+	//#region TASK
+
+	/**
+	 * Deflates a single block to raw deflate data that ends at a byte boundary (with a sync flush), or finishes the
+	 * deflate stream if it is the last block
+	 */
+	private static final class BlockTask extends RecursiveTask<byte[]> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] block;
+
+		/**
+		 * The previous (full) block or null; its end is used as dictionary
+		 */
+		private final byte[] previousBlock;
+
+		private final boolean isLast;
+
+		BlockTask(byte[] block, byte[] previousBlock, boolean isLast) {
+			this.block = block;
+			this.previousBlock = previousBlock;
+			this.isLast = isLast;
+		}
+
+		@Override
+		protected byte[] compute() {
+			Deflater blockDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			try {
+				if (previousBlock != null) {
+					blockDeflater.setDictionary(previousBlock, previousBlock.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+				}
+				blockDeflater.setInput(block);
+				byte[] output = new byte[block.length / 2 + OUTPUT_BUFFER_SIZE];
+				int outputLength = 0;
+				int flushMode = Deflater.SYNC_FLUSH;
+				if (isLast) {
+					blockDeflater.finish();
+					flushMode = Deflater.NO_FLUSH;
+				}
+				boolean isDone = false;
+				while (!isDone) {
+					if (outputLength == output.length) {
+						output = Arrays.copyOf(output, 2 * output.length);
+					}
+					outputLength += blockDeflater.deflate(output, outputLength, output.length - outputLength,
+							flushMode);
+					if (isLast) {
+						isDone = blockDeflater.finished();
+					} else {
+						//a sync flush is complete if it leaves space in the output
+						isDone = outputLength < output.length;
+					}
+				}
+				return Arrays.copyOf(output, outputLength);
+			} finally {
+				blockDeflater.end();
+			}
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,71 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+/**
+ * Encodes colors as svg hex color codes (e.g. "#FF8000") with a lookup table instead of String.format. The channels of
+ * a color are given as values in the range 0..1 (like the channels of a JavaFx Color), so that this class does not
+ * reference any JavaFx classes. A writer must only be used by one thread at a time.
+ */
+public class SvgColorWriter {
+
+	//#region ATTRIBUTES
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * The two hex digits for each channel value 0..255: entry 2*i is the high digit and entry 2*i+1 is the low digit
+	 */
+	private static final char[] HEX_TABLE = createHexTable();
+
+	private final char[] buffer = new char[7];
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgColorWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Returns the hex color code of the given color channels
+	 *
+	 * @param red
+	 * @param green
+	 * @param blue
+	 * @return
+	 */
+	public String toColorCode(double red, double green, double blue) {
+		fillBuffer(red, green, blue);
+		return new String(buffer);
+	}
+
+	private void fillBuffer(double red, double green, double blue) {
+		buffer[0] = '#';
+		putChannel(1, red);
+		putChannel(3, green);
+		putChannel(5, blue);
+	}
+
+	private void putChannel(int position, double channelValue) {
+		int value = (int) (channelValue * 255);
+		buffer[position] = HEX_TABLE[2 * value];
+		buffer[position + 1] = HEX_TABLE[2 * value + 1];
+	}
+
+	private static char[] createHexTable() {
+		char[] hexTable = new char[2 * 256];
+		for (int value = 0; value < 256; value++) {
+			hexTable[2 * value] = HEX_DIGITS[value >> 4];
+			hexTable[2 * value + 1] = HEX_DIGITS[value & 0xF];
+		}
+		return hexTable;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,398 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+/**
+ * Writes svg path data in a compact form: for each segment either the absolute or the relative command is used
+ * (whichever is shorter), axis-aligned lines are written as horizontal or vertical lines, repeated command letters
+ * are omitted and numbers are written without leading zeros and only separated where needed (e.g. "M10 20h5.5l.5-3").
+ * Relative coordinates are computed from the rounded positions that have already been written, so that rounding
+ * errors do not accumulate. Raw path data is written as is. A writer holds scratch buffers and must only be used by
+ * one thread at a time.
+ */
+public class SvgCompactPathDataWriter {
+
+	//#region ATTRIBUTES
+
+	private final SvgNumberWriter numberWriter;
+
+	private final StringBuilder numberBuilder = new StringBuilder();
+
+	private final Candidate absoluteCandidate = new Candidate();
+
+	private final Candidate relativeCandidate = new Candidate();
+
+	/**
+	 * The state after the last written segment
+	 */
+	private final Candidate currentState = new Candidate();
+
+	/**
+	 * The exact current point of the path (as given by the path data)
+	 */
+	private double exactX;
+
+	private double exactY;
+
+	private double exactStartX;
+
+	private double exactStartY;
+
+	private double writtenStartX;
+
+	private double writtenStartY;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param numberWriter
+	 */
+	public SvgCompactPathDataWriter(SvgNumberWriter numberWriter) {
+		this.numberWriter = numberWriter;
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the given path data to the given output, shifted by the negative of the given offset (see
+	 * SvgPathData.write)
+	 *
+	 * @param out
+	 * @param pathData
+	 * @param offsetX
+	 * @param offsetY
+	 */
+	public void write(StringBuilder out, SvgPathData pathData, double offsetX, double offsetY) {
+		if (pathData.isRaw()) {
+			pathData.write(out, numberWriter, offsetX, offsetY);
+			return;
+		}
+
+		currentState.reset();
+		exactX = 0;
+		exactY = 0;
+		exactStartX = 0;
+		exactStartY = 0;
+		writtenStartX = 0;
+		writtenStartY = 0;
+
+		int coordinateIndex = 0;
+		for (int commandIndex = 0; commandIndex < pathData.getCommandCount(); commandIndex++) {
+			char command = pathData.getCommand(commandIndex);
+			writeSegment(out, pathData, command, coordinateIndex, offsetX, offsetY);
+			coordinateIndex += SvgPathData.getCoordinateCount(command);
+		}
+	}
+
+	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
+	private void writeSegment(
+			StringBuilder out,
+			SvgPathData pathData,
+			char command,
+			int coordinateIndex,
+			double offsetX,
+			double offsetY) {
+
+		switch (command) {
+		case 'M':
+			double moveX = pathData.getCoordinate(coordinateIndex) - offsetX;
+			double moveY = pathData.getCoordinate(coordinateIndex + 1) - offsetY;
+			writePointSegment(out, 'M', moveX, moveY);
+			exactStartX = moveX;
+			exactStartY = moveY;
+			writtenStartX = currentState.writtenX;
+			writtenStartY = currentState.writtenY;
+			break;
+		case 'L':
+			double lineX = pathData.getCoordinate(coordinateIndex) - offsetX;
+			double lineY = pathData.getCoordinate(coordinateIndex + 1) - offsetY;
+			writeLineSegment(out, lineX, lineY);
+			break;
+		case 'l':
+			double relativeLineX = exactX + pathData.getCoordinate(coordinateIndex);
+			double relativeLineY = exactY + pathData.getCoordinate(coordinateIndex + 1);
+			writeLineSegment(out, relativeLineX, relativeLineY);
+			break;
+		case 'H':
+			writeLineSegment(out, pathData.getCoordinate(coordinateIndex) - offsetX, exactY);
+			break;
+		case 'V':
+			writeLineSegment(out, exactX, pathData.getCoordinate(coordinateIndex) - offsetY);
+			break;
+		case 'C':
+		case 'Q':
+			writeCurveSegment(out, pathData, command, coordinateIndex, offsetX, offsetY);
+			break;
+		case 'A':
+			writeArcSegment(out, pathData, coordinateIndex, offsetX, offsetY);
+			break;
+		case 'Z':
+			//a close command is always written, even if it follows another one
+			out.append('Z');
+			currentState.lastCommand = 'Z';
+			currentState.isAfterNumber = false;
+			currentState.writtenX = writtenStartX;
+			currentState.writtenY = writtenStartY;
+			exactX = exactStartX;
+			exactY = exactStartY;
+			break;
+		default:
+			String message = "The path command '" + command + "' is not known.";
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	/**
+	 * Writes a line to the given point, as horizontal or vertical line if it is axis-aligned after rounding
+	 *
+	 * @param out
+	 * @param x
+	 * @param y
+	 */
+	private void writeLineSegment(StringBuilder out, double x, double y) {
+		double writtenX = currentState.writtenX;
+		double writtenY = currentState.writtenY;
+		boolean isHorizontal = numberWriter.round(y) == writtenY;
+		boolean isVertical = numberWriter.round(x) == writtenX;
+		if (isHorizontal) {
+			absoluteCandidate.start(currentState, 'H');
+			absoluteCandidate.appendX(x);
+			relativeCandidate.start(currentState, 'h');
+			relativeCandidate.appendRelativeX(x - writtenX);
+			exactX = x;
+			exactY = y;
+			appendShorterCandidate(out);
+		} else if (isVertical) {
+			absoluteCandidate.start(currentState, 'V');
+			absoluteCandidate.appendY(y);
+			relativeCandidate.start(currentState, 'v');
+			relativeCandidate.appendRelativeY(y - writtenY);
+			exactX = x;
+			exactY = y;
+			appendShorterCandidate(out);
+		} else {
+			writePointSegment(out, 'L', x, y);
+		}
+	}
+
+	/**
+	 * Writes a move or line segment to the given point
+	 *
+	 * @param out
+	 * @param absoluteCommand
+	 * @param x
+	 * @param y
+	 */
+	private void writePointSegment(StringBuilder out, char absoluteCommand, double x, double y) {
+		double writtenX = currentState.writtenX;
+		double writtenY = currentState.writtenY;
+		absoluteCandidate.start(currentState, absoluteCommand);
+		absoluteCandidate.appendX(x);
+		absoluteCandidate.appendY(y);
+		relativeCandidate.start(currentState, Character.toLowerCase(absoluteCommand));
+		relativeCandidate.appendRelativeX(x - writtenX);
+		relativeCandidate.appendRelativeY(y - writtenY);
+		exactX = x;
+		exactY = y;
+		appendShorterCandidate(out);
+	}
+
+	/**
+	 * Writes a cubic or quadratic curve; the control points of the relative command are relative to the start of the
+	 * segment
+	 */
+	private void writeCurveSegment(
+			StringBuilder out,
+			SvgPathData pathData,
+			char command,
+			int coordinateIndex,
+			double offsetX,
+			double offsetY) {
+		double writtenX = currentState.writtenX;
+		double writtenY = currentState.writtenY;
+		absoluteCandidate.start(currentState, command);
+		relativeCandidate.start(currentState, Character.toLowerCase(command));
+		int coordinateCount = SvgPathData.getCoordinateCount(command);
+		for (int index = 0; index < coordinateCount; index += 2) {
+			double x = pathData.getCoordinate(coordinateIndex + index) - offsetX;
+			double y = pathData.getCoordinate(coordinateIndex + index + 1) - offsetY;
+			absoluteCandidate.appendNumber(x);
+			absoluteCandidate.appendNumber(y);
+			relativeCandidate.appendNumber(x - writtenX);
+			relativeCandidate.appendNumber(y - writtenY);
+			exactX = x;
+			exactY = y;
+		}
+		//the end point is the last point
+		absoluteCandidate.writtenX = numberWriter.round(exactX);
+		absoluteCandidate.writtenY = numberWriter.round(exactY);
+		relativeCandidate.writtenX = writtenX + numberWriter.round(exactX - writtenX);
+		relativeCandidate.writtenY = writtenY + numberWriter.round(exactY - writtenY);
+		appendShorterCandidate(out);
+	}
+
+	/**
+	 * Writes an arc; only the end point of the relative command is relative
+	 */
+	private void writeArcSegment(
+			StringBuilder out,
+			SvgPathData pathData,
+			int coordinateIndex,
+			double offsetX,
+			double offsetY) {
+		double writtenX = currentState.writtenX;
+		double writtenY = currentState.writtenY;
+		absoluteCandidate.start(currentState, 'A');
+		relativeCandidate.start(currentState, 'a');
+		for (int index = 0; index < 5; index++) {
+			double value = pathData.getCoordinate(coordinateIndex + index);
+			absoluteCandidate.appendNumber(value);
+			relativeCandidate.appendNumber(value);
+		}
+		double x = pathData.getCoordinate(coordinateIndex + 5) - offsetX;
+		double y = pathData.getCoordinate(coordinateIndex + 6) - offsetY;
+		absoluteCandidate.appendX(x);
+		absoluteCandidate.appendY(y);
+		relativeCandidate.appendRelativeX(x - writtenX);
+		relativeCandidate.appendRelativeY(y - writtenY);
+		exactX = x;
+		exactY = y;
+		appendShorterCandidate(out);
+	}
+
+	/**
+	 * Appends the shorter candidate (the absolute one if both have the same length) and takes over its state
+	 *
+	 * @param out
+	 */
+	private void appendShorterCandidate(StringBuilder out) {
+		Candidate candidate = absoluteCandidate;
+		if (relativeCandidate.code.length() < absoluteCandidate.code.length()) {
+			candidate = relativeCandidate;
+		}
+		out.append(candidate.code);
+		currentState.copyFrom(candidate);
+	}
+
+	//#end region
+
+	//#region CANDIDATE
+
+	/**
+	 * The code of a segment and the state after writing it
+	 */
+	private final class Candidate {
+
+		private final StringBuilder code = new StringBuilder();
+
+		/**
+		 * The last written (or implied) command letter
+		 */
+		private char lastCommand;
+
+		private boolean isAfterNumber;
+
+		/**
+		 * True if the last written number contains a decimal point; then a following number that starts with a point
+		 * needs no separator
+		 */
+		private boolean isAfterFraction;
+
+		/**
+		 * The current point as it is read from the written code
+		 */
+		private double writtenX;
+
+		private double writtenY;
+
+		void reset() {
+			code.setLength(0);
+			lastCommand = 0;
+			isAfterNumber = false;
+			isAfterFraction = false;
+			writtenX = 0;
+			writtenY = 0;
+		}
+
+		void copyFrom(Candidate candidate) {
+			lastCommand = candidate.lastCommand;
+			isAfterNumber = candidate.isAfterNumber;
+			isAfterFraction = candidate.isAfterFraction;
+			writtenX = candidate.writtenX;
+			writtenY = candidate.writtenY;
+		}
+
+		/**
+		 * Starts a segment with the given command. The command letter is omitted if it is implied by the previous
+		 * command (a command repeats itself, a move is followed by lines).
+		 *
+		 * @param state
+		 * @param command
+		 */
+		void start(Candidate state, char command) {
+			copyFrom(state);
+			code.setLength(0);
+			boolean isImplied = command == getImpliedCommand(lastCommand);
+			if (!isImplied) {
+				code.append(command);
+				isAfterNumber = false;
+			}
+			lastCommand = command;
+		}
+
+		void appendX(double x) {
+			appendNumber(x);
+			writtenX = numberWriter.round(x);
+		}
+
+		void appendY(double y) {
+			appendNumber(y);
+			writtenY = numberWriter.round(y);
+		}
+
+		void appendRelativeX(double dx) {
+			appendNumber(dx);
+			writtenX += numberWriter.round(dx);
+		}
+
+		void appendRelativeY(double dy) {
+			appendNumber(dy);
+			writtenY += numberWriter.round(dy);
+		}
+
+		void appendNumber(double value) {
+			numberBuilder.setLength(0);
+			numberWriter.writeCompact(numberBuilder, value);
+			char firstCharacter = numberBuilder.charAt(0);
+			boolean isSeparated = firstCharacter == '-' || (firstCharacter == '.' && isAfterFraction);
+			if (isAfterNumber && !isSeparated) {
+				code.append(' ');
+			}
+			code.append(numberBuilder);
+			isAfterNumber = true;
+			isAfterFraction = numberBuilder.indexOf(".") >= 0;
+		}
+
+		private char getImpliedCommand(char command) {
+			switch (command) {
+			case 'M':
+				return 'L';
+			case 'm':
+				return 'l';
+			case 'Z':
+				return 0;
+			default:
+				return command;
+			}
+		}
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,148 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+
+/**
+ * Creates and resolves the references to shared definitions (see AbstractSvgDefinitionTable) in buffered svg code. A
+ * reference consists of the prefix of its definition table and the index of the definition in that table, enclosed
+ * in reference marks. The mark is a control character that is not allowed in xml, so that a reference can not be
+ * confused with written content. Marks that do not enclose a valid reference are copied unchanged.
+ */
+public final class SvgDefinitionReferences {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The character that starts and ends a reference
+	 */
+	public static final char REFERENCE_MARK = '\u0001';
+
+	/**
+	 * The maximum number of digits of the index of a reference
+	 */
+	private static final int MAXIMUM_INDEX_LENGTH = 6;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	private SvgDefinitionReferences() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Creates the reference to the definition with the given index of the table with the given prefix
+	 *
+	 * @param prefix
+	 * @param index
+	 * @return
+	 */
+	static String createReference(char prefix, int index) {
+		StringBuilder referenceBuilder = new StringBuilder(MAXIMUM_INDEX_LENGTH + 3);
+		referenceBuilder.append(REFERENCE_MARK).append(prefix);
+		referenceBuilder.append(Integer.toString(index, Character.MAX_RADIX)).append(REFERENCE_MARK);
+		return referenceBuilder.toString();
+	}
+
+	/**
+	 * Writes the given code to the given output and replaces each reference by the string that is returned by the
+	 * given resolver. If the resolver returns null, the reference is copied unchanged. If the output is null, the
+	 * references are only passed to the resolver (e.g. to assign the names in the order of the references).
+	 *
+	 * @param out
+	 * @param code
+	 * @param resolver
+	 * @throws IOException
+	 */
+	public static void resolve(Appendable out, CharSequence code, ReferenceResolver resolver) throws IOException {
+		int length = code.length();
+		int copyStart = 0;
+		int markIndex = indexOfMark(code, 0);
+		while (markIndex >= 0) {
+			int endMarkIndex = indexOfMark(code, markIndex + 1);
+			if (endMarkIndex < 0) {
+				break;
+			}
+			String replacement = resolveReference(code, markIndex, endMarkIndex, resolver);
+			if (replacement == null) {
+				//the end mark might be the start of the next reference
+				markIndex = endMarkIndex;
+				continue;
+			}
+			if (out != null) {
+				out.append(code, copyStart, markIndex);
+				out.append(replacement);
+			}
+			copyStart = endMarkIndex + 1;
+			markIndex = indexOfMark(code, copyStart);
+		}
+		if (out != null) {
+			out.append(code, copyStart, length);
+		}
+	}
+
+	/**
+	 * Resolves the reference between the given marks
+	 *
+	 * @param code
+	 * @param markIndex
+	 * @param endMarkIndex
+	 * @param resolver
+	 * @return the replacement or null if the marks do not enclose a valid reference
+	 */
+	private static String resolveReference(
+			CharSequence code,
+			int markIndex,
+			int endMarkIndex,
+			ReferenceResolver resolver) {
+		int indexLength = endMarkIndex - markIndex - 2;
+		boolean hasValidLength = indexLength > 0 && indexLength <= MAXIMUM_INDEX_LENGTH;
+		if (!hasValidLength) {
+			return null;
+		}
+		char prefix = code.charAt(markIndex + 1);
+		int index = 0;
+		for (int position = markIndex + 2; position < endMarkIndex; position++) {
+			int digit = Character.digit(code.charAt(position), Character.MAX_RADIX);
+			if (digit < 0) {
+				return null;
+			}
+			index = index * Character.MAX_RADIX + digit;
+		}
+		return resolver.resolve(prefix, index);
+	}
+
+	private static int indexOfMark(CharSequence code, int start) {
+		int length = code.length();
+		for (int index = start; index < length; index++) {
+			if (code.charAt(index) == REFERENCE_MARK) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	//#end region
+
+	//#region RESOLVER
+
+	/**
+	 * Returns the replacement of a reference
+	 */
+	public interface ReferenceResolver {
+
+		/**
+		 * @param prefix
+		 *            the prefix of the table of the referenced definition
+		 * @param index
+		 *            the index of the referenced definition
+		 * @return the replacement or null if the reference is not known
+		 */
+		String resolve(char prefix, int index);
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,96 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Collects the distinct path geometries of an svg document. Each geometry is written once as path in a defs element
+ * and referenced by use elements. The short ids of the geometries (e.g. "g0", "g1") are assigned in the order of the
+ * first reference in the document (see AbstractSvgDefinitionTable); the ids of the nodes are reserved, so that a
+ * geometry never gets the id of a node. A table is thread safe.
+ */
+public final class SvgGeometryTable extends AbstractSvgDefinitionTable {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The first character of the geometry ids
+	 */
+	public static final char PREFIX = 'g';
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgGeometryTable() {
+		super(PREFIX);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Adds the given path data (e.g. "M 0 0 L 10 10") and returns the reference to its geometry, that is replaced by
+	 * the geometry id when the document is completed
+	 *
+	 * @param pathData
+	 * @return
+	 */
+	public String intern(String pathData) {
+		return reference(pathData);
+	}
+
+	/**
+	 * Reserves the id of a node, so that no geometry gets the same id
+	 *
+	 * @param id
+	 */
+	public void reserveId(String id) {
+		reserveName(id);
+	}
+
+	/**
+	 * Writes the defs element with all geometries that have an id. Nothing is written if no geometry has an id.
+	 *
+	 * @param out
+	 * @param indentation
+	 *            the indentation of the defs element (the paths are indented by one more level)
+	 * @param indentationStep
+	 * @param lineBreak
+	 * @throws IOException
+	 */
+	public synchronized void writeDefsElement(
+			Appendable out,
+			String indentation,
+			String indentationStep,
+			String lineBreak) throws IOException {
+		Map<String, String> geometries = getNamedDefinitions();
+		if (geometries.isEmpty()) {
+			return;
+		}
+		out.append(indentation).append("<defs>").append(lineBreak);
+		for (Map.Entry<String, String> entry : geometries.entrySet()) {
+			out.append(indentation).append(indentationStep).append("<path id=\"").append(entry.getKey());
+			out.append("\" d=\"").append(entry.getValue()).append("\"/>").append(lineBreak);
+		}
+		out.append(indentation).append("</defs>").append(lineBreak);
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public int getGeometryCount() {
+		return getDefinitionCount();
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,61 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.util.Objects;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+
+/**
+ * Writes the svg code of a group: a g element that wraps the children
+ */
+public class SvgGroupWriter extends SvgNodeWriter {
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgGroupWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	protected String createTagStartString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String idString,
+			String styleString,
+			String transformString) {
+
+		Objects.requireNonNull(svgNodeProperties, "svg node propeties must not be null.");
+
+		boolean hasChildren = svgNodeProperties.hasChildren();
+
+		String startString = "";
+		if (hasChildren) {
+			//add a group tag as prefix and include the id, style and transform into that group tag
+			startString = startString + context.getIndentation() + "<g" + idString + styleString + transformString + ">"
+					+ context.getLineBreak();
+			context.increaseDepth();
+
+		} else {
+			//create individual tag and directly include id, style and transform
+			startString = startString + context.getIndentation() + "<g" + idString + styleString + transformString;
+		}
+
+		return startString;
+	}
+
+	/**
+	 * Creates the geometry string (empty for a group).
+	 */
+	@Override
+	protected String createGeometryString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		return "";
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,286 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+/**
+ * Writes the svg code of a node that is described by svg node properties. This is the write half of a converter: the
+ * converters capture the properties of their nodes and choose the node writer that writes them later on. A node
+ * writer does not reference any JavaFx classes and has no mutable state; the state of writing is passed as
+ * SvgExportContext. This base class writes the comment, id, style and transform of a node but no geometry; see the
+ * inheriting classes for groups, regions and shapes.
+ */
+public class SvgNodeWriter {
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgNodeWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the svg code for the given svg node properties (without the children and the end tag of the group that
+	 * wraps them). This method might be overridden by inheriting classes.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @throws IOException
+	 */
+	public void write(SvgExportContext context, SvgNodeProperties svgNodeProperties) throws IOException {
+
+		//create svg sub strings with svg node properties-----------------
+
+		//comment string
+		String commentString = createCommentString(context, svgNodeProperties);
+
+		//id sub string
+		String idString = createIdString(context, svgNodeProperties);
+
+		//style sub string
+		String styleString = createStyleString(context, svgNodeProperties);
+
+		//transformation sub string
+		String transformString = createTransformString(context, svgNodeProperties);
+
+		//start sub string (included id, style and transform)
+		String startString = createTagStartString(context, svgNodeProperties, idString, styleString, transformString);
+
+		//geometry string, including the end of the base tag
+		String geometryString = createGeometryString(context, svgNodeProperties);
+
+		//write sub strings----------------------------------------------
+		context.getOut().append(commentString).append(startString).append(geometryString);
+	}
+
+	/**
+	 * Creates the SVG comment sub string that is placed before a svg node to tell something about its meaning. If no
+	 * comment is available and empty string is returned
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	protected String createCommentString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		String comment = svgNodeProperties.getComment();
+		if (comment == null || comment.isEmpty()) {
+			return "";
+		} else {
+			String commentString = context.getIndentation() + "<!--" + comment + " -->" + context.getLineBreak();
+			return commentString;
+		}
+	}
+
+	/**
+	 * Creates the SVG id sub string. If the geometries are shared, the id is reserved, so that no geometry gets the
+	 * same id.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	private static String createIdString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		String id = svgNodeProperties.getId();
+		boolean idExists = id != null && !id.isEmpty();
+		String idString = "";
+		if (idExists) {
+			idString = " id=\"" + id + "\"";
+			SvgGeometryTable geometryTable = context.getGeometryTable();
+			if (geometryTable != null) {
+				geometryTable.reserveId(id);
+			}
+		}
+		return idString;
+	}
+
+	/**
+	 * Creates the SVG style sub string
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	private String createStyleString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String styleContent = createStyleContentString(context, svgNodeProperties);
+
+		//avoid empty style
+		if (styleContent.isEmpty()) {
+			return "";
+		}
+
+		//reference a shared css class instead of an inline style
+		SvgStyleTable styleTable = context.getStyleTable();
+		if (styleTable != null) {
+			return " class=\"" + styleTable.intern(styleContent) + '"' + context.getAttributePadding();
+		}
+
+		String styleString = " style=\"" + styleContent + '"' + context.getAttributePadding();
+		return styleString;
+	}
+
+	/**
+	 * Creates the content/value for the style string. This method might be overridden by inheriting classes.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	protected String createStyleContentString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String styleContent = "";
+
+		//visibility
+		SvgVisibility visibility = svgNodeProperties.getVisibility();
+		if (visibility != null) {
+			if (visibility != SvgVisibility.VISIBLE) {
+				styleContent = styleContent + "visibility:" + visibility.toString() + ";";
+			}
+		}
+
+		//opacity
+		double opacity = svgNodeProperties.getOpacity();
+		if (opacity != 1.0) {
+			styleContent = styleContent + "opacity:" + context.getNumberWriter().format(opacity) + ";";
+		}
+
+		return styleContent;
+	}
+
+	/**
+	 * Creates the SVG transform sub string
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	protected String createTransformString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		double x = svgNodeProperties.getX();
+		double y = svgNodeProperties.getY();
+		double xScale = svgNodeProperties.getXScale();
+		double yScale = svgNodeProperties.getYScale();
+
+		boolean hasTranslation = x != 0 || y != 0;
+		boolean hasScale = xScale != 1 || yScale != 1;
+		if (!hasTranslation && !hasScale) {
+			return "";
+		}
+
+		SvgStringBuilder transformBuilder = new SvgStringBuilder(context.getNumberWriter());
+		transformBuilder.append(" transform=\"");
+		if (hasTranslation) {
+			transformBuilder.append("translate(").append(x).append(',').append(y).append(')');
+			if (hasScale) {
+				transformBuilder.append(' ');
+			} else {
+				transformBuilder.append(context.getAttributePadding());
+			}
+		}
+		if (hasScale) {
+			transformBuilder.append("scale(").append(xScale).append(',').append(yScale).append(')');
+		}
+		transformBuilder.append('"').append(context.getAttributePadding());
+		return transformBuilder.toString();
+	}
+
+	/**
+	 * Creates the SVG start sub string. The arguments have to be passed because if the node contains children, a group
+	 * tag will be put as prefix and the id, style and transform information will be put in that group tag. If the node
+	 * does not contain children, the id, style and transform data will be put directly in the SVG node tag. This
+	 * contract has to be fulfilled by the inheriting classes.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @param idString
+	 * @param styleString
+	 * @param transformString
+	 * @return
+	 */
+	protected String createTagStartString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String idString,
+			String styleString,
+			String transformString) {
+		return context.getIndentation();
+	}
+
+	/**
+	 * Creates the geometry string, including the end of the (base) tag. (This does not include the end tag of a maybe
+	 * existing parent group.) See the inheriting classes for alternative implementations. This base implementation only
+	 * includes a warning and should be overridden.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @return
+	 */
+	protected String createGeometryString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		//Something went wrong because geometry data is missing: include a SVG comment with a warning
+		if (!context.isWarningCommentEnabled()) {
+			return "";
+		}
+		String warningString = "<!-- warning: empty node geometry -->" + context.getLineBreak();
+		return warningString;
+	}
+
+	/**
+	 * Creates the start of the tag for path geometry: a use element if the geometries are shared and a path element
+	 * otherwise
+	 *
+	 * @param context
+	 * @return
+	 */
+	protected static String createPathTagStart(SvgExportContext context) {
+		if (context.getGeometryTable() != null) {
+			return "<use";
+		}
+		return "<path";
+	}
+
+	/**
+	 * Creates the path geometry sub string, including the end of the tag that has been started with
+	 * createPathTagStart. If the geometries are shared, the path data is shifted to start at the origin and added to
+	 * the geometry table; the use element references it and moves it back to the start point.
+	 *
+	 * @param context
+	 * @param pathData
+	 * @return
+	 */
+	protected static String createPathGeometryString(SvgExportContext context, SvgPathData pathData) {
+		SvgGeometryTable geometryTable = context.getGeometryTable();
+		if (geometryTable == null) {
+			StringBuilder geometryBuilder = new StringBuilder(" d=\"");
+			context.writePathData(geometryBuilder, pathData, 0, 0);
+			geometryBuilder.append("\"/>").append(context.getSectionBreak());
+			return geometryBuilder.toString();
+		}
+
+		double startX = pathData.getStartX();
+		double startY = pathData.getStartY();
+		StringBuilder pathBuilder = new StringBuilder();
+		context.writePathData(pathBuilder, pathData, startX, startY);
+		String geometryId = geometryTable.intern(pathBuilder.toString());
+
+		SvgStringBuilder geometryBuilder = new SvgStringBuilder(context.getNumberWriter());
+		geometryBuilder.append(" href=\"#").append(geometryId).append('"');
+		if (startX != 0) {
+			geometryBuilder.append(" x=\"").append(startX).append('"');
+		}
+		if (startY != 0) {
+			geometryBuilder.append(" y=\"").append(startY).append('"');
+		}
+		geometryBuilder.append("/>").append(context.getSectionBreak());
+		return geometryBuilder.toString();
+	}
+
+	//#end region
+
+}
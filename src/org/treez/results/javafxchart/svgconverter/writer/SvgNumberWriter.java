@@ -0,0 +1,283 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+
+/**
+ * Writes double values as short svg numbers directly to an output, without creating intermediate strings: the value is
+ * rounded to a maximum number of fraction digits, trailing zeros are stripped and integers are written without
+ * fraction (e.g. 12.000000000000002 => "12", 0.5 => "0.5"). A writer holds a small scratch buffer and must only be
+ * used by one thread at a time.
+ */
+public class SvgNumberWriter {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The default maximum number of fraction digits
+	 */
+	public static final int DEFAULT_MAXIMUM_FRACTION_DIGITS = 6;
+
+	/**
+	 * The largest supported maximum number of fraction digits
+	 */
+	public static final int MAX_FRACTION_DIGITS = 15;
+
+	private static final long[] POWERS_OF_TEN = createPowersOfTen();
+
+	/**
+	 * Scaled values must stay below this limit to be exactly representable as long
+	 */
+	private static final double SCALED_LIMIT = 9.0e18;
+
+	/**
+	 * Sign, 19 integer digits, point and fraction digits
+	 */
+	private static final int BUFFER_SIZE = 1 + 19 + 1 + MAX_FRACTION_DIGITS;
+
+	private final int maximumFractionDigits;
+
+	private final long fractionScale;
+
+	private final char[] buffer = new char[BUFFER_SIZE];
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor with the default maximum number of fraction digits
+	 */
+	public SvgNumberWriter() {
+		this(DEFAULT_MAXIMUM_FRACTION_DIGITS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maximumFractionDigits
+	 */
+	public SvgNumberWriter(int maximumFractionDigits) {
+		if (maximumFractionDigits < 0 || maximumFractionDigits > MAX_FRACTION_DIGITS) {
+			String message = "The maximum number of fraction digits must be in the range 0.." + MAX_FRACTION_DIGITS
+					+ " but is " + maximumFractionDigits + ".";
+			throw new IllegalArgumentException(message);
+		}
+		this.maximumFractionDigits = maximumFractionDigits;
+		this.fractionScale = POWERS_OF_TEN[maximumFractionDigits];
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Writes the given value to the given output
+	 *
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	public void write(Appendable out, double value) throws IOException {
+		int length = fillBuffer(value);
+		if (length < 0) {
+			out.append(Double.toString(value));
+			return;
+		}
+		for (int index = 0; index < length; index++) {
+			out.append(buffer[index]);
+		}
+	}
+
+	/**
+	 * Writes the given value to the given StringBuilder
+	 *
+	 * @param out
+	 * @param value
+	 */
+	public void write(StringBuilder out, double value) {
+		int length = fillBuffer(value);
+		if (length < 0) {
+			out.append(value);
+			return;
+		}
+		out.append(buffer, 0, length);
+	}
+
+	/**
+	 * Writes the given value to the given StringBuilder without leading zero (e.g. 0.5 => ".5", -0.5 => "-.5"), as
+	 * used for compact path data
+	 *
+	 * @param out
+	 * @param value
+	 */
+	public void writeCompact(StringBuilder out, double value) {
+		int length = fillBuffer(value);
+		if (length < 0) {
+			out.append(value);
+			return;
+		}
+		boolean isNegative = buffer[0] == '-';
+		int integerStart = 0;
+		if (isNegative) {
+			integerStart = 1;
+		}
+		boolean hasLeadingZero = length > integerStart + 1 && buffer[integerStart] == '0'
+				&& buffer[integerStart + 1] == '.';
+		if (hasLeadingZero) {
+			if (isNegative) {
+				out.append('-');
+			}
+			out.append(buffer, integerStart + 1, length - integerStart - 1);
+		} else {
+			out.append(buffer, 0, length);
+		}
+	}
+
+	/**
+	 * Rounds the given value like it is written, so that the value that is read from the svg code can be tracked
+	 * (e.g. for relative path coordinates)
+	 *
+	 * @param value
+	 * @return
+	 */
+	public double round(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return value;
+		}
+		double absoluteValue = Math.abs(value);
+		double scaledValue = absoluteValue * fractionScale;
+		if (absoluteValue == Math.rint(absoluteValue) || scaledValue >= SCALED_LIMIT) {
+			return value;
+		}
+		double roundedValue = Math.round(scaledValue) / (double) fractionScale;
+		if (value < 0) {
+			return -roundedValue;
+		}
+		return roundedValue;
+	}
+
+	/**
+	 * Formats the given value as String. Prefer the write methods where the output is available.
+	 *
+	 * @param value
+	 * @return
+	 */
+	public String format(double value) {
+		int length = fillBuffer(value);
+		if (length < 0) {
+			return Double.toString(value);
+		}
+		return new String(buffer, 0, length);
+	}
+
+	/**
+	 * Writes the characters of the given value to the scratch buffer and returns their number. Returns -1 if the value
+	 * can not be written as plain decimal number (NaN, infinite or too large); then the caller falls back to
+	 * Double.toString.
+	 *
+	 * @param value
+	 * @return
+	 */
+	private int fillBuffer(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return -1;
+		}
+
+		double absoluteValue = Math.abs(value);
+		boolean isInteger = absoluteValue == Math.rint(absoluteValue);
+		if (isInteger) {
+			//fast path: no rounding and no fraction
+			if (absoluteValue >= SCALED_LIMIT) {
+				return -1;
+			}
+			long integerValue = (long) absoluteValue;
+			return writeDigits(value < 0 && integerValue != 0, integerValue, 0, 0);
+		}
+
+		double scaledValue = absoluteValue * fractionScale;
+		if (scaledValue >= SCALED_LIMIT) {
+			return -1;
+		}
+		long roundedValue = Math.round(scaledValue);
+		long integerPart = roundedValue / fractionScale;
+		long fractionPart = roundedValue % fractionScale;
+
+		//strip trailing zeros
+		int fractionDigits = maximumFractionDigits;
+		while (fractionPart != 0 && fractionPart % 10 == 0) {
+			fractionPart = fractionPart / 10;
+			fractionDigits--;
+		}
+		if (fractionPart == 0) {
+			fractionDigits = 0;
+		}
+
+		//a value that is rounded to zero is written without sign
+		boolean isNegative = value < 0 && roundedValue != 0;
+		return writeDigits(isNegative, integerPart, fractionPart, fractionDigits);
+	}
+
+	private int writeDigits(boolean isNegative, long integerPart, long fractionPart, int fractionDigits) {
+		int position = 0;
+		if (isNegative) {
+			buffer[position++] = '-';
+		}
+
+		position = writeLong(integerPart, position);
+
+		if (fractionDigits > 0) {
+			buffer[position++] = '.';
+			//write fraction digits from right to left, including leading zeros
+			long remainingFraction = fractionPart;
+			for (int index = position + fractionDigits - 1; index >= position; index--) {
+				buffer[index] = (char) ('0' + remainingFraction % 10);
+				remainingFraction = remainingFraction / 10;
+			}
+			position += fractionDigits;
+		}
+		return position;
+	}
+
+	private int writeLong(long value, int startPosition) {
+		if (value == 0) {
+			buffer[startPosition] = '0';
+			return startPosition + 1;
+		}
+
+		int digitCount = 0;
+		for (long remainingValue = value; remainingValue != 0; remainingValue = remainingValue / 10) {
+			digitCount++;
+		}
+
+		long remainingValue = value;
+		for (int index = startPosition + digitCount - 1; index >= startPosition; index--) {
+			buffer[index] = (char) ('0' + remainingValue % 10);
+			remainingValue = remainingValue / 10;
+		}
+		return startPosition + digitCount;
+	}
+
+	private static long[] createPowersOfTen() {
+		long[] powers = new long[MAX_FRACTION_DIGITS + 1];
+		long power = 1;
+		for (int exponent = 0; exponent <= MAX_FRACTION_DIGITS; exponent++) {
+			powers[exponent] = power;
+			power = power * 10;
+		}
+		return powers;
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public int getMaximumFractionDigits() {
+		return maximumFractionDigits;
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,434 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.util.Objects;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeAlignment;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineCap;
+
+/**
+ * Writes the svg code of a region: a group with a rect (and individual border lines if the sides have different
+ * strokes) or a path element if the region has a shape
+ */
+public class SvgRegionWriter extends SvgNodeWriter {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(SvgRegionWriter.class);
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgRegionWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	protected String createStyleContentString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String styleContent = super.createStyleContentString(context, svgNodeProperties);
+
+		//fill
+		styleContent = addFillStyle(svgNodeProperties, styleContent);
+
+		//stroke
+		styleContent = addStrokeStyle(svgNodeProperties, styleContent);
+
+		//stroke width
+		styleContent = addStrokeWidthStyle(context, svgNodeProperties, styleContent);
+
+		//stroke alignment
+		styleContent = addStrokeAlignmentStyle(svgNodeProperties, styleContent);
+
+		//stroke line cap
+		styleContent = addStrokeLineCapStyle(svgNodeProperties, styleContent);
+
+		//stroke dash array
+		styleContent = addStrokeDashArrayStyle(svgNodeProperties, styleContent);
+		
+		return styleContent;
+	}
+
+	private static String addFillStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		String fill = svgNodeProperties.getFill();
+		if (fill != null) {
+			styleContent = styleContent + "fill:" + fill + ";";
+		}
+		return styleContent;
+	}
+	
+	private static String addStrokeStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		int strokeCount = svgNodeProperties.getStrokeCount();
+		if (strokeCount > 0) {
+			boolean hasOneStroke = strokeCount == 1;
+			if (hasOneStroke) {
+				styleContent = styleContent + "stroke:" + svgNodeProperties.getStroke(0) + ";";
+			} else {
+				//the special case of multiple strokes is handled
+				//in other methods (e.g. createRectGeometryString)
+			}
+		}
+		return styleContent;
+	}
+	
+	private static String addStrokeWidthStyle(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		int strokeWidthCount = svgNodeProperties.getStrokeWidthCount();
+		if (strokeWidthCount > 0) {
+			boolean hasOneStrokeWidth = strokeWidthCount == 1;
+			if (hasOneStrokeWidth) {
+				//the width is also written if it is the svg default, since the node might be nested in a group
+				//with another stroke width that would be inherited
+				double strokeWidth = svgNodeProperties.getStrokeWidth(0);
+				styleContent = styleContent + "stroke-width:" + context.getNumberWriter().format(strokeWidth) + ";";
+			} else {
+				//the special case of multiple strokes is handled
+				//in other methods (e.g. createRectGeometryString)
+			}
+		}
+		return styleContent;
+	}
+	
+	private static String addStrokeAlignmentStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		SvgStrokeAlignment strokeAlignment = svgNodeProperties.getStrokeAlignment();
+		if (strokeAlignment != null) {
+			if (!strokeAlignment.equals(SvgStrokeAlignment.CENTER)) {
+				styleContent = styleContent + "stroke-alignment:" + strokeAlignment + ";";
+				String message = "The svg stroke-alignment (JavaFx: StrokeType) is set to '" + strokeAlignment + "'.\n"
+						+ "This svg property is relativly new and might not yet be supported by your svg viewer.";
+				sysLog.warn(message);
+			}
+		}
+		return styleContent;
+	}
+		
+	private static String addStrokeLineCapStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		SvgStrokeLineCap strokeLineCap = svgNodeProperties.getStrokeLineCap();
+		if (strokeLineCap != null) {
+			if (!strokeLineCap.equals(SvgStrokeLineCap.SQUARE)) {
+				styleContent = styleContent + "stroke-linecap:" + strokeLineCap + ";";
+			}
+		}
+		return styleContent;
+	}
+	
+	private static String addStrokeDashArrayStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		String strokeDashArray = svgNodeProperties.getStrokeDashArray();
+		if (strokeDashArray != null) {
+			if (!strokeDashArray.isEmpty()) {
+				styleContent = styleContent + "stroke-dasharray:" + strokeDashArray + ";";
+			}
+		}
+		return styleContent;
+	}
+
+	@Override
+	protected String createTagStartString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String idString,
+			String styleString,
+			String transformString) {
+
+		Objects.requireNonNull(svgNodeProperties, "svg node propeties must not be null.");
+
+		boolean hasChildren = svgNodeProperties.hasChildren();
+
+		boolean isDefinedByRect = svgNodeProperties.isDefinedByRect();
+
+		boolean hasPathData = svgNodeProperties.hasPathData();
+
+		String startString = "";
+		if (hasChildren) {
+			//add a group tag as prefix and include the id, style and transform into that group tag
+			startString = startString + context.getIndentation() + "<g" + idString + styleString + transformString + ">"
+					+ context.getLineBreak();
+			context.increaseDepth();
+
+			//create "base tag" (the id, style and transform are not included here
+			//since they are already included in the group tag)
+			if (isDefinedByRect) {
+				//rects are drown as individual lines in a group
+				//to be able to style the lines individually
+				//this tag starts a group for the rect lines
+				startString = startString + context.getIndentation() + "<g>" + context.getLineBreak();
+				context.increaseDepth();
+			} else {
+				if (hasPathData) {
+					startString = startString + context.getIndentation() + createPathTagStart(context);
+				} else {
+					//something went wrong: do not add corrupted path tag
+					startString = startString + context.getIndentation();
+				}
+			}
+
+		} else {
+			//create individual tag and directly include id, style and transform
+			if (isDefinedByRect) {
+				//rects are drown as individual lines in a group
+				//to be able to style the lines individually
+				//this tag starts a group for the rect lines
+				startString = startString + context.getIndentation() + "<g" + idString + styleString + transformString
+						+ ">" + context.getLineBreak();
+				context.increaseDepth();
+			} else {
+				if (hasPathData) {
+					startString = startString + context.getIndentation() + createPathTagStart(context) + idString + styleString
+							+ transformString;
+				} else {
+					//something went wrong: do not add corrupted path tag
+					startString = startString + context.getIndentation();
+				}
+			}
+		}
+
+		return startString;
+	}
+
+	/**
+	 * Creates the geometry string, including the end of the (base) tag. (This does not include the end tag of a maybe
+	 * existing parent group.)
+	 */
+	@Override
+	protected String createGeometryString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		boolean isDefinedByRect = svgNodeProperties.isDefinedByRect();
+
+		if (isDefinedByRect) {
+			//create rect geometry string
+			String rectGeometryString = createSvgRectString(context, svgNodeProperties);
+			return rectGeometryString;
+		} else {
+			if (svgNodeProperties.hasPathData()) {
+				//create path geometry string
+				String shapeGeometryString = createPathGeometryString(context, svgNodeProperties.getPathData());
+				return shapeGeometryString;
+			} else if (context.isWarningCommentEnabled()) {
+				//something went wrong: include a svg comment with a warning
+				//the start string also checks for this issue and does not include a
+				//start tag. Therefore, the start of the comment tag is included here without issues.
+				String warningString = "<!-- warning: empty path shape -->" + context.getLineBreak();
+				return warningString;
+			} else {
+				return "";
+			}
+		}
+	}
+
+	@SuppressWarnings({"checkstyle:magicnumber", "checkstyle:cyclomaticcomplexity",
+		"checkstyle:executablestatementcount", "checkstyle:javancss"})
+	private static String createSvgRectString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String rectSvgString = "";
+
+		int fillRadiusCount = svgNodeProperties.getFillRadiusCount();
+		boolean hasIndividualFillRadiuses = fillRadiusCount > 1;
+		if (hasIndividualFillRadiuses) {
+			//not yet implemented
+			rectSvgString = addWarningForIndividualFillRadiuses(context, rectSvgString);
+		}
+
+		boolean hasIndividualStrokes = svgNodeProperties.getStrokeCount() > 1;
+		boolean hasIndividualStrokeWidth = svgNodeProperties.getStrokeWidthCount() > 1;
+		boolean hasIndividualStrokeOpacities = svgNodeProperties.getStrokeOpacityCount() > 1;
+
+		int strokeRadiusCount = svgNodeProperties.getStrokeRadiusCount();
+		boolean hasStrokeRadius = strokeRadiusCount > 0;
+		boolean hasIndividualStrokeRadii = strokeRadiusCount > 1;
+		if (hasIndividualStrokeRadii) {
+			//not yet implemented
+			rectSvgString = addWarningForIndividualStrokeRadii(context, rectSvgString);
+		}
+
+		boolean useIndividualBorders = hasIndividualStrokes || hasIndividualStrokeWidth || hasIndividualStrokeOpacities
+				|| hasIndividualStrokeRadii;
+
+		if (useIndividualBorders) {
+
+			if (hasStrokeRadius) {
+				//not yet implemented
+				rectSvgString = addWarningForStrokeRadius(context, rectSvgString);
+			}
+
+			//create a rect where each border (top, right, bottom, left) can have an individual style
+			rectSvgString = createRectWithIndividualBorders(context, svgNodeProperties, rectSvgString);
+
+		} else {
+			//create a rect where all borders (top, right, bottom, left) have the same style
+			rectSvgString = createRectWithHomogeneousBorder(context, svgNodeProperties, rectSvgString);
+		}
+
+		context.decreaseDepth();
+		rectSvgString = rectSvgString + context.getIndentation() + "</g>" + context.getSectionBreak();
+		return rectSvgString;
+	}
+
+	private static String addWarningForIndividualFillRadiuses(SvgExportContext context, String initialRectSvgString) {
+		String rectSvgString = initialRectSvgString;
+		String warnString = "Warning: Individual fill radiuses are not yet implemented. => Using first fill radius.";
+		sysLog.warn(warnString);
+		if (context.isWarningCommentEnabled()) {
+			rectSvgString += context.getIndentation() + "<!--" + warnString + "-->" + context.getLineBreak();
+		}
+		return rectSvgString;
+	}
+
+	private static String addWarningForIndividualStrokeRadii(SvgExportContext context, String initialRectSvgString) {
+		String rectSvgString = initialRectSvgString;
+		String warnString = "Warning: Individual stroke radiuses are not yet implemented. => Using first stroke radius.";
+		sysLog.warn(warnString);
+		if (context.isWarningCommentEnabled()) {
+			rectSvgString += context.getIndentation() + "<!--" + warnString + "-->" + context.getLineBreak();
+		}
+		return rectSvgString;
+	}
+
+	private static String addWarningForStrokeRadius(SvgExportContext context, String initialRectSvgString) {
+		String rectSvgString = initialRectSvgString;
+		String warnString = "Warning: The stroke radius is not yet implemented for individual stroke styles. "
+				+ "=> Using straight strokes.";
+		sysLog.warn(warnString);
+		if (context.isWarningCommentEnabled()) {
+			rectSvgString += context.getIndentation() + "<!--" + warnString + "-->" + context.getLineBreak();
+		}
+		return rectSvgString;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static String createRectWithIndividualBorders(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String rectGeometryString) {
+
+		String rectSvgString = rectGeometryString;
+
+		double width = svgNodeProperties.getRectWidth();
+		double height = svgNodeProperties.getRectHeight();
+
+		//rectangle start for showing fill
+		rectSvgString = addRectangleForShowingFill(context, svgNodeProperties, rectSvgString);
+
+		//individual border lines to apply individual border styles
+		String topLine = createSvgLineString(context, svgNodeProperties, "top", 0, 0, height, width, height);
+		rectSvgString += context.getIndentation() + topLine + context.getLineBreak();
+
+		String rightLine = createSvgLineString(context, svgNodeProperties, "right", 1, width, height, width, 0);
+		rectSvgString += context.getIndentation() + rightLine + context.getLineBreak();
+
+		String bottomLine = createSvgLineString(context, svgNodeProperties, "bottom", 2, width, 0, 0, 0);
+		rectSvgString += context.getIndentation() + bottomLine + context.getLineBreak();
+
+		String leftLine = createSvgLineString(context, svgNodeProperties, "left", 3, 0, 0, 0, height);
+		rectSvgString += context.getIndentation() + leftLine + context.getLineBreak();
+
+		return rectSvgString;
+	}
+
+	private static String addRectangleForShowingFill(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialRectSvgString) {
+		String rectSvgString = initialRectSvgString;
+		SvgStringBuilder rectBuilder = new SvgStringBuilder(context.getNumberWriter());
+		appendRectStart(rectBuilder, svgNodeProperties);
+		appendFillRadius(rectBuilder, svgNodeProperties);
+		rectBuilder.append("/>").append(context.getLineBreak());
+		rectSvgString += context.getIndentation() + rectBuilder.toString();
+		return rectSvgString;
+	}
+
+	private static void appendRectStart(SvgStringBuilder rectBuilder, SvgNodeProperties svgNodeProperties) {
+		rectBuilder.append("<rect width=\"").append(svgNodeProperties.getRectWidth());
+		rectBuilder.append("\" height=\"").append(svgNodeProperties.getRectHeight()).append('"');
+	}
+
+	/**
+	 * Appends the first fill radius (individual fill radiuses are not yet implemented)
+	 *
+	 * @param rectBuilder
+	 * @param svgNodeProperties
+	 */
+	private static void appendFillRadius(SvgStringBuilder rectBuilder, SvgNodeProperties svgNodeProperties) {
+		boolean hasFillRadius = svgNodeProperties.getFillRadiusCount() > 0;
+		if (hasFillRadius) {
+			double radius = svgNodeProperties.getFillRadius(0);
+			rectBuilder.append(" rx=\"").append(radius).append("\" ry=\"").append(radius).append('"');
+		}
+	}
+
+	private static String createRectWithHomogeneousBorder(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String rectGeometryString) {
+
+		String rectSvgString = rectGeometryString;
+
+		SvgStringBuilder rectBuilder = new SvgStringBuilder(context.getNumberWriter());
+		appendRectStart(rectBuilder, svgNodeProperties);
+		appendFillRadius(rectBuilder, svgNodeProperties);
+		rectBuilder.append("/>").append(context.getLineBreak());
+		rectSvgString += context.getIndentation() + rectBuilder.toString();
+
+		boolean hasStrokeRadius = svgNodeProperties.getStrokeRadiusCount() > 0;
+		if (hasStrokeRadius) {
+			//add extra rect with transparent fill to show the border
+			double radius = svgNodeProperties.getStrokeRadius(0);
+			SvgStringBuilder extraRectBuilder = new SvgStringBuilder(context.getNumberWriter());
+			appendRectStart(extraRectBuilder, svgNodeProperties);
+			extraRectBuilder.append("fill=\"transparent\" rx=\"").append(radius).append("\" ry=\"").append(radius);
+			extraRectBuilder.append("\"/>").append(context.getLineBreak());
+			rectSvgString += context.getIndentation() + extraRectBuilder.toString();
+		}
+		return rectSvgString;
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static String createSvgLineString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String id,
+			int side,
+			double x1,
+			double y1,
+			double x2,
+			double y2) {
+
+		SvgStringBuilder lineBuilder = new SvgStringBuilder(context.getNumberWriter());
+		lineBuilder.append("<line id=\"").append(id);
+		lineBuilder.append("\" x1=\"").append(x1).append("\" y1=\"").append(y1);
+		lineBuilder.append('"').append(context.getAttributePadding());
+		lineBuilder.append(" x2=\"").append(x2).append("\" y2=\"").append(y2).append('"');
+
+		lineBuilder.append(" style").append(context.getAttributePadding()).append("=\"");
+		if (svgNodeProperties.getStrokeCount() > 0) {
+			lineBuilder.append("stroke:").append(svgNodeProperties.getStroke(side)).append(';');
+		}
+		if (svgNodeProperties.getStrokeWidthCount() > 0) {
+			lineBuilder.append("stroke-width:").append(svgNodeProperties.getStrokeWidth(side)).append(';');
+		}
+		if (svgNodeProperties.getStrokeOpacityCount() > 0) {
+			lineBuilder.append("opacity:").append(svgNodeProperties.getStrokeOpacity(side)).append(';');
+		}
+		lineBuilder.append("\"/>");
+
+		return lineBuilder.toString();
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,191 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.util.Objects;
+
+import org.apache.log4j.Logger;
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeAlignment;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgStrokeLineCap;
+
+/**
+ * Writes the svg code of a shape: a path element (or a use element if the geometries are shared) with the fill and
+ * stroke styles
+ */
+public class SvgShapeWriter extends SvgNodeWriter {
+
+	/**
+	 * Logger for this class
+	 */
+	private static Logger sysLog = Logger.getLogger(SvgShapeWriter.class);
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgShapeWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	protected String createStyleContentString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String styleContent = super.createStyleContentString(context, svgNodeProperties);
+		styleContent = addFillStyle(svgNodeProperties, styleContent);
+		styleContent = addStrokeStyle(context, svgNodeProperties, styleContent);
+
+		return styleContent;
+	}
+
+	private static String addFillStyle(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		String fill = svgNodeProperties.getFill();
+		if (fill != null) {
+			styleContent = styleContent + "fill:" + fill + ";";
+		}
+		return styleContent;
+	}
+
+	//#region STROKE STYLE
+
+	private static String addStrokeStyle(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialStyleContent) {
+
+		String styleContent = initialStyleContent;
+		styleContent = addStrokeColor(svgNodeProperties, styleContent);
+		styleContent = addStrokeWidth(context, svgNodeProperties, styleContent);
+		styleContent = addStrokeAlignment(svgNodeProperties, styleContent);
+		styleContent = addStrokeLineCap(svgNodeProperties, styleContent);
+		styleContent = addStrokeDashArray(svgNodeProperties, styleContent);
+
+		return styleContent;
+	}
+
+	private static String addStrokeColor(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		//stroke color
+		int strokeCount = svgNodeProperties.getStrokeCount();
+		if (strokeCount > 0) {
+			boolean hasOneStroke = strokeCount == 1;
+			if (hasOneStroke) {
+				styleContent = styleContent + "stroke:" + svgNodeProperties.getStroke(0) + ";";
+			} else {
+				sysLog.warn("Could not determine stroke.");
+			}
+		}
+		return styleContent;
+	}
+
+	private static String addStrokeWidth(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		//stroke width
+		int strokeWidthCount = svgNodeProperties.getStrokeWidthCount();
+		if (strokeWidthCount > 0) {
+			boolean hasOneStrokeWidth = strokeWidthCount == 1;
+			if (hasOneStrokeWidth) {
+				//the width is also written if it is the svg default, since the node might be nested in a group
+				//with another stroke width that would be inherited
+				double strokeWidth = svgNodeProperties.getStrokeWidth(0);
+				styleContent = styleContent + "stroke-width:" + context.getNumberWriter().format(strokeWidth) + ";";
+			} else {
+				sysLog.warn("Could not determine stroke width.");
+			}
+		}
+		return styleContent;
+	}
+
+	private static String addStrokeAlignment(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		//stroke alignment
+		SvgStrokeAlignment strokeAlignment = svgNodeProperties.getStrokeAlignment();
+		if (strokeAlignment != null) {
+			if (!strokeAlignment.equals(SvgStrokeAlignment.CENTER)) {
+				styleContent = styleContent + "stroke-alignment:" + strokeAlignment + ";";
+				String message = "The svg stroke-alignment (JavaFx: StrokeType) is set to '" + strokeAlignment + "'.\n"
+						+ "This svg property is relativly new and might not yet be supported by your svg viewer.";
+				sysLog.warn(message);
+			}
+		}
+		return styleContent;
+	}
+
+	private static String addStrokeLineCap(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		//stroke line cap
+		SvgStrokeLineCap strokeLineCap = svgNodeProperties.getStrokeLineCap();
+		if (strokeLineCap != null) {
+			if (!strokeLineCap.equals(SvgStrokeLineCap.SQUARE)) {
+				styleContent = styleContent + "stroke-linecap:" + strokeLineCap + ";";
+			}
+		}
+		return styleContent;
+	}
+
+	private static String addStrokeDashArray(SvgNodeProperties svgNodeProperties, String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		//stroke dash array
+		String strokeDashArray = svgNodeProperties.getStrokeDashArray();
+		if (strokeDashArray != null) {
+			if (!strokeDashArray.isEmpty()) {
+				styleContent = styleContent + "stroke-dasharray:" + strokeDashArray + ";";
+			}
+		}
+		return styleContent;
+	}
+
+	//#end region
+
+	@Override
+	protected String createTagStartString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String idString,
+			String styleString,
+			String transformString) {
+
+		Objects.requireNonNull(svgNodeProperties, "svg node propeties must not be null.");
+
+		String startString;
+		if (svgNodeProperties.hasPathData()) {
+			startString = context.getIndentation() + createPathTagStart(context) + idString + styleString + transformString;
+		} else {
+			//something went wrong: do not add (corrupted) path tag
+			startString = context.getIndentation();
+		}
+		return startString;
+	}
+
+	/**
+	 * Creates the geometry string, including the end of the (base) tag. (This does not include the end tag of a maybe
+	 * existing parent group.)
+	 */
+	@Override
+	protected String createGeometryString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		if (svgNodeProperties.hasPathData()) {
+			//create path geometry string
+			String shapeGeometryString = createPathGeometryString(context, svgNodeProperties.getPathData());
+			return shapeGeometryString;
+		} else if (context.isWarningCommentEnabled()) {
+			//something went wrong: include SVG comment with a warning
+			//the start string also checks for this issue and does not include a
+			//start tag. Therefore, the start of the comment tag is included here without issues.
+			String warningString = "<!-- warning: empty path shape -->" + context.getLineBreak();
+			return warningString;
+		} else {
+			return "";
+		}
+
+	}
+
+	//#end region
+
+}
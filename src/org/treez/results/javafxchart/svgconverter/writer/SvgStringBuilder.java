@@ -0,0 +1,85 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.util.Objects;
+
+/**
+ * A StringBuilder for svg code that writes double values with a SvgNumberWriter instead of Double.toString
+ */
+public final class SvgStringBuilder {
+
+	//#region ATTRIBUTES
+
+	private final StringBuilder builder = new StringBuilder();
+
+	private final SvgNumberWriter numberWriter;
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 *
+	 * @param numberWriter
+	 */
+	public SvgStringBuilder(SvgNumberWriter numberWriter) {
+		this.numberWriter = Objects.requireNonNull(numberWriter, "Number writer must not be null.");
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * @param text
+	 * @return
+	 */
+	public SvgStringBuilder append(String text) {
+		builder.append(text);
+		return this;
+	}
+
+	/**
+	 * @param character
+	 * @return
+	 */
+	public SvgStringBuilder append(char character) {
+		builder.append(character);
+		return this;
+	}
+
+	/**
+	 * @param value
+	 * @return
+	 */
+	public SvgStringBuilder append(int value) {
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Appends the given value as short svg number
+	 *
+	 * @param value
+	 * @return
+	 */
+	public SvgStringBuilder append(double value) {
+		numberWriter.write(builder, value);
+		return this;
+	}
+
+	/**
+	 * @return
+	 */
+	public int length() {
+		return builder.length();
+	}
+
+	@Override
+	public String toString() {
+		return builder.toString();
+	}
+
+	//#end region
+
+}
@@ -0,0 +1,86 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Collects the distinct style declarations of an svg document as css classes. The class attributes of the svg code
+ * reference the classes; the short class names (e.g. "s0", "s1") are assigned in the order of the first reference in
+ * the document (see AbstractSvgDefinitionTable). A table is thread safe.
+ */
+public final class SvgStyleTable extends AbstractSvgDefinitionTable {
+
+	//#region ATTRIBUTES
+
+	/**
+	 * The first character of the class names
+	 */
+	public static final char PREFIX = 's';
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgStyleTable() {
+		super(PREFIX);
+	}
+
+	//#end region
+
+	//#region METHODS
+
+	/**
+	 * Adds the given style declaration (e.g. "fill:#FF0000;stroke:#000000;") and returns the reference to its class,
+	 * that is replaced by the class name when the document is completed
+	 *
+	 * @param declaration
+	 * @return
+	 */
+	public String intern(String declaration) {
+		return reference(declaration);
+	}
+
+	/**
+	 * Writes the style element with all classes that have a name. Nothing is written if no class has a name.
+	 *
+	 * @param out
+	 * @param indentation
+	 *            the indentation of the style element (the classes are indented by one more level)
+	 * @param indentationStep
+	 * @param lineBreak
+	 * @throws IOException
+	 */
+	public synchronized void writeStyleElement(
+			Appendable out,
+			String indentation,
+			String indentationStep,
+			String lineBreak) throws IOException {
+		Map<String, String> declarations = getNamedDefinitions();
+		if (declarations.isEmpty()) {
+			return;
+		}
+		out.append(indentation).append("<style>").append(lineBreak);
+		for (Map.Entry<String, String> entry : declarations.entrySet()) {
+			out.append(indentation).append(indentationStep).append('.').append(entry.getKey()).append('{');
+			out.append(entry.getValue()).append('}').append(lineBreak);
+		}
+		out.append(indentation).append("</style>").append(lineBreak);
+	}
+
+	//#end region
+
+	//#region ACCESSORS
+
+	/**
+	 * @return
+	 */
+	public int getClassCount() {
+		return getDefinitionCount();
+	}
+
+	//#end region
+
+}
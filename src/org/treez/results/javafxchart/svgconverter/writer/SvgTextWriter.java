@@ -0,0 +1,237 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import org.treez.results.javafxchart.svgconverter.SvgExportContext;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+
+/**
+ * Writes the svg code of a text: a text element with the font and fill styles. The origin of the text element is the
+ * start of the baseline of the first line (see the transform of the node). A text with several lines is written with
+ * a tspan element per line.
+ */
+public class SvgTextWriter extends SvgNodeWriter {
+
+	//#region ATTRIBUTES
+
+	private static final String TRANSPARENT = "transparent";
+
+	//#end region
+
+	//#region CONSTRUCTORS
+
+	/**
+	 * Constructor
+	 */
+	public SvgTextWriter() {}
+
+	//#end region
+
+	//#region METHODS
+
+	@Override
+	protected String createStyleContentString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+
+		String styleContent = super.createStyleContentString(context, svgNodeProperties);
+		styleContent = addFontStyle(context, svgNodeProperties, styleContent);
+		styleContent = addFillAndStrokeStyle(context, svgNodeProperties, styleContent);
+		return styleContent;
+	}
+
+	private static String addFontStyle(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		String fontFamily = svgNodeProperties.getFontFamily();
+		if (fontFamily != null) {
+			styleContent = styleContent + "font-family:'" + escapeText(escapeCssString(fontFamily)) + "';";
+		}
+		double fontSize = svgNodeProperties.getFontSize();
+		if (fontSize > 0) {
+			styleContent = styleContent + "font-size:" + context.getNumberWriter().format(fontSize) + "px;";
+		}
+		String fontWeight = svgNodeProperties.getFontWeight();
+		if (fontWeight != null) {
+			styleContent = styleContent + "font-weight:" + fontWeight + ";";
+		}
+		String fontStyle = svgNodeProperties.getFontStyle();
+		if (fontStyle != null) {
+			styleContent = styleContent + "font-style:" + fontStyle + ";";
+		}
+		String textDecoration = svgNodeProperties.getTextDecoration();
+		if (textDecoration != null) {
+			styleContent = styleContent + "text-decoration:" + textDecoration + ";";
+		}
+		return styleContent;
+	}
+
+	private static String addFillAndStrokeStyle(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String initialStyleContent) {
+		String styleContent = initialStyleContent;
+		String fill = svgNodeProperties.getFill();
+		if (fill != null) {
+			styleContent = styleContent + "fill:" + fill + ";";
+		}
+
+		//a text is usually not stroked; the stroke is only written if it is visible
+		boolean hasOneStroke = svgNodeProperties.getStrokeCount() == 1;
+		if (hasOneStroke) {
+			String stroke = svgNodeProperties.getStroke(0);
+			boolean isVisibleStroke = stroke != null && !stroke.equals(TRANSPARENT);
+			if (isVisibleStroke) {
+				styleContent = styleContent + "stroke:" + stroke + ";";
+				boolean hasOneStrokeWidth = svgNodeProperties.getStrokeWidthCount() == 1;
+				if (hasOneStrokeWidth) {
+					String strokeWidth = context.getNumberWriter().format(svgNodeProperties.getStrokeWidth(0));
+					styleContent = styleContent + "stroke-width:" + strokeWidth + ";";
+				}
+			}
+		}
+		return styleContent;
+	}
+
+	@Override
+	protected String createTagStartString(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String idString,
+			String styleString,
+			String transformString) {
+		if (svgNodeProperties.getText() == null) {
+			//something went wrong: do not add (corrupted) text tag
+			return context.getIndentation();
+		}
+		return context.getIndentation() + "<text" + idString + styleString + transformString;
+	}
+
+	/**
+	 * Creates the content of the text element, including the end of the start tag and the end tag
+	 */
+	@Override
+	protected String createGeometryString(SvgExportContext context, SvgNodeProperties svgNodeProperties) {
+		String text = svgNodeProperties.getText();
+		if (text == null) {
+			if (!context.isWarningCommentEnabled()) {
+				return "";
+			}
+			return "<!-- warning: empty text -->" + context.getLineBreak();
+		}
+
+		StringBuilder contentBuilder = new StringBuilder(text.length() + 16);
+		contentBuilder.append('>');
+		boolean isMultiLine = text.indexOf('\n') >= 0;
+		if (isMultiLine) {
+			appendLines(context, svgNodeProperties, text, contentBuilder);
+		} else {
+			contentBuilder.append(escapeText(text));
+		}
+		contentBuilder.append("</text>").append(context.getSectionBreak());
+		return contentBuilder.toString();
+	}
+
+	/**
+	 * Appends a tspan element for each line of the given text. Each line starts at x = 0 and below the previous line.
+	 *
+	 * @param context
+	 * @param svgNodeProperties
+	 * @param text
+	 * @param contentBuilder
+	 */
+	private static void appendLines(
+			SvgExportContext context,
+			SvgNodeProperties svgNodeProperties,
+			String text,
+			StringBuilder contentBuilder) {
+		String lineHeight = context.getNumberWriter().format(svgNodeProperties.getLineHeight());
+		int lineStart = 0;
+		boolean isFirstLine = true;
+		while (lineStart <= text.length()) {
+			int lineEnd = text.indexOf('\n', lineStart);
+			if (lineEnd < 0) {
+				lineEnd = text.length();
+			}
+			contentBuilder.append("<tspan x=\"0\"");
+			if (!isFirstLine) {
+				contentBuilder.append(" dy=\"").append(lineHeight).append('"');
+			}
+			contentBuilder.append('>');
+			contentBuilder.append(escapeText(text.substring(lineStart, lineEnd)));
+			contentBuilder.append("</tspan>");
+			isFirstLine = false;
+			lineStart = lineEnd + 1;
+		}
+	}
+
+	/**
+	 * Escapes the characters of the given value that would end a single quoted css string. The result still has to be
+	 * escaped for xml, since the xml parser replaces the entities before the css is parsed.
+	 *
+	 * @param value
+	 * @return
+	 */
+	private static String escapeCssString(String value) {
+		boolean isEscapeRequired = value.indexOf('\\') >= 0 || value.indexOf('\'') >= 0;
+		if (!isEscapeRequired) {
+			return value;
+		}
+		StringBuilder escapedBuilder = new StringBuilder(value.length() + 8);
+		for (int index = 0; index < value.length(); index++) {
+			char character = value.charAt(index);
+			if (character == '\\' || character == '\'') {
+				escapedBuilder.append('\\');
+			}
+			escapedBuilder.append(character);
+		}
+		return escapedBuilder.toString();
+	}
+
+	/**
+	 * Escapes the characters of the given text that must not be used literally in xml content and attribute values
+	 *
+	 * @param text
+	 * @return
+	 */
+	public static String escapeText(String text) {
+		StringBuilder escapedBuilder = null;
+		for (int index = 0; index < text.length(); index++) {
+			char character = text.charAt(index);
+			String replacement = getReplacement(character);
+			if (replacement != null && escapedBuilder == null) {
+				escapedBuilder = new StringBuilder(text.length() + 16);
+				escapedBuilder.append(text, 0, index);
+			}
+			if (escapedBuilder != null) {
+				if (replacement == null) {
+					escapedBuilder.append(character);
+				} else {
+					escapedBuilder.append(replacement);
+				}
+			}
+		}
+		if (escapedBuilder == null) {
+			return text;
+		}
+		return escapedBuilder.toString();
+	}
+
+	private static String getReplacement(char character) {
+		switch (character) {
+		case '&':
+			return "&amp;";
+		case '<':
+			return "&lt;";
+		case '>':
+			return "&gt;";
+		case '"':
+			return "&quot;";
+		case '\'':
+			return "&apos;";
+		default:
+			return null;
+		}
+	}
+
+	//#end region
+
+}
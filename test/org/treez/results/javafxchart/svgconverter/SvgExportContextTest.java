@@ -0,0 +1,25 @@
+package org.treez.results.javafxchart.svgconverter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Checks the indentation of the export context
+ */
+public class SvgExportContextTest {
+
+	@Test
+	public void testDeepIndentation() {
+		final int depth = 100;
+		SvgExportContext context = new SvgExportContext(new StringBuilder(), depth);
+		String indentation = context.getIndentation();
+		assertEquals(4 * depth, indentation.length());
+		assertSame(indentation, context.getIndentation());
+
+		context.setDepth(depth - 1);
+		assertEquals(4 * (depth - 1), context.getIndentation().length());
+	}
+
+}
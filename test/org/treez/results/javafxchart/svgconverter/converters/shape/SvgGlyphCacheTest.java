@@ -0,0 +1,93 @@
+package org.treez.results.javafxchart.svgconverter.converters.shape;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPathData;
+
+import javafx.scene.Group;
+import javafx.scene.text.Text;
+
+/**
+ * Checks the outlines that are composed by the glyph cache. Needs a JavaFx toolkit that renders text.
+ */
+public class SvgGlyphCacheTest {
+
+	/**
+	 * The cache ignores kerning, so the outlines might differ slightly from the outlines without cache
+	 */
+	private static final double TOLERANCE = 1;
+
+	@Test
+	public void testTranslatedText() {
+		Text text = createTransformedText(0);
+		assertBoundsEqual(ShapeConverter.shapeToPathData(text), new SvgGlyphCache().createPathData(text));
+	}
+
+	@Test
+	public void testRotatedText() {
+		Text text = createTransformedText(90);
+		assertBoundsEqual(ShapeConverter.shapeToPathData(text), new SvgGlyphCache().createPathData(text));
+	}
+
+	@Test
+	public void testReusedGlyphs() {
+		SvgGlyphCache glyphCache = new SvgGlyphCache();
+		glyphCache.createPathData(new Text(5, 20, "abab"));
+		assertEquals(2, glyphCache.getGlyphCount());
+		assertTrue(glyphCache.getHitCount() >= 2);
+	}
+
+	/**
+	 * Creates a Text inside of a translated and rotated Group
+	 *
+	 * @param rotation
+	 * @return
+	 */
+	private static Text createTransformedText(double rotation) {
+		Text text = new Text(5, 20, "Glyph cache");
+		text.setLayoutX(50);
+		Group group = new Group(text);
+		group.setLayoutX(100);
+		group.setLayoutY(30);
+		group.setRotate(rotation);
+		return text;
+	}
+
+	private static void assertBoundsEqual(SvgPathData expectedPathData, SvgPathData pathData) {
+		assertTrue(pathData.getCommandCount() > 0);
+		assertArrayEquals(getCoordinateBounds(expectedPathData), getCoordinateBounds(pathData), TOLERANCE);
+	}
+
+	/**
+	 * Returns the minimum x, minimum y, maximum x and maximum y of the points of the given path data (including the
+	 * control points of curves)
+	 *
+	 * @param pathData
+	 * @return
+	 */
+	private static double[] getCoordinateBounds(SvgPathData pathData) {
+		double[] bounds = {
+				Double.POSITIVE_INFINITY,
+				Double.POSITIVE_INFINITY,
+				Double.NEGATIVE_INFINITY,
+				Double.NEGATIVE_INFINITY };
+		int coordinateIndex = 0;
+		for (int commandIndex = 0; commandIndex < pathData.getCommandCount(); commandIndex++) {
+			int coordinateCount = SvgPathData.getCoordinateCount(pathData.getCommand(commandIndex));
+			for (int index = 0; index + 1 < coordinateCount; index += 2) {
+				double x = pathData.getCoordinate(coordinateIndex + index);
+				double y = pathData.getCoordinate(coordinateIndex + index + 1);
+				bounds[0] = Math.min(bounds[0], x);
+				bounds[1] = Math.min(bounds[1], y);
+				bounds[2] = Math.max(bounds[2], x);
+				bounds[3] = Math.max(bounds[3], y);
+			}
+			coordinateIndex += coordinateCount;
+		}
+		return bounds;
+	}
+
+}
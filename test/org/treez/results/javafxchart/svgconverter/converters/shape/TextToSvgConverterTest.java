@@ -0,0 +1,60 @@
+package org.treez.results.javafxchart.svgconverter.converters.shape;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.JavaFxNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureOptions;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextMode;
+
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * Checks the svg text elements that are written for Text nodes in the text mode TEXT. Needs a JavaFx toolkit that
+ * renders text.
+ */
+public class TextToSvgConverterTest {
+
+	@Test
+	public void testEscapedContent() {
+		String svgCode = textToSvg(new Text(5, 20, "a<b & \"c\""));
+		assertTrue(svgCode.contains(">a&lt;b &amp; &quot;c&quot;</text>"));
+	}
+
+	@Test
+	public void testFont() {
+		Text text = new Text(5, 20, "font");
+		text.setFont(Font.font(14));
+		String svgCode = textToSvg(text);
+		assertTrue(svgCode.contains("font-family:'"));
+		assertTrue(svgCode.contains("font-size:14px;"));
+	}
+
+	@Test
+	public void testStrokeWidth() {
+		Text text = new Text(5, 20, "stroked");
+		assertFalse(textToSvg(text).contains("stroke-width"));
+
+		text.setStroke(Color.RED);
+		text.setStrokeWidth(1);
+		assertTrue(textToSvg(text).contains("stroke:#FF0000;stroke-width:1;"));
+	}
+
+	@Test
+	public void testLineBreaks() {
+		String svgCode = textToSvg(new Text(5, 20, "first\nsecond"));
+		assertTrue(svgCode.contains("<tspan x=\"0\">first</tspan>"));
+		assertTrue(svgCode.contains(">second</tspan>"));
+	}
+
+	private static String textToSvg(Text text) {
+		SvgCaptureOptions options = new SvgCaptureOptions();
+		options.setTextMode(SvgTextMode.TEXT);
+		return JavaFxNodeToSvgConverter.nodeToSvg(new Group(text), options);
+	}
+
+}
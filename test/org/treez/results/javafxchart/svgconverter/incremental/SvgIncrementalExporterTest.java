@@ -0,0 +1,62 @@
+package org.treez.results.javafxchart.svgconverter.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.JavaFxNodeToSvgConverter;
+import org.treez.results.javafxchart.svgconverter.SvgCaptureOptions;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Checks that an incremental export detects changes of the geometry that do not change the bounds of a shape
+ */
+public class SvgIncrementalExporterTest {
+
+	@Test
+	public void testRoundedCornersOfRectangle() {
+		Rectangle rectangle = new Rectangle(50, 20);
+		Group root = new Group(rectangle);
+		SvgIncrementalExporter exporter = new SvgIncrementalExporter(root, new SvgCaptureOptions());
+		String svgCode = exporter.export();
+
+		rectangle.setArcWidth(5);
+		rectangle.setArcHeight(5);
+		String changedSvgCode = exporter.export();
+
+		assertNotEquals(svgCode, changedSvgCode);
+		assertEquals(JavaFxNodeToSvgConverter.nodeToSvg(root), changedSvgCode);
+	}
+
+	@Test
+	public void testTypeOfArc() {
+		Arc arc = new Arc(20, 20, 10, 10, 0, 90);
+		Group root = new Group(arc);
+		SvgIncrementalExporter exporter = new SvgIncrementalExporter(root, new SvgCaptureOptions());
+		exporter.export();
+
+		arc.setType(ArcType.ROUND);
+		assertEquals(JavaFxNodeToSvgConverter.nodeToSvg(root), exporter.export());
+	}
+
+	@Test
+	public void testElementOfPath() {
+		LineTo lineTo = new LineTo(10, 0);
+		Path path = new Path(new MoveTo(0, 0), lineTo, new LineTo(10, 10));
+		Group root = new Group(path);
+		SvgIncrementalExporter exporter = new SvgIncrementalExporter(root, new SvgCaptureOptions());
+		exporter.export();
+
+		//moves an inner point without changing the bounds
+		lineTo.setX(5);
+		assertEquals(JavaFxNodeToSvgConverter.nodeToSvg(root), exporter.export());
+	}
+
+}
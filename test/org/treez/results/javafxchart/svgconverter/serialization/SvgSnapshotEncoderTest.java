@@ -0,0 +1,81 @@
+package org.treez.results.javafxchart.svgconverter.serialization;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgNodeSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPropertiesSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+import org.treez.results.javafxchart.svgconverter.writer.SvgGroupWriter;
+import org.treez.results.javafxchart.svgconverter.writer.SvgRegionWriter;
+
+/**
+ * Checks that a decoded snapshot writes the same svg code as the encoded snapshot
+ */
+public class SvgSnapshotEncoderTest {
+
+	@Test
+	public void testRoundTripOfRegions() throws IOException {
+		SvgNodeProperties groupProperties = new SvgNodeProperties();
+		groupProperties.setIsGroup(true);
+		groupProperties.setHasChildren(true);
+		groupProperties.setVisibility(SvgVisibility.VISIBLE);
+
+		SvgNodeProperties uniformRegion = createRegionProperties();
+		uniformRegion.setStroke("#FF0000");
+		uniformRegion.setStrokeWidth(1);
+		uniformRegion.setStrokeRadius(2);
+		uniformRegion.setStrokeOpacity(0.5);
+		uniformRegion.setFillRadius(2);
+
+		SvgNodeProperties mixedRegion = createRegionProperties();
+		mixedRegion.setStrokes("#FF0000", "#00FF00", "#0000FF", "#FF0000");
+		mixedRegion.setStrokeWidths(1, 2, 3, 4);
+		mixedRegion.setStrokeRadii(0, 1, 2, 3);
+		mixedRegion.setStrokeOpacities(1, 0.5, 1, 0.5);
+		mixedRegion.setFillRadii(4, 3, 2, 1);
+
+		SvgNodeSnapshot rootSnapshot = new SvgPropertiesSnapshot(new SvgGroupWriter(), groupProperties, null,
+				Arrays.asList(createRegionSnapshot(uniformRegion), createRegionSnapshot(mixedRegion)));
+		SvgSnapshot snapshot = new SvgSnapshot(rootSnapshot, new SvgExportOptions());
+
+		ByteArrayOutputStream encodedSnapshot = new ByteArrayOutputStream();
+		SvgSnapshotEncoder.encode(snapshot, encodedSnapshot);
+		SvgSnapshot decodedSnapshot = SvgSnapshotDecoder
+				.decode(new ByteArrayInputStream(encodedSnapshot.toByteArray()));
+
+		assertEquals(writeSnapshot(snapshot), writeSnapshot(decodedSnapshot));
+	}
+
+	private static SvgNodeProperties createRegionProperties() {
+		SvgNodeProperties properties = new SvgNodeProperties();
+		properties.setIsDefinedByRect(true);
+		properties.setVisibility(SvgVisibility.VISIBLE);
+		properties.setX(10);
+		properties.setY(20);
+		properties.setRectWidth(30);
+		properties.setRectHeight(40);
+		properties.setFill("#336699");
+		return properties;
+	}
+
+	private static SvgNodeSnapshot createRegionSnapshot(SvgNodeProperties properties) {
+		return new SvgPropertiesSnapshot(new SvgRegionWriter(), properties, null, Collections.emptyList());
+	}
+
+	private static String writeSnapshot(SvgSnapshot snapshot) throws IOException {
+		StringBuilder svgBuilder = new StringBuilder();
+		snapshot.write(svgBuilder);
+		return svgBuilder.toString();
+	}
+
+}
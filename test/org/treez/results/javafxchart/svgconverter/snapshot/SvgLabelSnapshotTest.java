@@ -0,0 +1,28 @@
+package org.treez.results.javafxchart.svgconverter.snapshot;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgTextAnchor;
+
+/**
+ * Checks the svg code of a label
+ */
+public class SvgLabelSnapshotTest {
+
+	@Test
+	public void testEscapedTextAndFontFamily() throws IOException {
+		SvgLabelSnapshot labelSnapshot = new SvgLabelSnapshot(null, null, "a<b & c", null, 10, 10, 1, 2, "Fam\"ily",
+				12, "#000000", SvgTextAnchor.LEFT);
+		StringBuilder svgBuilder = new StringBuilder();
+		new SvgSnapshot(labelSnapshot, new SvgExportOptions()).write(svgBuilder);
+
+		String svgCode = svgBuilder.toString();
+		assertTrue(svgCode.contains("font-family=\"Fam&quot;ily\""));
+		assertTrue(svgCode.contains(">a&lt;b &amp; c</text>"));
+	}
+
+}
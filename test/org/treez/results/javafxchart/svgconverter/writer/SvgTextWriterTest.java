@@ -0,0 +1,53 @@
+package org.treez.results.javafxchart.svgconverter.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.treez.results.javafxchart.svgconverter.SvgExportOptions;
+import org.treez.results.javafxchart.svgconverter.SvgNodeProperties;
+import org.treez.results.javafxchart.svgconverter.enumerations.SvgVisibility;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgPropertiesSnapshot;
+import org.treez.results.javafxchart.svgconverter.snapshot.SvgSnapshot;
+
+/**
+ * Checks the escaping of the svg text elements
+ */
+public class SvgTextWriterTest {
+
+	@Test
+	public void testEscapeText() {
+		assertEquals("a&lt;b&gt; &amp; &quot;c&quot; &apos;d&apos;", SvgTextWriter.escapeText("a<b> & \"c\" 'd'"));
+	}
+
+	@Test
+	public void testUnescapedText() {
+		String text = "plain text";
+		assertSame(text, SvgTextWriter.escapeText(text));
+	}
+
+	@Test
+	public void testEscapedFontFamily() throws IOException {
+		SvgNodeProperties properties = new SvgNodeProperties();
+		properties.reset();
+		properties.setVisibility(SvgVisibility.VISIBLE);
+		properties.setText("text");
+		properties.setFontFamily("O'Neil \\ Sans");
+		properties.setFontSize(12);
+		properties.setFill("#000000");
+		properties.setStroke("transparent");
+
+		SvgPropertiesSnapshot textSnapshot = new SvgPropertiesSnapshot(new SvgTextWriter(), properties, null,
+				Collections.emptyList());
+		StringBuilder svgBuilder = new StringBuilder();
+		new SvgSnapshot(textSnapshot, new SvgExportOptions()).write(svgBuilder);
+
+		//the css string is escaped first, then the attribute value
+		assertTrue(svgBuilder.toString().contains("font-family:'O\\&apos;Neil \\\\ Sans';"));
+	}
+
+}